@@ -1,25 +1,64 @@
 package org.article;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.article.output.BasicArticlePrinter;
+import org.article.batch.BatchIngestor;
+import org.article.batch.DirectoryWatcher;
+import org.article.batch.Manifest;
+import org.article.batch.ManifestEntry;
+import org.article.batch.SourceResult;
+import org.article.dedup.UrlDeduplicator;
+import org.article.io.HttpCache;
+import org.article.output.ArticleTemplate;
+import org.article.output.BufferedArticlePrinter;
+import org.article.parser.ArticleModule;
+import org.article.parser.FormatDetector;
+import org.article.parser.ParseCache;
 import org.article.parser.ParserException;
+import org.article.search.ArticleIndex;
+import org.article.search.Query;
+import org.article.search.SearchIndex;
+import org.article.search.SegmentedIndex;
 import org.article.util.*;
 import org.article.core.Article;
+import org.article.core.ArticleField;
 import org.article.core.Parser;
 import org.article.core.ArticlePrinter;
 import org.article.visitor.ConcreteParserVisitor;
 import org.article.visitor.ParserConfiguration;
 import org.article.visitor.ParserConfigurationFactory;
 import org.article.visitor.ParserVisitor;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Client for parsing and printing articles from different sources.
  * Uses Visitor pattern to determine appropriate parser configuration.
  */
 public class Client {
+    private static final String CACHE_DIR_PROPERTY = "article.cache.dir";
+    private static final String PARSE_CACHE_PROPERTY = "article.parse.cache";
+    private static final String TEMPLATE_PROPERTY = "article.template";
+    private static final String SAMPLE_INTERVAL_PROPERTY = "article.validation.sample";
+    private static final String RULES_PROPERTY = "article.validation.rules";
+    private static final String DEDUP_PROPERTY = "article.dedup";
+    private static final String DEDUP_EXPECTED_PROPERTY = "article.dedup.expected";
+    private static final String DEDUP_FPP_PROPERTY = "article.dedup.fpp";
+    private static final String SEARCH_PROPERTY = "article.search";
+    private static final String SEARCH_LIMIT_PROPERTY = "article.search.limit";
+    private static final int DEFAULT_SEARCH_LIMIT = 10;
+    private static final String INDEX_DIR_PROPERTY = "article.index.dir";
     private final ArticlePrinter printer;
     private final ParserVisitor visitor;
+    private final UrlDeduplicator deduplicator;
+    private final Query query;
+    private final int searchLimit;
+    private final SegmentedIndex store;
 
     /**
      * Constructs a client with the provided dependencies.
@@ -27,8 +66,50 @@ public class Client {
      * @param visitor The visitor for creating parsers
      */
     Client(ArticlePrinter printer, ParserVisitor visitor) {
+        this(printer, visitor, null);
+    }
+
+    /**
+     * Constructs a client that prints each article URL only once.
+     * @param printer The printer to use for output
+     * @param visitor The visitor for creating parsers
+     * @param deduplicator The deduplicator dropping repeated URLs, or null to print every article
+     */
+    Client(ArticlePrinter printer, ParserVisitor visitor, UrlDeduplicator deduplicator) {
+        this(printer, visitor, deduplicator, null, DEFAULT_SEARCH_LIMIT);
+    }
+
+    /**
+     * Constructs a client that indexes the parsed articles and prints only the best matches of a query.
+     * @param printer The printer to use for output
+     * @param visitor The visitor for creating parsers
+     * @param deduplicator The deduplicator dropping repeated URLs, or null to keep every article
+     * @param query The query to run, or null to print every article
+     * @param searchLimit The maximum number of matches printed
+     */
+    Client(ArticlePrinter printer, ParserVisitor visitor, UrlDeduplicator deduplicator,
+           Query query, int searchLimit) {
+        this(printer, visitor, deduplicator, query, searchLimit, null);
+    }
+
+    /**
+     * Constructs a client that also adds every kept article to a persistent index.
+     * A query is then run against the persistent index, including articles from earlier runs.
+     * @param printer The printer to use for output
+     * @param visitor The visitor for creating parsers
+     * @param deduplicator The deduplicator dropping repeated URLs, or null to keep every article
+     * @param query The query to run, or null to print every article
+     * @param searchLimit The maximum number of matches printed
+     * @param store The persistent index, or null to keep nothing after the run
+     */
+    Client(ArticlePrinter printer, ParserVisitor visitor, UrlDeduplicator deduplicator,
+           Query query, int searchLimit, SegmentedIndex store) {
         this.printer = printer;
         this.visitor = visitor;
+        this.deduplicator = deduplicator;
+        this.query = query;
+        this.searchLimit = searchLimit;
+        this.store = store;
     }
 
     /**
@@ -36,12 +117,43 @@ public class Client {
      */
     private static void printUsage() {
         System.out.println("Usage: java Client <source_type> <path_or_url> [format]");
+        System.out.println("       java Client batch <manifest_path> [max_concurrency]");
+        System.out.println("       java Client search <index_dir> <query>");
+        System.out.println("       java Client watch <dir> [<dir>...]");
         System.out.println("source_type: file or url");
         System.out.println("path_or_url: path to file or URL to fetch from");
-        System.out.println("format: newsapi or simple (default: determined from content)");
+        System.out.println("format: newsapi, simple or ndjson (default: determined from content)");
+        System.out.println("        ndjson parses a file of one NewsAPI article per line in parallel");
+        System.out.println("        newsapi-paged fetches every result page of a url source");
+        System.out.println("manifest_path: file listing one '<source_type> <path_or_url> <format>' per line");
+        System.out.println("max_concurrency: sources processed at once (default: "
+                + BatchIngestor.DEFAULT_MAX_CONCURRENCY + ")");
+        System.out.println("index_dir: directory of an index written with -D" + INDEX_DIR_PROPERTY);
+        System.out.println("dir: directory whose new and modified files are parsed until interrupted");
+        System.out.println("\nSet -D" + CACHE_DIR_PROPERTY + "=<dir> to cache URL responses on disk.");
+        System.out.println("Set -D" + PARSE_CACHE_PROPERTY + "=true to reuse the articles of unchanged files"
+                + " and URL responses.");
+        System.out.println("Set -D" + TEMPLATE_PROPERTY + "=<template> to choose the printed fields,");
+        System.out.println("e.g. \"{title} ({source.name}, {author})%n{url}%n\"");
+        System.out.println("Set -D" + SAMPLE_INTERVAL_PROPERTY + "=<n> to log every n-th skipped article in detail"
+                + " (default: " + ValidationDiagnostics.DEFAULT_SAMPLE_INTERVAL + ", 0 for summaries only).");
+        System.out.println("Set -D" + RULES_PROPERTY + "=<file> to validate with rules such as 'required title',");
+        System.out.println("'length title 1 300', 'url url' or 'date publishedAt', one per line.");
+        System.out.println("Set -D" + DEDUP_PROPERTY + "=true to print each article URL only once, and -D"
+                + DEDUP_EXPECTED_PROPERTY + "=<n>");
+        System.out.println("and -D" + DEDUP_FPP_PROPERTY + "=<rate> to size URL deduplication");
+        System.out.println("(default: " + UrlDeduplicator.DEFAULT_EXPECTED_URLS + " URLs, false-positive rate "
+                + UrlDeduplicator.DEFAULT_FALSE_POSITIVE_RATE + ").");
+        System.out.println("Set -D" + SEARCH_PROPERTY + "=<query> to print only the best matches, e.g.");
+        System.out.println("'climate \"stock market\" OR inflation' (-D" + SEARCH_LIMIT_PROPERTY + "=<n>, default: "
+                + DEFAULT_SEARCH_LIMIT + ").");
+        System.out.println("Set -D" + INDEX_DIR_PROPERTY + "=<dir> to keep parsed articles in a searchable index.");
         System.out.println("\nExample:");
         System.out.println("java Client file ./data/newsapi.json newsapi");
         System.out.println("java Client url https://example.com/data/newsapi.json");
+        System.out.println("java Client batch ./data/sources.txt 8");
+        System.out.println("java Client search ./index \"stock market\" OR inflation");
+        System.out.println("java Client watch ./incoming");
     }
 
     /**
@@ -54,13 +166,34 @@ public class Client {
             return;
         }
 
-        try (FileArticleLogger logger = new FileArticleLogger("parser_errors.log")) {
-            ObjectMapper objectMapper = new ObjectMapper();
-            ArticleValidator validator = new RequiredFieldsValidator();
-            ArticlePrinter printer = new BasicArticlePrinter();
-            ParserVisitor visitor = new ConcreteParserVisitor(objectMapper, validator, logger);
+        // search opens its index read-only; only commands that ingest articles write one
+        String indexDir = args[0].equals("search") ? null : System.getProperty(INDEX_DIR_PROPERTY);
+        try (AsyncArticleLogger logger = AsyncArticleLogger.open("parser_errors.log");
+             BufferedArticlePrinter printer = createPrinter();
+             SegmentedIndex store = indexDir != null ? new SegmentedIndex(Paths.get(indexDir)) : null) {
+            String rulesFile = System.getProperty(RULES_PROPERTY);
+            ArticleValidator validator = rulesFile != null
+                    ? RuleBasedValidator.read(Paths.get(rulesFile))
+                    : new RequiredFieldsValidator();
+            String search = System.getProperty(SEARCH_PROPERTY);
+            Query query = search != null ? Query.parse(search) : null;
+            ObjectMapper objectMapper = new ObjectMapper().registerModule(new ArticleModule(
+                    projection(printer.getTemplate(), validator, query != null || store != null)));
+            String cacheDir = System.getProperty(CACHE_DIR_PROPERTY);
+            HttpCache httpCache = cacheDir != null ? new HttpCache(Paths.get(cacheDir)) : null;
+            int sampleInterval = Integer.getInteger(SAMPLE_INTERVAL_PROPERTY,
+                    ValidationDiagnostics.DEFAULT_SAMPLE_INTERVAL);
+            ParseCache parseCache = Boolean.getBoolean(PARSE_CACHE_PROPERTY) ? new ParseCache() : null;
+            ParserVisitor visitor = new ConcreteParserVisitor(objectMapper, validator, logger, httpCache,
+                    sampleInterval, parseCache);
 
-            Client client = new Client(printer, visitor);
+            UrlDeduplicator deduplicator = Boolean.getBoolean(DEDUP_PROPERTY) ? new UrlDeduplicator(
+                    Long.getLong(DEDUP_EXPECTED_PROPERTY, UrlDeduplicator.DEFAULT_EXPECTED_URLS),
+                    Double.parseDouble(System.getProperty(DEDUP_FPP_PROPERTY,
+                            String.valueOf(UrlDeduplicator.DEFAULT_FALSE_POSITIVE_RATE)))) : null;
+
+            Client client = new Client(printer, visitor, deduplicator, query,
+                    Integer.getInteger(SEARCH_LIMIT_PROPERTY, DEFAULT_SEARCH_LIMIT), store);
             client.run(args);
         } catch (Exception e) {
             System.err.println("Error: " + e.getMessage());
@@ -68,12 +201,47 @@ public class Client {
         }
     }
 
+    /**
+     * Gets the article fields a run reads: those the template shows and the validator checks,
+     * the URL for deduplication and the source name, which the validation diagnostics
+     * report rejections by. Articles that are searched or indexed keep every field.
+     * @param template the template articles are printed with
+     * @param validator the validator articles are checked with
+     * @param searchable whether articles are matched against a query or kept in an index
+     * @return the fields parsers need to decode
+     */
+    static Set<ArticleField> projection(ArticleTemplate template, ArticleValidator validator, boolean searchable) {
+        if (searchable) {
+            return EnumSet.allOf(ArticleField.class);
+        }
+        Set<ArticleField> fields = EnumSet.of(ArticleField.URL, ArticleField.SOURCE_NAME);
+        fields.addAll(template.getFields());
+        fields.addAll(validator.getCheckedFields());
+        return fields;
+    }
+
+    /**
+     * Creates the output printer, using a custom template if one is configured.
+     * @return the printer writing to standard output
+     * @throws IllegalArgumentException if the configured template is invalid
+     */
+    private static BufferedArticlePrinter createPrinter() {
+        String template = System.getProperty(TEMPLATE_PROPERTY);
+        if (template == null) {
+            return new BufferedArticlePrinter();
+        }
+        return new BufferedArticlePrinter(ArticleTemplate.compile(template).withTrailingBlankLine());
+    }
+
     /**
      * Runs the client with the provided arguments.
      * @param args the command line arguments in the format: <source_type> <path_or_url> [format]
      *            where source_type is either "file" or "url",
      *            path_or_url is the path to file or URL to fetch from,
-     *            and format is optionally "newsapi" or "simple"
+     *            and format is optionally "newsapi", "simple" or "ndjson";
+     *            or: batch <manifest_path> [max_concurrency]
+     *            or: search <index_dir> <query>
+     *            or: watch <dir> [<dir>...]
      * @throws ClientException if an error occurs during execution
      * @throws IllegalArgumentException if insufficient or invalid arguments are provided
      */
@@ -83,40 +251,224 @@ public class Client {
                     "Insufficient arguments. Required: <source_type> <path_or_url> [format]");
         }
 
+        if (args[0].equals("batch")) {
+            runBatch(args);
+            return;
+        }
+        if (args[0].equals("search")) {
+            runSearch(args);
+            return;
+        }
+        if (args[0].equals("watch")) {
+            runWatch(args);
+            return;
+        }
+
         try {
             String sourceType = args[0];
             String pathOrUrl = args[1];
-            String format = args.length > 2 ? args[2] : determineFormat(pathOrUrl);
 
             if (!sourceType.equals("file") && !sourceType.equals("url")) {
                 throw new IllegalArgumentException(
                         "Invalid source type. Must be either 'file' or 'url'");
             }
 
+            String format = args.length > 2 ? args[2] : determineFormat(sourceType, pathOrUrl);
+
             ParserConfiguration config = ParserConfigurationFactory.createConfiguration(
                     sourceType, format, pathOrUrl);
 
             Parser parser = config.accept(visitor);
-            List<Article> articles = parser.parse(parser.getDataSource());
-            articles.forEach(printer::print);
+            SearchIndex index = searchIndex();
+            try (Stream<Article> articles = parser.stream(parser.getDataSource())) {
+                Stream<Article> kept = deduplicator != null ? articles.filter(deduplicator::firstSeen) : articles;
+                kept.forEach(sink(index));
+                flushStore();
+                printMatches(index);
+            } finally {
+                printer.flush();
+            }
         } catch (ParserException e) {
             throw new ClientException("Failed to parse articles", e);
+        } catch (UncheckedIOException e) {
+            throw new ClientException("Failed to parse articles", e.getCause());
+        }
+    }
+
+    /**
+     * Runs the client in batch mode, ingesting every source listed in a manifest.
+     * Sources are fetched and parsed concurrently; articles are printed per source
+     * in manifest order and failed sources are reported without stopping the rest.
+     * With deduplication, articles whose URL an earlier listed source already delivered are dropped.
+     * @param args the command line arguments in the format: batch <manifest_path> [max_concurrency]
+     * @throws ClientException if the manifest cannot be read or any source failed
+     * @throws IllegalArgumentException if the manifest or concurrency cap is invalid
+     */
+    private void runBatch(String[] args) throws ClientException {
+        int maxConcurrency = args.length > 2
+                ? Integer.parseInt(args[2])
+                : BatchIngestor.DEFAULT_MAX_CONCURRENCY;
+
+        try {
+            List<ManifestEntry> entries = Manifest.read(Paths.get(args[1]));
+            List<SourceResult> results = new BatchIngestor(visitor, maxConcurrency).ingest(entries);
+
+            SearchIndex index = searchIndex();
+            long failures = 0;
+            for (SourceResult result : results) {
+                if (result.isSuccess()) {
+                    Stream<Article> articles = result.getArticles().stream();
+                    (deduplicator != null ? articles.filter(deduplicator::firstSeen) : articles).forEach(sink(index));
+                } else {
+                    failures++;
+                    System.err.println("Failed to ingest " + result.getEntry() + ": "
+                            + result.getError().getMessage());
+                }
+            }
+            flushStore();
+            printMatches(index);
+            printer.flush();
+            if (failures > 0) {
+                throw new ClientException(String.format("%d of %d sources failed", failures, results.size()));
+            }
+        } catch (IOException e) {
+            throw new ClientException("Failed to read manifest", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClientException("Batch ingestion interrupted", e);
         }
     }
 
     /**
-     * Determines the format based on the path or URL.
+     * Runs a query against a persistent index without parsing any source.
+     * @param args the command line arguments in the format: search <index_dir> <query>
+     * @throws ClientException if the index cannot be opened
+     * @throws IllegalArgumentException if the query is missing or invalid
+     */
+    private void runSearch(String[] args) throws ClientException {
+        if (args.length < 3) {
+            throw new IllegalArgumentException("Insufficient arguments. Required: search <index_dir> <query>");
+        }
+        Query search = Query.parse(String.join(" ", List.of(args).subList(2, args.length)));
+        try (SegmentedIndex index = SegmentedIndex.openReadOnly(Paths.get(args[1]))) {
+            for (int id : index.search(search, searchLimit)) {
+                printer.print(index.get(id));
+            }
+            printer.flush();
+        } catch (IOException e) {
+            throw new ClientException("Failed to read search index", e);
+        }
+    }
+
+    /**
+     * Runs the client in watch mode, parsing every file created or modified in the given
+     * directories until interrupted. Articles are printed, and added to the persistent index
+     * if one is configured, as soon as their file has been ingested. With deduplication, articles
+     * whose URL was already delivered are dropped, so a modified file only adds its new articles.
+     * A query does not apply in watch mode.
+     * @param args the command line arguments in the format: watch <dir> [<dir>...]
+     * @throws ClientException if a directory cannot be watched or the watch is interrupted
+     */
+    private void runWatch(String[] args) throws ClientException {
+        try (DirectoryWatcher watcher = new DirectoryWatcher(visitor, deduplicator, this::report)) {
+            for (String directory : List.of(args).subList(1, args.length)) {
+                watcher.register(Paths.get(directory));
+            }
+            watcher.run();
+        } catch (IOException e) {
+            throw new ClientException("Failed to watch directories", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClientException("Watch interrupted", e);
+        }
+    }
+
+    /**
+     * Prints and stores the articles of one file ingested in watch mode.
+     * Called from the watcher's worker threads, one file at a time.
+     * @param result The result of the ingested file
+     */
+    private synchronized void report(SourceResult result) {
+        if (!result.isSuccess()) {
+            System.err.println("Failed to ingest " + result.getEntry() + ": " + result.getError().getMessage());
+            return;
+        }
+        result.getArticles().forEach(sink(null));
+        try {
+            flushStore();
+        } catch (ClientException e) {
+            System.err.println("Error: " + e.getMessage());
+        }
+        printer.flush();
+    }
+
+    /**
+     * Chooses the index a query runs against: the persistent one if configured,
+     * otherwise a fresh in-memory one.
+     * @return the index to search, or null when there is no query
+     */
+    private SearchIndex searchIndex() {
+        if (query == null) {
+            return null;
+        }
+        return store != null ? store : new ArticleIndex();
+    }
+
+    /**
+     * Chooses where parsed articles go: straight to the printer, or into the search index,
+     * and into the persistent index if one is configured.
+     * @param index The index collecting articles for a query, or null when printing every article
+     * @return the consumer of parsed articles
+     */
+    private Consumer<Article> sink(SearchIndex index) {
+        Consumer<Article> sink = index != null ? index::add : printer::print;
+        return store != null && index != store ? sink.andThen(store::add) : sink;
+    }
+
+    /**
+     * Writes the articles of this run to the persistent index, if one is configured.
+     * @throws ClientException if the index cannot be written
+     */
+    private void flushStore() throws ClientException {
+        if (store == null) {
+            return;
+        }
+        try {
+            store.flush();
+        } catch (IOException e) {
+            throw new ClientException("Failed to write search index", e);
+        }
+    }
+
+    /**
+     * Prints the best matches of the query, if there is one.
+     * @param index The index holding every parsed article, or null when there is no query
+     */
+    private void printMatches(SearchIndex index) {
+        if (index == null) {
+            return;
+        }
+        for (int id : index.search(query, searchLimit)) {
+            printer.print(index.get(id));
+        }
+    }
+
+    /**
+     * Determines the format by peeking at the first tokens of the source.
+     * URL sources only support the NewsAPI format, so they are not fetched twice.
+     * @param sourceType The type of source ("file" or "url")
      * @param pathOrUrl The path or URL to analyze
-     * @return The determined format (newsapi or simple)
+     * @return The determined format (newsapi, ndjson or simple)
      */
-    private String determineFormat(String pathOrUrl) {
-        String lowerPath = pathOrUrl.toLowerCase();
-        if (lowerPath.contains("newsapi")) {
+    private String determineFormat(String sourceType, String pathOrUrl) {
+        if (sourceType.equals("url")) {
             return "newsapi";
-        } else if (lowerPath.contains("simple")) {
-            return "simple";
         }
-        System.out.println("Warning: Could not determine format from path/url. Defaulting to NewsAPI format.");
+        String format = FormatDetector.detectParserFormat(Paths.get(pathOrUrl));
+        if (format != null) {
+            return format;
+        }
+        System.out.println("Warning: Could not determine format from content. Defaulting to NewsAPI format.");
         return "newsapi";
     }
 }
@@ -0,0 +1,116 @@
+package org.article.batch;
+
+import org.article.core.Article;
+import org.article.core.Parser;
+import org.article.visitor.ParserVisitor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Fetches and parses many sources concurrently.
+ * Each source runs on its own virtual thread, so slow downloads and large files
+ * only occupy a carrier thread while they are actually doing work; the carrier
+ * pool is work-stealing, so small sources finish around large ones instead of
+ * queueing behind them. A semaphore caps how many sources are in flight at once.
+ * Results keep every parsed article; callers that drop repeated URLs do so over the
+ * results in entry order, so the earliest listed source keeps a shared story.
+ */
+public class BatchIngestor {
+    /**
+     * The number of sources processed at once when no cap is given.
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 16;
+
+    private final ParserVisitor visitor;
+    private final int maxConcurrency;
+
+    /**
+     * Constructs a batch ingestor with the default concurrency cap.
+     * @param visitor The visitor for creating parsers
+     */
+    public BatchIngestor(ParserVisitor visitor) {
+        this(visitor, DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * Constructs a batch ingestor.
+     * @param visitor The visitor for creating parsers
+     * @param maxConcurrency The maximum number of sources processed at once
+     * @throws IllegalArgumentException if maxConcurrency is not positive
+     */
+    public BatchIngestor(ParserVisitor visitor, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Max concurrency must be at least 1");
+        }
+        this.visitor = visitor;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Ingests all entries concurrently.
+     * A failing entry is reported in its result and never affects the others.
+     * @param entries The entries to ingest
+     * @return One result per entry, in the same order as the entries
+     * @throws InterruptedException if interrupted while waiting for the sources
+     */
+    public List<SourceResult> ingest(List<ManifestEntry> entries) throws InterruptedException {
+        Semaphore permits = new Semaphore(maxConcurrency);
+        List<Future<SourceResult>> futures = new ArrayList<>(entries.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (ManifestEntry entry : entries) {
+                futures.add(executor.submit(() -> ingestWithPermit(entry, permits)));
+            }
+            List<SourceResult> results = new ArrayList<>(entries.size());
+            for (int i = 0; i < futures.size(); i++) {
+                results.add(awaitResult(entries.get(i), futures.get(i)));
+            }
+            return results;
+        }
+    }
+
+    private SourceResult ingestWithPermit(ManifestEntry entry, Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return SourceResult.failure(entry, e);
+        }
+        try {
+            return ingestOne(entry);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Ingests a single entry on the calling thread.
+     * @param entry The entry to ingest
+     * @return The result of the entry; a failure is reported in it rather than thrown
+     */
+    SourceResult ingestOne(ManifestEntry entry) {
+        try {
+            return SourceResult.success(entry, parse(entry));
+        } catch (Exception e) {
+            return SourceResult.failure(entry, e);
+        }
+    }
+
+    private List<Article> parse(ManifestEntry entry) throws Exception {
+        Parser parser = entry.toConfiguration().accept(visitor);
+        return parser.parse(parser.getDataSource());
+    }
+
+    private SourceResult awaitResult(ManifestEntry entry, Future<SourceResult> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            return SourceResult.failure(entry, cause instanceof Exception ex ? ex : e);
+        }
+    }
+}
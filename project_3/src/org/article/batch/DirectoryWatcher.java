@@ -0,0 +1,274 @@
+package org.article.batch;
+
+import org.article.dedup.UrlDeduplicator;
+import org.article.parser.FormatDetector;
+import org.article.visitor.ParserVisitor;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Watches directories and ingests every file that is created or modified in them.
+ * <p>
+ * A file is only parsed once it has been quiet for the quiet period: neither a new
+ * event nor a change in size or modification time since its last event. Writers that
+ * take longer than that between writes should write to a hidden or {@code .tmp} /
+ * {@code .part} file and rename it when done; such names are ignored. Settled files are
+ * handed to a fixed pool of workers, at most one job per file at a time, and each
+ * result is passed to the listener from the worker thread, so the listener must be
+ * thread-safe. Files already present when a directory is registered are not ingested.
+ * </p>
+ * <p>
+ * The format of each file is detected from its content, so NewsAPI responses, files
+ * of one NewsAPI article per line and simple article files can be mixed. With a deduplicator, re-ingesting a modified
+ * file only delivers the articles whose URL was not seen before. Articles without a
+ * URL cannot be recognized, so they are delivered again every time their file is
+ * modified; append-only feeds should give every article a URL.
+ * </p>
+ */
+public class DirectoryWatcher implements AutoCloseable {
+    /**
+     * The time a file must stay unchanged before it is ingested, when none is given.
+     */
+    public static final Duration DEFAULT_QUIET_PERIOD = Duration.ofMillis(100);
+
+    /**
+     * The number of files parsed at once when no worker count is given.
+     */
+    public static final int DEFAULT_WORKERS = Runtime.getRuntime().availableProcessors();
+
+    private final BatchIngestor ingestor;
+    private final UrlDeduplicator deduplicator;
+    private final Consumer<SourceResult> listener;
+    private final long quietNanos;
+    private final WatchService watchService;
+    private final ExecutorService workers;
+    private final Map<Path, PendingFile> pending = new HashMap<>();
+    private final Set<Path> inFlight = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructs a watcher with the default quiet period and worker count.
+     * @param visitor The visitor for creating parsers
+     * @param deduplicator The deduplicator dropping already seen URLs, or null to deliver every article
+     * @param listener The consumer of each ingested file's result
+     * @throws IOException if the watch service cannot be created
+     */
+    public DirectoryWatcher(ParserVisitor visitor, UrlDeduplicator deduplicator,
+                            Consumer<SourceResult> listener) throws IOException {
+        this(visitor, deduplicator, listener, DEFAULT_QUIET_PERIOD, DEFAULT_WORKERS);
+    }
+
+    /**
+     * Constructs a watcher.
+     * @param visitor The visitor for creating parsers
+     * @param deduplicator The deduplicator dropping already seen URLs, or null to deliver every article
+     * @param listener The consumer of each ingested file's result
+     * @param quietPeriod The time a file must stay unchanged before it is ingested
+     * @param workers The number of files parsed at once
+     * @throws IOException if the watch service cannot be created
+     * @throws IllegalArgumentException if the quiet period is negative or workers is not positive
+     */
+    public DirectoryWatcher(ParserVisitor visitor, UrlDeduplicator deduplicator, Consumer<SourceResult> listener,
+                            Duration quietPeriod, int workers) throws IOException {
+        if (quietPeriod.isNegative()) {
+            throw new IllegalArgumentException("Quiet period must not be negative");
+        }
+        if (workers < 1) {
+            throw new IllegalArgumentException("Workers must be at least 1");
+        }
+        this.ingestor = new BatchIngestor(visitor, workers);
+        this.deduplicator = deduplicator;
+        this.listener = listener;
+        this.quietNanos = quietPeriod.toNanos();
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.workers = Executors.newFixedThreadPool(workers);
+    }
+
+    /**
+     * Starts watching a directory for created and modified files.
+     * Subdirectories are not watched.
+     * @param directory The directory to watch
+     * @throws IOException if the directory cannot be watched
+     */
+    public void register(Path directory) throws IOException {
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+    }
+
+    /**
+     * Processes file events on the calling thread until the watcher is closed.
+     * @throws InterruptedException if interrupted while waiting for events
+     */
+    public void run() throws InterruptedException {
+        try {
+            while (true) {
+                WatchKey key = pending.isEmpty()
+                        ? watchService.take()
+                        : watchService.poll(nextDeadline() - System.nanoTime(), TimeUnit.NANOSECONDS);
+                while (key != null) {
+                    collect(key);
+                    key = watchService.poll();
+                }
+                dispatchSettled();
+            }
+        } catch (ClosedWatchServiceException e) {
+            // Closed by close(); stop watching.
+        }
+    }
+
+    /**
+     * Stops watching and waits for the files being parsed to be delivered.
+     * Files still waiting out their quiet period are dropped.
+     * @throws IOException if the watch service cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+        workers.close();
+    }
+
+    private void collect(WatchKey key) {
+        Path directory = (Path) key.watchable();
+        long now = System.nanoTime();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                rescan(directory, now);
+            } else {
+                touch(directory.resolve((Path) event.context()), now);
+            }
+        }
+        key.reset();
+    }
+
+    /**
+     * Treats every file in a directory as changed after the event queue overflowed.
+     * Unchanged files are parsed again, but a deduplicator drops their articles.
+     */
+    private void rescan(Path directory, long now) {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> touch(file, now));
+        } catch (IOException e) {
+            // The directory is gone; its key is invalid and no more events arrive.
+        }
+    }
+
+    private void touch(Path file, long now) {
+        if (isIgnored(file)) {
+            return;
+        }
+        FileState state = FileState.of(file);
+        if (state != null) {
+            pending.put(file, new PendingFile(now, state));
+        }
+    }
+
+    private void dispatchSettled() {
+        long now = System.nanoTime();
+        Iterator<Map.Entry<Path, PendingFile>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Path, PendingFile> entry = iterator.next();
+            Path file = entry.getKey();
+            if (now - entry.getValue().lastChange() < quietNanos) {
+                continue;
+            }
+            FileState state = FileState.of(file);
+            if (state == null || state.size() == 0) {
+                iterator.remove();
+            } else if (!state.equals(entry.getValue().state()) || inFlight.contains(file)) {
+                entry.setValue(new PendingFile(now, state));
+            } else {
+                iterator.remove();
+                inFlight.add(file);
+                try {
+                    workers.execute(() -> ingest(file));
+                } catch (RejectedExecutionException e) {
+                    // Closed while dispatching; the next poll ends run().
+                    inFlight.remove(file);
+                    return;
+                }
+            }
+        }
+    }
+
+    private long nextDeadline() {
+        long oldest = Long.MAX_VALUE;
+        for (PendingFile file : pending.values()) {
+            oldest = Math.min(oldest, file.lastChange());
+        }
+        return oldest + quietNanos;
+    }
+
+    private void ingest(Path file) {
+        try {
+            SourceResult result = ingestor.ingestOne(new ManifestEntry("file", file.toString(), determineFormat(file)));
+            if (deduplicator != null && result.isSuccess()) {
+                result = SourceResult.success(result.getEntry(),
+                        result.getArticles().stream().filter(deduplicator::firstSeen).toList());
+            }
+            listener.accept(result);
+        } finally {
+            inFlight.remove(file);
+        }
+    }
+
+    /**
+     * Determines the format of a file by peeking at its first tokens.
+     * Unrecognized or unreadable files are handed to the NewsAPI parser, which reports the problem.
+     */
+    private static String determineFormat(Path file) {
+        String format = FormatDetector.detectParserFormat(file);
+        return format != null ? format : "newsapi";
+    }
+
+    private static boolean isIgnored(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(".") || name.endsWith("~") || name.endsWith(".tmp") || name.endsWith(".part");
+    }
+
+    /**
+     * A changed file waiting out its quiet period.
+     * @param lastChange The System.nanoTime() of the last event or observed change
+     * @param state The size and modification time observed then
+     */
+    private record PendingFile(long lastChange, FileState state) {
+    }
+
+    /**
+     * The size and modification time of a regular file.
+     */
+    private record FileState(long size, long modifiedMillis) {
+        /**
+         * Reads the current state of a file.
+         * @return the state, or null if the file is missing or not a regular file
+         */
+        static FileState of(Path file) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                if (!attributes.isRegularFile()) {
+                    return null;
+                }
+                return new FileState(attributes.size(), attributes.lastModifiedTime().toMillis());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+}
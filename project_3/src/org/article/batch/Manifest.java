@@ -0,0 +1,49 @@
+package org.article.batch;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads batch manifests.
+ * Each non-blank line has the form {@code <source_type> <path_or_url> <format>};
+ * lines starting with '#' are comments.
+ */
+public class Manifest {
+    /**
+     * Reads all entries from a manifest file.
+     * @param manifestPath The path to the manifest file
+     * @return The entries in manifest order
+     * @throws IOException if the manifest cannot be read
+     * @throws IllegalArgumentException if a line is malformed
+     */
+    public static List<ManifestEntry> read(Path manifestPath) throws IOException {
+        return parse(Files.readAllLines(manifestPath, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses manifest lines into entries.
+     * @param lines The manifest lines
+     * @return The entries in manifest order
+     * @throws IllegalArgumentException if a line is malformed
+     */
+    public static List<ManifestEntry> parse(List<String> lines) {
+        List<ManifestEntry> entries = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] parts = line.split("\\s+");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException(String.format(
+                        "Invalid manifest line %d. Required: <source_type> <path_or_url> <format>", i + 1));
+            }
+            entries.add(new ManifestEntry(parts[0], parts[1], parts[2]));
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,67 @@
+package org.article.batch;
+
+import org.article.visitor.ParserConfiguration;
+import org.article.visitor.ParserConfigurationFactory;
+
+/**
+ * A single source listed in a batch manifest.
+ */
+public class ManifestEntry {
+    private final String sourceType;
+    private final String pathOrUrl;
+    private final String format;
+
+    /**
+     * Constructs a manifest entry.
+     * @param sourceType The type of source ("file" or "url")
+     * @param pathOrUrl The path or URL to the source
+     * @param format The format type ("newsapi", "simple" or "ndjson")
+     */
+    public ManifestEntry(String sourceType, String pathOrUrl, String format) {
+        this.sourceType = sourceType;
+        this.pathOrUrl = pathOrUrl;
+        this.format = format;
+    }
+
+    /**
+     * Gets the source type of this entry.
+     * @return The source type
+     */
+    public String getSourceType() {
+        return sourceType;
+    }
+
+    /**
+     * Gets the path or URL of this entry.
+     * @return The path or URL
+     */
+    public String getPathOrUrl() {
+        return pathOrUrl;
+    }
+
+    /**
+     * Gets the format of this entry.
+     * @return The format
+     */
+    public String getFormat() {
+        return format;
+    }
+
+    /**
+     * Creates the parser configuration for this entry.
+     * @return The parser configuration matching this entry
+     * @throws IllegalArgumentException if the entry describes an unsupported combination
+     */
+    public ParserConfiguration toConfiguration() {
+        return ParserConfigurationFactory.createConfiguration(sourceType, format, pathOrUrl);
+    }
+
+    /**
+     * Returns the entry in manifest line form.
+     * @return The entry as "source_type path_or_url format"
+     */
+    @Override
+    public String toString() {
+        return String.format("%s %s %s", sourceType, pathOrUrl, format);
+    }
+}
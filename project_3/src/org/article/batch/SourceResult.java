@@ -0,0 +1,72 @@
+package org.article.batch;
+
+import org.article.core.Article;
+import java.util.List;
+
+/**
+ * The outcome of ingesting a single manifest entry.
+ * Holds either the parsed articles or the failure that stopped the source.
+ */
+public class SourceResult {
+    private final ManifestEntry entry;
+    private final List<Article> articles;
+    private final Exception error;
+
+    private SourceResult(ManifestEntry entry, List<Article> articles, Exception error) {
+        this.entry = entry;
+        this.articles = articles;
+        this.error = error;
+    }
+
+    /**
+     * Creates a successful result.
+     * @param entry The ingested entry
+     * @param articles The articles parsed from the entry
+     * @return The successful result
+     */
+    public static SourceResult success(ManifestEntry entry, List<Article> articles) {
+        return new SourceResult(entry, articles, null);
+    }
+
+    /**
+     * Creates a failed result.
+     * @param entry The entry that failed
+     * @param error The failure
+     * @return The failed result
+     */
+    public static SourceResult failure(ManifestEntry entry, Exception error) {
+        return new SourceResult(entry, List.of(), error);
+    }
+
+    /**
+     * Gets the entry this result belongs to.
+     * @return The manifest entry
+     */
+    public ManifestEntry getEntry() {
+        return entry;
+    }
+
+    /**
+     * Gets the parsed articles, empty if the source failed.
+     * @return The parsed articles
+     */
+    public List<Article> getArticles() {
+        return articles;
+    }
+
+    /**
+     * Gets the failure, if any.
+     * @return The failure, or null if the source succeeded
+     */
+    public Exception getError() {
+        return error;
+    }
+
+    /**
+     * Returns whether the source was ingested successfully.
+     * @return true if the source succeeded
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
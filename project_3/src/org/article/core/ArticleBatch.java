@@ -0,0 +1,284 @@
+package org.article.core;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Columnar, off-heap store for a large number of articles.
+ * Each {@link ArticleField} is a column of UTF-8 bytes kept in direct byte buffer
+ * chunks, addressed through primitive offset and length arrays, so a resident
+ * corpus costs a few bytes of heap per field instead of one object per value.
+ * <p>
+ * Articles are materialized lazily: {@link #get(int)} returns a view that decodes
+ * a field the first time it is read. Consumers that only need bytes or blank
+ * checks can use {@link #bytes(int, ArticleField)} and {@link #hasText(int, ArticleField)}
+ * without decoding at all. Appending is not thread-safe; reading a filled batch is.
+ * Off-heap memory is released when the batch becomes unreachable.
+ * </p>
+ */
+public class ArticleBatch implements Iterable<Article> {
+    /**
+     * The default size of each off-heap chunk in bytes.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+    private static final ArticleField[] FIELDS = ArticleField.values();
+    private static final int INITIAL_ROWS = 1024;
+    private static final int MAX_BYTES_PER_CHAR = 3;
+
+    private final Column[] columns = new Column[FIELDS.length];
+    private final BitSet withSource = new BitSet();
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private int size;
+
+    /**
+     * Constructs an empty batch with the default chunk size.
+     */
+    public ArticleBatch() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructs an empty batch.
+     *
+     * @param chunkSize the size of each off-heap chunk in bytes; larger values get a chunk of their own
+     * @throws IllegalArgumentException if chunkSize is not positive
+     */
+    public ArticleBatch(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = new Column(chunkSize);
+        }
+    }
+
+    /**
+     * Appends an article, encoding each of its fields into its column.
+     *
+     * @param article the article to append
+     * @return the row index of the appended article
+     */
+    public int add(Article article) {
+        int row = size;
+        for (ArticleField field : FIELDS) {
+            columns[field.ordinal()].append(row, field.get(article), encoder);
+        }
+        withSource.set(row, article.getSource() != null);
+        size++;
+        return row;
+    }
+
+    /**
+     * Gets the number of articles in the batch.
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a lazily decoded view of an article.
+     *
+     * @param row the row index
+     * @return an article whose fields are decoded on first access
+     * @throws IndexOutOfBoundsException if the row does not exist
+     */
+    public Article get(int row) {
+        checkRow(row);
+        return new BatchArticle(this, row);
+    }
+
+    /**
+     * Decodes a single field.
+     *
+     * @param row the row index
+     * @param field the field to decode
+     * @return the field value, or null if the article had none
+     * @throws IndexOutOfBoundsException if the row does not exist
+     */
+    public String getString(int row, ArticleField field) {
+        checkRow(row);
+        return columns[field.ordinal()].getString(row);
+    }
+
+    /**
+     * Returns the UTF-8 bytes of a field without decoding them.
+     *
+     * @param row the row index
+     * @param field the field to read
+     * @return a read-only buffer over the encoded value, or null if the article had none
+     * @throws IndexOutOfBoundsException if the row does not exist
+     */
+    public ByteBuffer bytes(int row, ArticleField field) {
+        checkRow(row);
+        return columns[field.ordinal()].bytes(row);
+    }
+
+    /**
+     * Returns whether a field contains a character other than whitespace or control characters.
+     * Equivalent to {@code value != null && !value.trim().isEmpty()}, checked on the encoded bytes.
+     *
+     * @param row the row index
+     * @param field the field to check
+     * @return true if the field has text
+     * @throws IndexOutOfBoundsException if the row does not exist
+     */
+    public boolean hasText(int row, ArticleField field) {
+        checkRow(row);
+        return columns[field.ordinal()].hasText(row);
+    }
+
+    /**
+     * Returns whether the article had a source, even one without id and name.
+     *
+     * @param row the row index
+     * @return true if the article had a source
+     * @throws IndexOutOfBoundsException if the row does not exist
+     */
+    public boolean hasSource(int row) {
+        checkRow(row);
+        return withSource.get(row);
+    }
+
+    /**
+     * Gets the number of off-heap bytes reserved by all columns.
+     *
+     * @return the reserved off-heap bytes
+     */
+    public long offHeapBytes() {
+        long total = 0;
+        for (Column column : columns) {
+            total += column.reservedBytes();
+        }
+        return total;
+    }
+
+    /**
+     * Iterates over lazily decoded views of the articles in row order.
+     *
+     * @return an iterator over the batch
+     */
+    @Override
+    public Iterator<Article> iterator() {
+        return new Iterator<>() {
+            private int row;
+
+            @Override
+            public boolean hasNext() {
+                return row < size;
+            }
+
+            @Override
+            public Article next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(row++);
+            }
+        };
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for batch of size " + size);
+        }
+    }
+
+    /**
+     * One field's values: UTF-8 bytes in direct buffer chunks plus per-row chunk, offset and length.
+     * A null value has length -1; a value never spans two chunks.
+     */
+    private static class Column {
+        private final int chunkSize;
+        private final List<ByteBuffer> chunks = new ArrayList<>();
+        private final List<ByteBuffer> readOnlyChunks = new ArrayList<>();
+        private ByteBuffer current;
+        private int[] chunkIndexes = new int[INITIAL_ROWS];
+        private int[] offsets = new int[INITIAL_ROWS];
+        private int[] lengths = new int[INITIAL_ROWS];
+        private long reservedBytes;
+
+        Column(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        void append(int row, String value, CharsetEncoder encoder) {
+            if (row == lengths.length) {
+                int capacity = Math.max(INITIAL_ROWS, row + (row >> 1));
+                chunkIndexes = Arrays.copyOf(chunkIndexes, capacity);
+                offsets = Arrays.copyOf(offsets, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+            }
+            if (value == null) {
+                lengths[row] = -1;
+                return;
+            }
+            long maxBytes = (long) value.length() * MAX_BYTES_PER_CHAR;
+            if (current == null || current.remaining() < maxBytes) {
+                if (maxBytes > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("Field value too large: " + value.length() + " chars");
+                }
+                current = ByteBuffer.allocateDirect(Math.max(chunkSize, (int) maxBytes));
+                chunks.add(current);
+                readOnlyChunks.add(current.asReadOnlyBuffer());
+                reservedBytes += current.capacity();
+            }
+            int start = current.position();
+            encoder.reset();
+            encoder.encode(CharBuffer.wrap(value), current, true);
+            encoder.flush(current);
+            chunkIndexes[row] = chunks.size() - 1;
+            offsets[row] = start;
+            lengths[row] = current.position() - start;
+        }
+
+        ByteBuffer bytes(int row) {
+            int length = lengths[row];
+            if (length < 0) {
+                return null;
+            }
+            return readOnlyChunks.get(chunkIndexes[row]).slice(offsets[row], length);
+        }
+
+        String getString(int row) {
+            int length = lengths[row];
+            if (length < 0) {
+                return null;
+            }
+            byte[] encoded = new byte[length];
+            chunks.get(chunkIndexes[row]).get(offsets[row], encoded);
+            return new String(encoded, StandardCharsets.UTF_8);
+        }
+
+        boolean hasText(int row) {
+            int length = lengths[row];
+            if (length <= 0) {
+                return false;
+            }
+            ByteBuffer chunk = chunks.get(chunkIndexes[row]);
+            int offset = offsets[row];
+            for (int i = offset; i < offset + length; i++) {
+                if ((chunk.get(i) & 0xFF) > ' ') {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        long reservedBytes() {
+            return reservedBytes;
+        }
+    }
+}
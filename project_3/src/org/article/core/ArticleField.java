@@ -0,0 +1,65 @@
+package org.article.core;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Named, null-safe accessors for the text fields of an article.
+ * The names are the ones used in output templates and validation rules;
+ * source fields are addressed as {@code source.id} and {@code source.name}.
+ */
+public enum ArticleField {
+    TITLE("title", Article::getTitle),
+    DESCRIPTION("description", Article::getDescription),
+    PUBLISHED_AT("publishedAt", Article::getPublishedAt),
+    URL("url", Article::getUrl),
+    URL_TO_IMAGE("urlToImage", Article::getUrlToImage),
+    CONTENT("content", Article::getContent),
+    AUTHOR("author", Article::getAuthor),
+    SOURCE_ID("source.id", article -> article.getSource() != null ? article.getSource().getId() : null),
+    SOURCE_NAME("source.name", article -> article.getSource() != null ? article.getSource().getName() : null);
+
+    private final String fieldName;
+    private final Function<Article, String> accessor;
+
+    ArticleField(String fieldName, Function<Article, String> accessor) {
+        this.fieldName = fieldName;
+        this.accessor = accessor;
+    }
+
+    /**
+     * Looks up a field by its name.
+     *
+     * @param fieldName the field name, e.g. "title" or "source.name"
+     * @return the field
+     * @throws IllegalArgumentException if no field has that name
+     */
+    public static ArticleField forName(String fieldName) {
+        for (ArticleField field : values()) {
+            if (field.fieldName.equals(fieldName)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field '" + fieldName + "'. Known fields: "
+                + Arrays.stream(values()).map(ArticleField::getFieldName).toList());
+    }
+
+    /**
+     * Gets the name of the field.
+     *
+     * @return the field name
+     */
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Reads this field from an article.
+     *
+     * @param article the article to read
+     * @return the field value, or null if it or its source is missing
+     */
+    public String get(Article article) {
+        return accessor.apply(article);
+    }
+}
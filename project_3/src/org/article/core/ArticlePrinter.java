@@ -9,4 +9,11 @@ public interface ArticlePrinter {
      * @param article the article to print
      */
     void print(Article article);
+
+    /**
+     * Writes out any output buffered by this printer.
+     * Printers that write through immediately need not override this.
+     */
+    default void flush() {
+    }
 }
@@ -0,0 +1,53 @@
+package org.article.core;
+
+/**
+ * Article view over one row of an ArticleBatch.
+ * Each field is decoded from the batch the first time it is read and kept afterwards.
+ */
+class BatchArticle extends Article {
+    private static final ArticleField[] FIELDS = ArticleField.values();
+
+    private final ArticleBatch batch;
+    private final int row;
+    private final String[] values = new String[FIELDS.length];
+    private final boolean[] decoded = new boolean[FIELDS.length];
+    private Source source;
+
+    BatchArticle(ArticleBatch batch, int row) {
+        super(null, null, null, null, null, null, null, null);
+        this.batch = batch;
+        this.row = row;
+    }
+
+    @Override
+    public String getTitle() { return value(ArticleField.TITLE); }
+    @Override
+    public String getDescription() { return value(ArticleField.DESCRIPTION); }
+    @Override
+    public String getPublishedAt() { return value(ArticleField.PUBLISHED_AT); }
+    @Override
+    public String getUrl() { return value(ArticleField.URL); }
+    @Override
+    public String getUrlToImage() { return value(ArticleField.URL_TO_IMAGE); }
+    @Override
+    public String getContent() { return value(ArticleField.CONTENT); }
+    @Override
+    public String getAuthor() { return value(ArticleField.AUTHOR); }
+
+    @Override
+    public Source getSource() {
+        if (source == null && batch.hasSource(row)) {
+            source = new Source(value(ArticleField.SOURCE_ID), value(ArticleField.SOURCE_NAME));
+        }
+        return source;
+    }
+
+    private String value(ArticleField field) {
+        int index = field.ordinal();
+        if (!decoded[index]) {
+            values[index] = batch.getString(row, field);
+            decoded[index] = true;
+        }
+        return values[index];
+    }
+}
@@ -1,6 +1,9 @@
 package org.article.core;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Represents a source of article data.
@@ -12,4 +15,15 @@ public interface DataSource {
      * @throws IOException if data cannot be retrieved
      */
     String getData() throws IOException;
+
+    /**
+     * Opens the raw bytes of the source as UTF-8 encoded JSON.
+     * Parsers read from this stream so the payload never has to be decoded
+     * into a string first. The caller is responsible for closing it.
+     * @return Stream over the raw data
+     * @throws IOException if data cannot be retrieved
+     */
+    default InputStream openStream() throws IOException {
+        return new ByteArrayInputStream(getData().getBytes(StandardCharsets.UTF_8));
+    }
 }
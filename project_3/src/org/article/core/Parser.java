@@ -2,6 +2,7 @@ package org.article.core;
 
 import org.article.parser.ParserException;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Core interface for all article parsers.
@@ -15,6 +16,36 @@ public interface Parser {
      */
     List<Article> parse(DataSource source) throws ParserException;
 
+    /**
+     * Parses data lazily, yielding validated articles one at a time.
+     * The returned stream may hold the underlying input open, so it should be
+     * closed once consumed. Read failures part-way through surface as
+     * {@link java.io.UncheckedIOException}.
+     * @param source The data source to parse
+     * @return Stream of parsed articles
+     * @throws ParserException if parsing cannot be started
+     */
+    default Stream<Article> stream(DataSource source) throws ParserException {
+        return parse(source).stream();
+    }
+
+    /**
+     * Parses data straight into a columnar batch.
+     * Articles are streamed and appended one at a time, so only their encoded
+     * fields stay resident.
+     * @param source The data source to parse
+     * @param batch The batch to append the valid articles to
+     * @return The number of articles appended
+     * @throws ParserException if parsing cannot be started
+     */
+    default int parseInto(DataSource source, ArticleBatch batch) throws ParserException {
+        int before = batch.size();
+        try (Stream<Article> articles = stream(source)) {
+            articles.forEach(batch::add);
+        }
+        return batch.size() - before;
+    }
+
     /**
      * Gets the data source associated with this parser.
      * @return The data source for this parser
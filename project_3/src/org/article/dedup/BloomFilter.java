@@ -0,0 +1,98 @@
+package org.article.dedup;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Concurrent Bloom filter over 64-bit fingerprints.
+ * It is sized once for an expected number of insertions and a target false-positive
+ * rate and never grows. Bits are set with atomic updates, so any number of threads
+ * may insert and query without locking.
+ */
+class BloomFilter {
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * Constructs a filter for the given load.
+     *
+     * @param expectedInsertions the number of fingerprints the filter is sized for
+     * @param falsePositiveRate the target false-positive rate at that load, between 0 and 1
+     * @throws IllegalArgumentException if the arguments are out of range or need too many bits
+     */
+    BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("Expected insertions must be positive");
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False-positive rate must be between 0 and 1");
+        }
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+        long wordCount = Math.ceilDiv(Math.max(bits, Long.SIZE), Long.SIZE);
+        if (wordCount > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Bloom filter too large for " + expectedInsertions + " insertions");
+        }
+        this.words = new AtomicLongArray((int) wordCount);
+        this.bitCount = wordCount * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * LN2));
+    }
+
+    /**
+     * Returns whether the fingerprint may have been inserted.
+     *
+     * @param fingerprint the fingerprint to test
+     * @return false if the fingerprint was definitely never inserted
+     */
+    boolean mightContain(long fingerprint) {
+        int h1 = (int) fingerprint;
+        int h2 = (int) (fingerprint >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = bitIndex(h1, h2, i);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Inserts a fingerprint.
+     *
+     * @param fingerprint the fingerprint to insert
+     * @return true if any bit changed, i.e. the fingerprint was definitely new
+     */
+    boolean put(long fingerprint) {
+        int h1 = (int) fingerprint;
+        int h2 = (int) (fingerprint >>> 32);
+        boolean changed = false;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = bitIndex(h1, h2, i);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long previous = words.getAndAccumulate(word, mask, (current, m) -> current | m);
+            changed |= (previous & mask) == 0;
+        }
+        return changed;
+    }
+
+    /**
+     * Gets the size of the filter in bits.
+     */
+    long bitCount() {
+        return bitCount;
+    }
+
+    /**
+     * Gets the number of bits set per fingerprint.
+     */
+    int hashCount() {
+        return hashCount;
+    }
+
+    private long bitIndex(int h1, int h2, int i) {
+        long combined = (h1 & 0xFFFFFFFFL) + (long) i * (h2 & 0xFFFFFFFFL);
+        return Long.remainderUnsigned(combined, bitCount);
+    }
+}
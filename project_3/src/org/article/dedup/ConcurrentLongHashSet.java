@@ -0,0 +1,142 @@
+package org.article.dedup;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded set of primitive longs with lock-striped inserts.
+ * Keys are spread over a fixed number of stripes by their high bits; each stripe is
+ * an open-addressing table of longs guarded by its own lock, so threads inserting
+ * different keys rarely contend. Stripes grow on demand until the set as a whole
+ * holds its maximum size, after which new keys are refused instead of stored.
+ * Concurrent inserts may overshoot the maximum by at most one key per stripe.
+ */
+class ConcurrentLongHashSet {
+    /**
+     * Outcome of an insertion.
+     */
+    enum Insertion {
+        ADDED, PRESENT, FULL
+    }
+
+    private static final int STRIPE_BITS = 6;
+    private static final int STRIPES = 1 << STRIPE_BITS;
+    private static final int INITIAL_STRIPE_CAPACITY = 16;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final AtomicBoolean containsZero = new AtomicBoolean();
+    private final AtomicLong totalSize = new AtomicLong();
+    private final long maxSize;
+
+    /**
+     * Constructs a set holding at most roughly maxSize keys.
+     *
+     * @param maxSize the maximum number of keys
+     * @throws IllegalArgumentException if maxSize is not positive
+     */
+    ConcurrentLongHashSet(long maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        this.maxSize = maxSize;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Inserts a key unless it is already present or the set is full.
+     *
+     * @param key the key to insert
+     * @return whether the key was added, already present or refused
+     */
+    Insertion add(long key) {
+        if (key == 0) {
+            return containsZero.compareAndSet(false, true) ? Insertion.ADDED : Insertion.PRESENT;
+        }
+        return stripes[(int) (key >>> (Long.SIZE - STRIPE_BITS))].add(key);
+    }
+
+    /**
+     * Returns whether the key is present.
+     *
+     * @param key the key to look up
+     * @return true if the key was added before
+     */
+    boolean contains(long key) {
+        if (key == 0) {
+            return containsZero.get();
+        }
+        return stripes[(int) (key >>> (Long.SIZE - STRIPE_BITS))].contains(key);
+    }
+
+    /**
+     * Returns whether the set has stopped accepting new keys.
+     *
+     * @return true once the set holds its maximum size
+     */
+    boolean isFull() {
+        return totalSize.get() >= maxSize;
+    }
+
+    /**
+     * Gets the number of keys held.
+     */
+    long size() {
+        return totalSize.get() + (containsZero.get() ? 1 : 0);
+    }
+
+    /**
+     * One open-addressing table with linear probing; 0 marks an empty slot.
+     */
+    private class Stripe {
+        private static final int MAX_CAPACITY = 1 << 30;
+
+        private long[] table = new long[INITIAL_STRIPE_CAPACITY];
+        private int size;
+
+        synchronized Insertion add(long key) {
+            int slot = find(table, key);
+            if (table[slot] == key) {
+                return Insertion.PRESENT;
+            }
+            if (totalSize.get() >= maxSize || (size + 1) * 2 > MAX_CAPACITY) {
+                return Insertion.FULL;
+            }
+            if ((size + 1) * 2 > table.length) {
+                rehash(table.length * 2);
+                slot = find(table, key);
+            }
+            table[slot] = key;
+            size++;
+            totalSize.incrementAndGet();
+            return Insertion.ADDED;
+        }
+
+        synchronized boolean contains(long key) {
+            return table[find(table, key)] == key;
+        }
+
+        private void rehash(int capacity) {
+            long[] rehashed = new long[capacity];
+            for (long key : table) {
+                if (key != 0) {
+                    rehashed[find(rehashed, key)] = key;
+                }
+            }
+            table = rehashed;
+        }
+
+        /**
+         * Returns the slot holding the key, or the empty slot where it belongs.
+         */
+        private static int find(long[] table, long key) {
+            int mask = table.length - 1;
+            int slot = (int) key & mask;
+            while (table[slot] != 0 && table[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+}
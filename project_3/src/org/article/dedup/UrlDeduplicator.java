@@ -0,0 +1,121 @@
+package org.article.dedup;
+
+import org.article.core.Article;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drops articles whose URL was already seen, across any number of sources.
+ * URLs are compared by {@link UrlFingerprint}, so trivially different links to the
+ * same story count as one. A Bloom filter settles the common "never seen" case, which
+ * then only has to be recorded, and once the exact set is full not even that; a
+ * "maybe seen" answer is confirmed against the set of fingerprints, so within the
+ * set's bound only a 64-bit fingerprint collision can drop a distinct URL.
+ * <p>
+ * Memory is fixed up front: the exact set stops growing at its maximum size and the
+ * Bloom filter is sized for a number of URLs. Beyond the set's bound the Bloom filter
+ * alone decides. It drops distinct URLs at no more than the configured false-positive
+ * rate until it holds the number of URLs it is sized for, and increasingly often after
+ * that, so the filter should be sized well above the set's bound. A deduplicator is
+ * safe to share between concurrent parsers.
+ * </p>
+ */
+public class UrlDeduplicator {
+    /**
+     * The number of URLs the filter is sized for when no size is given.
+     */
+    public static final long DEFAULT_EXPECTED_URLS = 1_000_000;
+
+    /**
+     * The false-positive rate of the Bloom filter when none is given.
+     */
+    public static final double DEFAULT_FALSE_POSITIVE_RATE = 0.001;
+
+    /**
+     * How many times more URLs than it confirms exactly the filter is sized for by default.
+     */
+    private static final int FILTER_HEADROOM = 4;
+
+    private final BloomFilter filter;
+    private final ConcurrentLongHashSet seen;
+    private final LongAdder duplicates = new LongAdder();
+
+    /**
+     * Constructs a deduplicator with the default size and false-positive rate.
+     */
+    public UrlDeduplicator() {
+        this(DEFAULT_EXPECTED_URLS, DEFAULT_FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * Constructs a deduplicator that confirms every match for up to expectedUrls URLs
+     * and keeps the configured false-positive rate for four times as many.
+     *
+     * @param expectedUrls the number of distinct URLs to size for
+     * @param falsePositiveRate the false-positive rate of the Bloom filter, between 0 and 1
+     * @throws IllegalArgumentException if an argument is out of range
+     */
+    public UrlDeduplicator(long expectedUrls, double falsePositiveRate) {
+        this(expectedUrls > Long.MAX_VALUE / FILTER_HEADROOM ? Long.MAX_VALUE : expectedUrls * FILTER_HEADROOM,
+                falsePositiveRate, expectedUrls);
+    }
+
+    /**
+     * Constructs a deduplicator.
+     *
+     * @param expectedUrls the number of distinct URLs the Bloom filter is sized for
+     * @param falsePositiveRate the false-positive rate of the Bloom filter, between 0 and 1
+     * @param maxConfirmedUrls the maximum number of fingerprints kept for exact confirmation
+     * @throws IllegalArgumentException if an argument is out of range
+     */
+    public UrlDeduplicator(long expectedUrls, double falsePositiveRate, long maxConfirmedUrls) {
+        this.filter = new BloomFilter(expectedUrls, falsePositiveRate);
+        this.seen = new ConcurrentLongHashSet(maxConfirmedUrls);
+    }
+
+    /**
+     * Records the article's URL and returns whether it is the first article with it.
+     * Usable as a stream filter.
+     *
+     * @param article the article to check
+     * @return true if the article should be kept
+     */
+    public boolean firstSeen(Article article) {
+        return firstSeen(article.getUrl());
+    }
+
+    /**
+     * Records a URL and returns whether it was seen for the first time.
+     * Null and blank URLs identify nothing and are never treated as duplicates.
+     *
+     * @param url the URL to check, possibly null
+     * @return true if the URL was not seen before
+     */
+    public boolean firstSeen(String url) {
+        if (url == null || url.isBlank()) {
+            return true;
+        }
+        long fingerprint = UrlFingerprint.of(url);
+        if (!filter.mightContain(fingerprint)) {
+            // Never seen: nothing to confirm, only record it for later repeats while the set has room.
+            filter.put(fingerprint);
+            if (seen.isFull() || seen.add(fingerprint) != ConcurrentLongHashSet.Insertion.PRESENT) {
+                return true;
+            }
+            // Another thread recorded the same URL between the filter check and the insert.
+        } else if (seen.add(fingerprint) == ConcurrentLongHashSet.Insertion.ADDED) {
+            // A false positive of the filter, settled by the set while it has room.
+            return true;
+        }
+        duplicates.increment();
+        return false;
+    }
+
+    /**
+     * Gets the number of URLs reported as duplicates so far.
+     *
+     * @return the number of duplicates
+     */
+    public long getDuplicateCount() {
+        return duplicates.sum();
+    }
+}
@@ -0,0 +1,107 @@
+package org.article.dedup;
+
+import java.util.Locale;
+
+/**
+ * Normalizes article URLs and reduces them to 64-bit fingerprints.
+ * Two URLs that differ only in scheme, letter case of the host, a leading "www.",
+ * a default port, a trailing slash, a fragment or tracking parameters
+ * ({@code utm_*}, {@code fbclid}, {@code gclid}) get the same fingerprint.
+ */
+public final class UrlFingerprint {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private UrlFingerprint() {
+    }
+
+    /**
+     * Computes the fingerprint of a URL after normalizing it.
+     *
+     * @param url the URL to fingerprint
+     * @return the 64-bit fingerprint of the normalized URL
+     */
+    public static long of(String url) {
+        String normalized = normalize(url);
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            hash = (hash ^ (c & 0xFF)) * FNV_PRIME;
+            hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Normalizes a URL to the form that is fingerprinted.
+     * The scheme is dropped, so the result is {@code host[:port]/path[?query]}.
+     *
+     * @param url the URL to normalize
+     * @return the normalized URL
+     */
+    public static String normalize(String url) {
+        String value = url.strip();
+        int fragment = value.indexOf('#');
+        if (fragment >= 0) {
+            value = value.substring(0, fragment);
+        }
+        int schemeEnd = value.indexOf("://");
+        String scheme = schemeEnd > 0 ? value.substring(0, schemeEnd).toLowerCase(Locale.ROOT) : "";
+        String rest = schemeEnd > 0 ? value.substring(schemeEnd + 3) : value;
+
+        int authorityEnd = indexOfAny(rest, "/?");
+        String authority = (authorityEnd < 0 ? rest : rest.substring(0, authorityEnd)).toLowerCase(Locale.ROOT);
+        String pathAndQuery = authorityEnd < 0 ? "" : rest.substring(authorityEnd);
+        if (authority.startsWith("www.")) {
+            authority = authority.substring(4);
+        }
+        if ((scheme.equals("http") && authority.endsWith(":80"))
+                || (scheme.equals("https") && authority.endsWith(":443"))) {
+            authority = authority.substring(0, authority.lastIndexOf(':'));
+        }
+
+        int queryStart = pathAndQuery.indexOf('?');
+        String path = queryStart < 0 ? pathAndQuery : pathAndQuery.substring(0, queryStart);
+        String query = queryStart < 0 ? "" : stripTrackingParams(pathAndQuery.substring(queryStart + 1));
+        while (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        return query.isEmpty() ? authority + path : authority + path + "?" + query;
+    }
+
+    private static String stripTrackingParams(String query) {
+        StringBuilder kept = new StringBuilder(query.length());
+        for (String param : query.split("&")) {
+            if (param.isEmpty() || param.startsWith("utm_") || param.startsWith("fbclid=")
+                    || param.startsWith("gclid=")) {
+                continue;
+            }
+            if (!kept.isEmpty()) {
+                kept.append('&');
+            }
+            kept.append(param);
+        }
+        return kept.toString();
+    }
+
+    private static int indexOfAny(String value, String chars) {
+        for (int i = 0; i < value.length(); i++) {
+            if (chars.indexOf(value.charAt(i)) >= 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Spreads the bits of an FNV-1a hash so both 32-bit halves are usable as independent hashes.
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
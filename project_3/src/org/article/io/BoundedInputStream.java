@@ -0,0 +1,58 @@
+package org.article.io;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream that fails once more than a fixed number of bytes has been read.
+ * Used to abort oversized or decompression-bomb responses before they exhaust the heap.
+ */
+class BoundedInputStream extends FilterInputStream {
+    private final long maxBytes;
+    private long bytesRead;
+
+    /**
+     * Constructs a bounded stream.
+     *
+     * @param in the stream to read from
+     * @param maxBytes the maximum number of bytes that may be read
+     */
+    BoundedInputStream(InputStream in, long maxBytes) {
+        super(in);
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b != -1) {
+            count(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        if (n > 0) {
+            count(n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        count(skipped);
+        return skipped;
+    }
+
+    private void count(long n) throws IOException {
+        bytesRead += n;
+        if (bytesRead > maxBytes) {
+            throw new IOException(String.format(
+                    "Response body exceeds maximum size of %d bytes", maxBytes));
+        }
+    }
+}
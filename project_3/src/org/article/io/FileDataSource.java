@@ -1,22 +1,83 @@
 package org.article.io;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import org.article.core.DataSource;
 
 /**
  * Represents a file data source.
+ * Large files can be memory-mapped so parsers read them from the page cache
+ * instead of copying them onto the heap.
  */
 public class FileDataSource implements DataSource {
+    /**
+     * Files at or above this size are memory-mapped in {@link FileReadMode#AUTO} mode.
+     */
+    public static final long DEFAULT_MAP_THRESHOLD = 64L * 1024 * 1024;
+    private static final int MAX_CHUNK_SIZE = 1 << 30;
+
     private final String filePath;
+    private final FileReadMode readMode;
+    private final long mapThreshold;
+    private final int chunkSize;
+
     /**
      * Constructs a file data source with the provided file path.
      *
      * @param filePath the path to the file
      */
     public FileDataSource(String filePath) {
+        this(filePath, FileReadMode.AUTO);
+    }
+
+    /**
+     * Constructs a file data source with the provided file path and read mode.
+     *
+     * @param filePath the path to the file
+     * @param readMode how the file should be read
+     */
+    public FileDataSource(String filePath, FileReadMode readMode) {
+        this(filePath, readMode, DEFAULT_MAP_THRESHOLD, MAX_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructs a file data source with explicit mapping parameters.
+     *
+     * @param filePath the path to the file
+     * @param readMode how the file should be read
+     * @param mapThreshold the size at which AUTO mode switches to mapping
+     * @param chunkSize the maximum size of a single mapped region
+     */
+    FileDataSource(String filePath, FileReadMode readMode, long mapThreshold, int chunkSize) {
         this.filePath = filePath;
+        this.readMode = readMode;
+        this.mapThreshold = mapThreshold;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Gets the path of the file this data source reads.
+     * @return The file path
+     */
+    public String getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Gets the read mode of this data source.
+     * @return The configured read mode
+     */
+    public FileReadMode getReadMode() {
+        return readMode;
     }
 
     /**
@@ -26,6 +87,43 @@ public class FileDataSource implements DataSource {
      */
     @Override
     public String getData() throws IOException {
-        return new String(Files.readAllBytes(Paths.get(filePath)));
+        return new String(Files.readAllBytes(Paths.get(filePath)), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Opens the file for reading without loading it into memory.
+     * Depending on the read mode and file size the stream is backed either by
+     * a regular file stream or by memory-mapped regions of the file.
+     * @return Stream over the file contents
+     * @throws IOException if the file cannot be opened
+     */
+    @Override
+    public InputStream openStream() throws IOException {
+        Path path = Paths.get(filePath);
+        boolean mapped = switch (readMode) {
+            case MAPPED -> true;
+            case STREAM -> false;
+            case AUTO -> Files.size(path) >= mapThreshold;
+        };
+        return mapped ? new MappedInputStream(map()) : Files.newInputStream(path);
+    }
+
+    /**
+     * Maps the whole file read-only into memory.
+     * Files larger than a single buffer can address are split into consecutive chunks.
+     * The mappings stay valid after this call returns, until they are garbage collected.
+     * @return The mapped regions of the file, in file order
+     * @throws IOException if the file cannot be mapped
+     */
+    public List<MappedByteBuffer> map() throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            long size = channel.size();
+            List<MappedByteBuffer> chunks = new ArrayList<>((int) (size / chunkSize) + 1);
+            for (long position = 0; position < size; position += chunkSize) {
+                long length = Math.min(chunkSize, size - position);
+                chunks.add(channel.map(FileChannel.MapMode.READ_ONLY, position, length));
+            }
+            return chunks;
+        }
     }
 }
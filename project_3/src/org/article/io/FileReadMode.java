@@ -0,0 +1,21 @@
+package org.article.io;
+
+/**
+ * Strategies for reading a file data source.
+ */
+public enum FileReadMode {
+    /**
+     * Memory-maps files at or above the mapping threshold and streams smaller ones.
+     */
+    AUTO,
+
+    /**
+     * Always reads the file through a regular buffered input stream.
+     */
+    STREAM,
+
+    /**
+     * Always memory-maps the file so reads are served from the page cache.
+     */
+    MAPPED
+}
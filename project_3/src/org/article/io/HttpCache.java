@@ -0,0 +1,251 @@
+package org.article.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+/**
+ * Disk-backed cache of HTTP response bodies and their validators.
+ * Each URL is stored as a body file plus a small metadata file holding its
+ * ETag and Last-Modified values. The total size of cached bodies is bounded;
+ * once it is exceeded the least recently used entries are evicted, and bodies
+ * larger than the whole bound are not cached at all. An entry may be evicted by
+ * another store after it was looked up, so callers must be prepared for its body
+ * to be gone when they open it.
+ */
+public class HttpCache {
+    /**
+     * The default bound on the total size of cached bodies.
+     */
+    public static final long DEFAULT_MAX_BYTES = 256L * 1024 * 1024;
+    private static final String BODY_SUFFIX = ".body";
+    private static final String META_SUFFIX = ".meta";
+
+    private final Path directory;
+    private final long maxBytes;
+
+    /**
+     * Constructs a cache in the given directory with the default size bound.
+     *
+     * @param directory the directory to store entries in, created if missing
+     * @throws IOException if the directory cannot be created
+     */
+    public HttpCache(Path directory) throws IOException {
+        this(directory, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Constructs a cache in the given directory.
+     *
+     * @param directory the directory to store entries in, created if missing
+     * @param maxBytes the bound on the total size of cached bodies
+     * @throws IOException if the directory cannot be created
+     */
+    public HttpCache(Path directory, long maxBytes) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Looks up the cached entry for a URL.
+     *
+     * @param url the URL to look up
+     * @return the cached entry, or null if the URL is not cached
+     * @throws IOException if the cached metadata cannot be read
+     */
+    public synchronized Entry lookup(String url) throws IOException {
+        String key = keyFor(url);
+        Path meta = directory.resolve(key + META_SUFFIX);
+        Path body = directory.resolve(key + BODY_SUFFIX);
+        if (!Files.exists(meta) || !Files.exists(body)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(meta, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        if (!url.equals(properties.getProperty("url"))) {
+            return null;
+        }
+        return new Entry(body, properties.getProperty("etag"), properties.getProperty("lastModified"), false);
+    }
+
+    /**
+     * Marks an entry as recently used so it is evicted last.
+     *
+     * @param entry the entry that was served
+     * @throws IOException if the entry's access time cannot be updated
+     */
+    public void touch(Entry entry) throws IOException {
+        Files.setLastModifiedTime(entry.body, FileTime.fromMillis(System.currentTimeMillis()));
+    }
+
+    /**
+     * Stores a response body and its validators, replacing any previous entry for the URL.
+     * The body is fully consumed and written to disk before this method returns.
+     * A body larger than the size bound is not cached and any previous entry for the
+     * URL is removed; the returned entry then reads the body from a temporary file
+     * that is deleted when its stream is closed, so it can be opened only once.
+     *
+     * @param url the URL the body was fetched from
+     * @param body the decoded response body
+     * @param etag the ETag validator, or null
+     * @param lastModified the Last-Modified validator, or null
+     * @return the stored entry, or a temporary entry if the body exceeds the size bound
+     * @throws IOException if the body cannot be read or written
+     */
+    public Entry store(String url, InputStream body, String etag, String lastModified) throws IOException {
+        String key = keyFor(url);
+        Path bodyTemp = Files.createTempFile(directory, key, ".tmp");
+        Path metaTemp = Files.createTempFile(directory, key, ".tmp");
+        boolean temporary = false;
+        try {
+            try (OutputStream out = Files.newOutputStream(bodyTemp)) {
+                body.transferTo(out);
+            }
+            if (Files.size(bodyTemp) > maxBytes) {
+                synchronized (this) {
+                    Files.deleteIfExists(directory.resolve(key + BODY_SUFFIX));
+                    Files.deleteIfExists(directory.resolve(key + META_SUFFIX));
+                }
+                temporary = true;
+                return new Entry(bodyTemp, etag, lastModified, true);
+            }
+            Properties properties = new Properties();
+            properties.setProperty("url", url);
+            if (etag != null) {
+                properties.setProperty("etag", etag);
+            }
+            if (lastModified != null) {
+                properties.setProperty("lastModified", lastModified);
+            }
+            try (Writer writer = Files.newBufferedWriter(metaTemp, StandardCharsets.UTF_8)) {
+                properties.store(writer, null);
+            }
+
+            Path bodyPath = directory.resolve(key + BODY_SUFFIX);
+            synchronized (this) {
+                Files.move(bodyTemp, bodyPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                Files.move(metaTemp, directory.resolve(key + META_SUFFIX),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                evict(bodyPath);
+            }
+            return new Entry(bodyPath, etag, lastModified, false);
+        } finally {
+            if (!temporary) {
+                Files.deleteIfExists(bodyTemp);
+            }
+            Files.deleteIfExists(metaTemp);
+        }
+    }
+
+    /**
+     * Evicts least recently used entries until the cache is within its size bound.
+     * The entry that was just stored is never evicted; it is within the bound on its own.
+     */
+    private void evict(Path keep) throws IOException {
+        List<Path> bodies = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(path -> path.getFileName().toString().endsWith(BODY_SUFFIX)).forEach(bodies::add);
+        }
+        long total = 0;
+        for (Path body : bodies) {
+            total += Files.size(body);
+        }
+        if (total <= maxBytes) {
+            return;
+        }
+        bodies.sort(Comparator.comparing(HttpCache::lastModifiedTime));
+        for (Path body : bodies) {
+            if (total <= maxBytes) {
+                break;
+            }
+            if (body.equals(keep)) {
+                continue;
+            }
+            total -= Files.size(body);
+            String name = body.getFileName().toString();
+            Files.deleteIfExists(body);
+            Files.deleteIfExists(directory.resolve(
+                    name.substring(0, name.length() - BODY_SUFFIX.length()) + META_SUFFIX));
+        }
+    }
+
+    private static FileTime lastModifiedTime(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static String keyFor(String url) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(url.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * A cached response body with the validators it was served with.
+     */
+    public static class Entry {
+        private final Path body;
+        private final String etag;
+        private final String lastModified;
+        private final boolean temporary;
+
+        private Entry(Path body, String etag, String lastModified, boolean temporary) {
+            this.body = body;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.temporary = temporary;
+        }
+
+        /**
+         * Gets the ETag validator.
+         * @return The ETag, or null if the response had none
+         */
+        public String getEtag() {
+            return etag;
+        }
+
+        /**
+         * Gets the Last-Modified validator.
+         * @return The Last-Modified value, or null if the response had none
+         */
+        public String getLastModified() {
+            return lastModified;
+        }
+
+        /**
+         * Opens the cached body.
+         * @return Stream over the cached body
+         * @throws java.nio.file.NoSuchFileException if the entry was evicted since it was looked up
+         * @throws IOException if the body cannot be opened
+         */
+        public InputStream openStream() throws IOException {
+            return temporary
+                    ? Files.newInputStream(body, StandardOpenOption.DELETE_ON_CLOSE)
+                    : Files.newInputStream(body);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.article.io;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Input stream over a sequence of byte buffers, typically memory-mapped file chunks.
+ * Reads are served straight from the buffers, so no copy of the file lives on the heap.
+ */
+public class MappedInputStream extends InputStream {
+    private final List<ByteBuffer> chunks;
+    private int chunkIndex;
+
+    /**
+     * Constructs a stream over the given chunks, read in order.
+     * Each chunk is duplicated so the caller's buffer positions are left untouched.
+     *
+     * @param chunks the buffers to read from
+     */
+    public MappedInputStream(List<? extends ByteBuffer> chunks) {
+        this.chunks = chunks.stream()
+                .map(ByteBuffer::duplicate)
+                .toList();
+    }
+
+    @Override
+    public int read() {
+        ByteBuffer chunk = currentChunk();
+        return chunk != null ? chunk.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        ByteBuffer chunk = currentChunk();
+        if (chunk == null) {
+            return -1;
+        }
+        int count = Math.min(len, chunk.remaining());
+        chunk.get(b, off, count);
+        return count;
+    }
+
+    @Override
+    public long skip(long n) {
+        long skipped = 0;
+        ByteBuffer chunk;
+        while (skipped < n && (chunk = currentChunk()) != null) {
+            int step = (int) Math.min(n - skipped, chunk.remaining());
+            chunk.position(chunk.position() + step);
+            skipped += step;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        ByteBuffer chunk = currentChunk();
+        return chunk != null ? chunk.remaining() : 0;
+    }
+
+    private ByteBuffer currentChunk() {
+        while (chunkIndex < chunks.size()) {
+            ByteBuffer chunk = chunks.get(chunkIndex);
+            if (chunk.hasRemaining()) {
+                return chunk;
+            }
+            chunkIndex++;
+        }
+        return null;
+    }
+}
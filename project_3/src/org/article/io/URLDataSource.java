@@ -3,19 +3,36 @@ package org.article.io;
 
 import org.article.core.DataSource;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.OptionalLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 
 /**
  * Implementation of DataSource that retrieves data from a URL.
  */
 public class URLDataSource implements DataSource {
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_NOT_MODIFIED = 304;
+
+    /**
+     * The default limit on the decoded size of a streamed response body.
+     */
+    public static final long DEFAULT_MAX_BODY_SIZE = 512L * 1024 * 1024;
+
     private final String url;
     private final HttpClient httpClient;
+    private final long maxBodySize;
+    private final HttpCache cache;
 
     /**
      * Constructs a URL data source with the provided URL.
@@ -26,6 +43,16 @@ public class URLDataSource implements DataSource {
         this(url, HttpClient.newHttpClient());
     }
 
+    /**
+     * Constructs a URL data source with the provided URL and body size limit.
+     *
+     * @param url the URL to fetch data from
+     * @param maxBodySize the maximum decoded size of a streamed response body in bytes
+     */
+    public URLDataSource(String url, long maxBodySize) {
+        this(url, HttpClient.newHttpClient(), maxBodySize);
+    }
+
     /**
      * Constructs a URL data source with the provided URL and HTTP client.
      *
@@ -33,20 +60,74 @@ public class URLDataSource implements DataSource {
      * @param httpClient the HTTP client to use for fetching data
      */
     public URLDataSource(String url, HttpClient httpClient) {
+        this(url, httpClient, DEFAULT_MAX_BODY_SIZE);
+    }
+
+    /**
+     * Constructs a URL data source with the provided URL, HTTP client and body size limit.
+     *
+     * @param url the URL to fetch data from
+     * @param httpClient the HTTP client to use for fetching data
+     * @param maxBodySize the maximum decoded size of a streamed response body in bytes
+     */
+    public URLDataSource(String url, HttpClient httpClient, long maxBodySize) {
+        this(url, httpClient, maxBodySize, null);
+    }
+
+    /**
+     * Constructs a URL data source that revalidates against an on-disk cache.
+     * Cached bodies are revalidated with If-None-Match and If-Modified-Since,
+     * and a 304 Not Modified response is served from the cache.
+     *
+     * @param url the URL to fetch data from
+     * @param httpClient the HTTP client to use for fetching data
+     * @param maxBodySize the maximum decoded size of a streamed response body in bytes
+     * @param cache the cache to revalidate against, or null to disable caching
+     */
+    public URLDataSource(String url, HttpClient httpClient, long maxBodySize, HttpCache cache) {
         this.url = url;
         this.httpClient = httpClient;
+        this.maxBodySize = maxBodySize;
+        this.cache = cache;
     }
 
     /**
      * Gets the raw data from the URL.
+     * Reads the body through {@link #openStream()}, so it is negotiated, decompressed,
+     * size-bounded and cached the same way.
      * @return Raw data as string
      * @throws IOException if data cannot be retrieved
      */
     @Override
     public String getData() throws IOException {
+        try (InputStream body = openStream()) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Opens the response body as a stream so parsing can start without buffering it.
+     * Requests gzip or deflate transfer and decompresses on the fly. Reading fails
+     * with an IOException once the decoded body exceeds the maximum body size.
+     * @return Stream over the decoded response body
+     * @throws IOException if data cannot be retrieved
+     */
+    @Override
+    public InputStream openStream() throws IOException {
+        return openResponse().body();
+    }
+
+    /**
+     * Opens the response body as {@link #openStream()} does, together with the validator
+     * identifying the version it holds. A 304 Not Modified response reports the validator
+     * of the cached body it is served from.
+     * @return The opened body and its ETag, or its Last-Modified value if it has no ETag
+     * @throws IOException if data cannot be retrieved
+     */
+    public Response openResponse() throws IOException {
         try {
             URI uri = createURI(url);
-            return fetchData(uri);
+            return fetchStream(uri, cache != null);
         } catch (IllegalArgumentException e) {
             throw new IOException("Invalid URL format: " + url, e);
         } catch (InterruptedException e) {
@@ -55,6 +136,14 @@ public class URLDataSource implements DataSource {
         }
     }
 
+    /**
+     * Gets the URL this source fetches.
+     * @return The URL
+     */
+    public String getUrl() {
+        return url;
+    }
+
     // Helper methods
     private URI createURI(String url) throws IOException {
         try {
@@ -64,20 +153,114 @@ public class URLDataSource implements DataSource {
         }
     }
     // Helper methods
-    private String fetchData(URI uri) throws IOException, InterruptedException {
+    private Response fetchStream(URI uri, boolean useCache) throws IOException, InterruptedException {
         try {
-            HttpRequest request = HttpRequest.newBuilder()
+            HttpCache.Entry cached = useCache ? cache.lookup(url) : null;
+            HttpRequest.Builder builder = HttpRequest.newBuilder()
                     .uri(uri)
-                    .GET()
-                    .build();
+                    .header("Accept-Encoding", "gzip, deflate")
+                    .GET();
+            if (cached != null && cached.getEtag() != null) {
+                builder.header("If-None-Match", cached.getEtag());
+            }
+            if (cached != null && cached.getLastModified() != null) {
+                builder.header("If-Modified-Since", cached.getLastModified());
+            }
 
-            HttpResponse<String> response = httpClient.send(request,
-                    HttpResponse.BodyHandlers.ofString());
+            HttpResponse<InputStream> response = httpClient.send(builder.build(),
+                    HttpResponse.BodyHandlers.ofInputStream());
 
-            String body = response.body();
-            return body != null ? body : "";
+            InputStream body = response.body();
+            if (cached != null && response.statusCode() == HTTP_NOT_MODIFIED) {
+                if (body != null) {
+                    body.close();
+                }
+                InputStream cachedBody = openCached(cached);
+                return cachedBody != null
+                        ? new Response(cachedBody, version(cached.getEtag(), cached.getLastModified()))
+                        : fetchStream(uri, false);
+            }
+            String etag = response.headers().firstValue("ETag").orElse(null);
+            String lastModified = response.headers().firstValue("Last-Modified").orElse(null);
+            if (body == null) {
+                return new Response(new ByteArrayInputStream(new byte[0]), version(etag, lastModified));
+            }
+            OptionalLong contentLength = response.headers().firstValueAsLong("Content-Length");
+            if (contentLength.isPresent() && contentLength.getAsLong() > maxBodySize) {
+                body.close();
+                throw new IOException(String.format(
+                        "Response body of %d bytes exceeds maximum size of %d bytes",
+                        contentLength.getAsLong(), maxBodySize));
+            }
+            String encoding = response.headers().firstValue("Content-Encoding").orElse("identity");
+            InputStream decoded = new BoundedInputStream(decode(body, encoding), maxBodySize);
+            boolean store = useCache && response.statusCode() == HTTP_OK
+                    && (etag != null || lastModified != null);
+            if (!store) {
+                return new Response(decoded, version(etag, lastModified));
+            }
+            InputStream storedBody = storeInCache(decoded, etag, lastModified);
+            return storedBody != null
+                    ? new Response(storedBody, version(etag, lastModified))
+                    : fetchStream(uri, false);
         } catch (IOException e) {
             throw new IOException("Error fetching data from URL: " + uri, e);
         }
     }
+
+    // Helper methods
+    private InputStream openCached(HttpCache.Entry cached) throws IOException {
+        InputStream body = null;
+        try {
+            body = cached.openStream();
+            cache.touch(cached);
+            return body;
+        } catch (NoSuchFileException e) {
+            // Evicted by another store since the lookup; the caller fetches the body again.
+            if (body != null) {
+                body.close();
+            }
+            return null;
+        }
+    }
+
+    // Helper methods
+    private InputStream storeInCache(InputStream decoded, String etag, String lastModified) throws IOException {
+        HttpCache.Entry stored;
+        try (decoded) {
+            stored = cache.store(url, decoded, etag, lastModified);
+        }
+        try {
+            return stored.openStream();
+        } catch (NoSuchFileException e) {
+            // Evicted by a concurrent store; the caller fetches the body again.
+            return null;
+        }
+    }
+
+    // Helper methods
+    private static String version(String etag, String lastModified) {
+        return etag != null ? etag : lastModified;
+    }
+
+    // Helper methods
+    private InputStream decode(InputStream body, String encoding) throws IOException {
+        return switch (encoding.trim().toLowerCase()) {
+            case "gzip", "x-gzip" -> new GZIPInputStream(body);
+            case "deflate" -> new InflaterInputStream(body);
+            case "identity" -> body;
+            default -> {
+                body.close();
+                throw new IOException("Unsupported content encoding: " + encoding);
+            }
+        };
+    }
+
+    /**
+     * An opened response body and the validator of the version it holds.
+     * @param body Stream over the decoded response body, to be closed by the caller
+     * @param version The ETag of the body, its Last-Modified value if it has no ETag, or null if it has neither
+     */
+    public record Response(InputStream body, String version) {
+    }
 }
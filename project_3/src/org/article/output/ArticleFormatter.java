@@ -22,20 +22,15 @@ public class ArticleFormatter {
      * @return formatted string with basic article information
      */
     public String formatBasic() {
-        return String.format(
-                "title: %s%n" +
-                        "at: %s%n" +
-                        "url: %s%n" +
-                        "%s%n",
-                formatOrDefault(article.getTitle()),
-                formatOrDefault(article.getPublishedAt()),
-                formatOrDefault(article.getUrl()),
-                formatOrDefault(article.getDescription())
-        );
+        return ArticleTemplate.BASIC.render(article);
     }
 
-
-    private String formatOrDefault(String value) {
-        return value != null ? value : "N/A";
+    /**
+     * Formats article data with the given template.
+     * @param template the compiled template to render
+     * @return formatted string with the template's article information
+     */
+    public String format(ArticleTemplate template) {
+        return template.render(article);
     }
 }
@@ -0,0 +1,204 @@
+package org.article.output;
+
+import org.article.core.Article;
+import org.article.core.ArticleBatch;
+import org.article.core.ArticleField;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Precompiled output template for articles.
+ * A template such as {@code "title: {title}%n{description}%n"} is parsed once into
+ * literal and field segments, so rendering an article only appends strings.
+ * <p>
+ * Placeholders name an article field in braces; {@code %n} is the platform line
+ * separator and {@code {{} / {@code }}} are literal braces. Missing values render as "N/A".
+ * </p>
+ */
+public class ArticleTemplate {
+    /**
+     * The basic format: title, publication date, URL and description.
+     */
+    public static final ArticleTemplate BASIC = compile("title: {title}%nat: {publishedAt}%nurl: {url}%n{description}%n");
+    private static final String DEFAULT_VALUE = "N/A";
+    private static final byte[] DEFAULT_VALUE_BYTES = DEFAULT_VALUE.getBytes(StandardCharsets.UTF_8);
+
+    private final String pattern;
+    private final Segment[] segments;
+    private final Set<ArticleField> fields;
+
+    private ArticleTemplate(String pattern, Segment[] segments, Set<ArticleField> fields) {
+        this.pattern = pattern;
+        this.segments = segments;
+        this.fields = fields;
+    }
+
+    /**
+     * Compiles a template pattern.
+     * @param pattern the template pattern
+     * @return the compiled template
+     * @throws IllegalArgumentException if the pattern has an unknown field or an unbalanced brace
+     */
+    public static ArticleTemplate compile(String pattern) {
+        List<Segment> segments = new ArrayList<>();
+        Set<ArticleField> fields = new LinkedHashSet<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (pattern.startsWith("%n", i)) {
+                literal.append(System.lineSeparator());
+                i += 2;
+            } else if (pattern.startsWith("{{", i) || pattern.startsWith("}}", i)) {
+                literal.append(c);
+                i += 2;
+            } else if (c == '{') {
+                int end = pattern.indexOf('}', i);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Unterminated placeholder at index " + i + ": " + pattern);
+                }
+                ArticleField field = ArticleField.forName(pattern.substring(i + 1, end));
+                addLiteral(segments, literal);
+                segments.add(new FieldSegment(field));
+                fields.add(field);
+                i = end + 1;
+            } else if (c == '}') {
+                throw new IllegalArgumentException("Unbalanced '}' at index " + i + ": " + pattern);
+            } else {
+                literal.append(c);
+                i++;
+            }
+        }
+        addLiteral(segments, literal);
+        return new ArticleTemplate(pattern, segments.toArray(new Segment[0]), Collections.unmodifiableSet(fields));
+    }
+
+    /**
+     * Returns a template that renders this one followed by a blank line.
+     * @return the extended template
+     */
+    public ArticleTemplate withTrailingBlankLine() {
+        return compile(pattern + "%n");
+    }
+
+    /**
+     * Gets the fields this template shows, in order of first use.
+     * @return the fields
+     */
+    public Set<ArticleField> getFields() {
+        return fields;
+    }
+
+    /**
+     * Renders an article into the given appendable.
+     * @param article the article to render
+     * @param out the destination
+     * @throws IOException if the destination cannot be appended to
+     */
+    public void render(Article article, Appendable out) throws IOException {
+        for (Segment segment : segments) {
+            segment.render(article, out);
+        }
+    }
+
+    /**
+     * Renders an article into the given builder.
+     * @param article the article to render
+     * @param out the destination
+     */
+    public void render(Article article, StringBuilder out) {
+        try {
+            render(article, (Appendable) out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Renders an article to a string.
+     * @param article the article to render
+     * @return the rendered text
+     */
+    public String render(Article article) {
+        StringBuilder out = new StringBuilder(256);
+        render(article, out);
+        return out.toString();
+    }
+
+    /**
+     * Renders one article of a columnar batch as UTF-8 without decoding its fields.
+     * @param batch the batch holding the article
+     * @param row the row index of the article
+     * @param out the destination for the encoded bytes
+     * @throws IOException if the destination cannot be written to
+     */
+    void render(ArticleBatch batch, int row, ByteSink out) throws IOException {
+        for (Segment segment : segments) {
+            segment.render(batch, row, out);
+        }
+    }
+
+    private static void addLiteral(List<Segment> segments, StringBuilder literal) {
+        if (!literal.isEmpty()) {
+            segments.add(new LiteralSegment(literal.toString()));
+            literal.setLength(0);
+        }
+    }
+
+    private interface Segment {
+        void render(Article article, Appendable out) throws IOException;
+
+        void render(ArticleBatch batch, int row, ByteSink out) throws IOException;
+    }
+
+    private static class LiteralSegment implements Segment {
+        private final String text;
+        private final byte[] encoded;
+
+        LiteralSegment(String text) {
+            this.text = text;
+            this.encoded = text.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void render(Article article, Appendable out) throws IOException {
+            out.append(text);
+        }
+
+        @Override
+        public void render(ArticleBatch batch, int row, ByteSink out) throws IOException {
+            out.write(encoded);
+        }
+    }
+
+    private static class FieldSegment implements Segment {
+        private final ArticleField field;
+
+        FieldSegment(ArticleField field) {
+            this.field = field;
+        }
+
+        @Override
+        public void render(Article article, Appendable out) throws IOException {
+            String value = field.get(article);
+            out.append(value != null ? value : DEFAULT_VALUE);
+        }
+
+        @Override
+        public void render(ArticleBatch batch, int row, ByteSink out) throws IOException {
+            ByteBuffer value = batch.bytes(row, field);
+            if (value != null) {
+                out.write(value);
+            } else {
+                out.write(DEFAULT_VALUE_BYTES);
+            }
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package org.article.output;
+
+import org.article.core.Article;
+import org.article.core.ArticleBatch;
+import org.article.core.ArticlePrinter;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Prints article information through a large reusable UTF-8 buffer.
+ * Articles are rendered with a precompiled template into a reused builder, encoded straight into the buffer
+ * and written to the underlying channel in large chunks, so printing does not
+ * synchronize or flush per article. Output must be drained with {@link #flush()}
+ * or {@link #close()}. Closing a printer on standard output only flushes it, so the
+ * process can still write to standard output afterwards.
+ */
+public class BufferedArticlePrinter implements ArticlePrinter, AutoCloseable {
+    /**
+     * The default size of the output buffer in bytes.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
+    private static final ArticleTemplate BASIC_WITH_SPACING = ArticleTemplate.BASIC.withTrailingBlankLine();
+
+    private final WritableByteChannel channel;
+    private final boolean ownsChannel;
+    private final ArticleTemplate template;
+    private final ByteBuffer buffer;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final StringBuilder text = new StringBuilder(1024);
+    private final ByteSink sink = new ByteSink() {
+        @Override
+        public void write(byte[] bytes) throws IOException {
+            put(bytes);
+        }
+
+        @Override
+        public void write(ByteBuffer bytes) throws IOException {
+            put(bytes);
+        }
+    };
+
+    /**
+     * Constructs a printer that writes to standard output.
+     */
+    public BufferedArticlePrinter() {
+        this(BASIC_WITH_SPACING);
+    }
+
+    /**
+     * Constructs a printer that writes to standard output with the given template.
+     * @param template the compiled template for each article, including any separator
+     */
+    public BufferedArticlePrinter(ArticleTemplate template) {
+        this(new FileOutputStream(FileDescriptor.out), DEFAULT_BUFFER_SIZE, template, false);
+    }
+
+    /**
+     * Constructs a printer that writes to the given stream.
+     * @param out the stream to write to
+     */
+    public BufferedArticlePrinter(OutputStream out) {
+        this(out, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructs a printer that writes to the given stream with a custom buffer size.
+     * @param out the stream to write to
+     * @param bufferSize the size of the output buffer in bytes
+     */
+    public BufferedArticlePrinter(OutputStream out, int bufferSize) {
+        this(out, bufferSize, BASIC_WITH_SPACING);
+    }
+
+    /**
+     * Constructs a printer that renders every article with the given template.
+     * @param out the stream to write to
+     * @param bufferSize the size of the output buffer in bytes
+     * @param template the compiled template for each article, including any separator
+     */
+    public BufferedArticlePrinter(OutputStream out, int bufferSize, ArticleTemplate template) {
+        this(out, bufferSize, template, true);
+    }
+
+    private BufferedArticlePrinter(OutputStream out, int bufferSize, ArticleTemplate template, boolean ownsChannel) {
+        this.channel = Channels.newChannel(out);
+        this.ownsChannel = ownsChannel;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        this.template = template;
+    }
+
+    /**
+     * Gets the template every article is rendered with.
+     * @return the template
+     */
+    public ArticleTemplate getTemplate() {
+        return template;
+    }
+
+    /**
+     * Appends article information rendered with this printer's template to the buffer.
+     * @param article the article to print
+     * @throws UncheckedIOException if the buffer cannot be written out
+     */
+    @Override
+    public synchronized void print(Article article) {
+        text.setLength(0);
+        template.render(article, text);
+        try {
+            encode(CharBuffer.wrap(text));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing article output", e);
+        }
+    }
+
+    /**
+     * Appends one article of a columnar batch, copying its stored UTF-8 bytes
+     * straight into the buffer without materializing the article.
+     * @param batch the batch holding the article
+     * @param row the row index of the article
+     * @throws UncheckedIOException if the buffer cannot be written out
+     */
+    public synchronized void print(ArticleBatch batch, int row) {
+        try {
+            template.render(batch, row, sink);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing article output", e);
+        }
+    }
+
+    /**
+     * Appends every article of a columnar batch in row order.
+     * @param batch the batch to print
+     * @throws UncheckedIOException if the buffer cannot be written out
+     */
+    public synchronized void printAll(ArticleBatch batch) {
+        for (int row = 0; row < batch.size(); row++) {
+            print(batch, row);
+        }
+    }
+
+    /**
+     * Writes all buffered output to the underlying channel.
+     * @throws UncheckedIOException if the output cannot be written
+     */
+    @Override
+    public synchronized void flush() {
+        try {
+            drain();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error flushing article output", e);
+        }
+    }
+
+    /**
+     * Flushes buffered output and closes the underlying channel, unless it is standard output.
+     * @throws UncheckedIOException if the output cannot be written or closed
+     */
+    @Override
+    public synchronized void close() {
+        try {
+            drain();
+            if (ownsChannel) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error closing article output", e);
+        }
+    }
+
+    private void encode(CharBuffer chars) throws IOException {
+        encoder.reset();
+        while (encoder.encode(chars, buffer, true).isOverflow()) {
+            drain();
+        }
+        while (encoder.flush(buffer).isOverflow()) {
+            drain();
+        }
+    }
+
+    private void put(byte[] bytes) throws IOException {
+        int offset = 0;
+        while (offset < bytes.length) {
+            if (!buffer.hasRemaining()) {
+                drain();
+            }
+            int length = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    private void put(ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            if (!buffer.hasRemaining()) {
+                drain();
+            }
+            int length = Math.min(buffer.remaining(), bytes.remaining());
+            buffer.put(buffer.position(), bytes, bytes.position(), length);
+            buffer.position(buffer.position() + length);
+            bytes.position(bytes.position() + length);
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,25 @@
+package org.article.output;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Destination for already encoded UTF-8 output.
+ */
+interface ByteSink {
+    /**
+     * Writes all of the given bytes.
+     *
+     * @param bytes the bytes to write
+     * @throws IOException if the bytes cannot be written
+     */
+    void write(byte[] bytes) throws IOException;
+
+    /**
+     * Writes the remaining bytes of the given buffer.
+     *
+     * @param bytes the buffer to drain
+     * @throws IOException if the bytes cannot be written
+     */
+    void write(ByteBuffer bytes) throws IOException;
+}
@@ -0,0 +1,100 @@
+package org.article.parser;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * Finds where a large JSON array in a file can be cut into slices of whole elements.
+ * The bytes after the opening bracket are read in large blocks and classified by a
+ * {@link StructuralScanner}, so only the brackets, braces and commas outside strings
+ * are visited one by one. A slice is cut at the first element-separating comma after
+ * it has reached the target size. Nothing is bound or validated here; malformed
+ * elements are left for the parser of their slice to report.
+ */
+final class ArraySlicer {
+    private static final int READ_SIZE = 1024 * 1024;
+
+    private ArraySlicer() {
+    }
+
+    /**
+     * Scans an array and returns the offsets of the bytes that end its slices.
+     * Slice i spans from just after separator i - 1 (or the opening bracket) up to
+     * separator i, exclusive; the last separator is the closing bracket.
+     *
+     * @param channel the open file
+     * @param contentStart the offset just after the array's opening bracket
+     * @param sliceSize the number of bytes after which a slice is cut at the next separator
+     * @return the offsets of the separating commas chosen as cuts, followed by the closing bracket
+     * @throws IOException if the file cannot be read or the array is not closed
+     */
+    static long[] separators(FileChannel channel, long contentStart, long sliceSize) throws IOException {
+        long[] separators = new long[16];
+        int count = 0;
+        byte[] block = new byte[READ_SIZE];
+        StructuralScanner scanner = new StructuralScanner();
+        long sliceStart = contentStart;
+        long position = contentStart;
+        int depth = 0;
+        while (true) {
+            int read = readFully(channel, ByteBuffer.wrap(block), position);
+            if (read == 0) {
+                throw new EOFException("Unterminated array starting at byte " + (contentStart - 1));
+            }
+            int padded = Math.ceilDiv(read, StructuralScanner.BLOCK_SIZE) * StructuralScanner.BLOCK_SIZE;
+            Arrays.fill(block, read, padded, (byte) ' ');
+            for (int offset = 0; offset < padded; offset += StructuralScanner.BLOCK_SIZE) {
+                long structurals = scanner.next(block, offset);
+                while (structurals != 0) {
+                    int index = offset + Long.numberOfTrailingZeros(structurals);
+                    structurals &= structurals - 1;
+                    switch (block[index]) {
+                        case '{', '[' -> depth++;
+                        case '}', ']' -> {
+                            if (depth == 0) {
+                                separators = grow(separators, count);
+                                separators[count++] = position + index;
+                                return Arrays.copyOf(separators, count);
+                            }
+                            depth--;
+                        }
+                        case ',' -> {
+                            if (depth == 0 && position + index - sliceStart >= sliceSize) {
+                                separators = grow(separators, count);
+                                separators[count++] = position + index;
+                                sliceStart = position + index + 1;
+                            }
+                        }
+                        default -> {
+                        }
+                    }
+                }
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * Reads from a position until the buffer is full or the file ends.
+     *
+     * @return the number of bytes read, 0 at the end of the file
+     */
+    private static int readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
+    private static long[] grow(long[] values, int count) {
+        return count < values.length ? values : Arrays.copyOf(values, values.length * 2);
+    }
+}
@@ -0,0 +1,119 @@
+package org.article.parser;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import org.article.core.Article;
+import org.article.core.ArticleField;
+import org.article.core.Source;
+import java.io.IOException;
+import java.io.Serial;
+import java.util.Set;
+
+/**
+ * Reads an {@link Article} and calls its constructor directly.
+ * Fields are expected in the order the NewsAPI writes them; the nested source is read
+ * by a {@link SourceDeserializer} without a lookup through the context, and the author
+ * is shared through the same dictionary. Unknown fields are reported to the context, so
+ * they fail or are skipped according to the mapper's settings, as with the reflective binding.
+ * <p>
+ * Fields outside the projection are skipped without being decoded and left null. The
+ * parser decodes a string only when its text is requested, so a skipped content or image
+ * URL costs a scan for its closing quote but no character conversion or allocation. The
+ * source is read if either of its fields is projected.
+ * </p>
+ */
+class ArticleDeserializer extends StreamingDeserializer<Article> {
+    @Serial
+    private static final long serialVersionUID = 1L;
+    private static final int SOURCE = 0;
+    private static final int AUTHOR = 1;
+    private static final int TITLE = 2;
+    private static final int DESCRIPTION = 3;
+    private static final int URL = 4;
+    private static final int URL_TO_IMAGE = 5;
+    private static final int PUBLISHED_AT = 6;
+    private static final int CONTENT = 7;
+
+    private final SourceDeserializer sourceDeserializer;
+    private final transient ArticleDictionary dictionary;
+    private final boolean[] projected;
+
+    /**
+     * Constructs an article deserializer.
+     *
+     * @param sourceDeserializer the deserializer of the nested source
+     * @param dictionary the dictionary sharing equal authors
+     * @param projection the fields to decode; the others are skipped and left null
+     */
+    ArticleDeserializer(SourceDeserializer sourceDeserializer, ArticleDictionary dictionary,
+                        Set<ArticleField> projection) {
+        this(sourceDeserializer, dictionary, project(projection));
+    }
+
+    private ArticleDeserializer(SourceDeserializer sourceDeserializer, ArticleDictionary dictionary,
+                                boolean[] projected) {
+        super(Article.class, "source", "author", "title", "description", "url", "urlToImage",
+                "publishedAt", "content");
+        this.sourceDeserializer = sourceDeserializer;
+        this.dictionary = dictionary;
+        this.projected = projected;
+    }
+
+    private static boolean[] project(Set<ArticleField> projection) {
+        boolean[] projected = new boolean[CONTENT + 1];
+        projected[SOURCE] = projection.contains(ArticleField.SOURCE_ID)
+                || projection.contains(ArticleField.SOURCE_NAME);
+        projected[AUTHOR] = projection.contains(ArticleField.AUTHOR);
+        projected[TITLE] = projection.contains(ArticleField.TITLE);
+        projected[DESCRIPTION] = projection.contains(ArticleField.DESCRIPTION);
+        projected[URL] = projection.contains(ArticleField.URL);
+        projected[URL_TO_IMAGE] = projection.contains(ArticleField.URL_TO_IMAGE);
+        projected[PUBLISHED_AT] = projection.contains(ArticleField.PUBLISHED_AT);
+        projected[CONTENT] = projection.contains(ArticleField.CONTENT);
+        return projected;
+    }
+
+    @Override
+    public Article deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        String title = null;
+        String description = null;
+        String publishedAt = null;
+        String url = null;
+        String urlToImage = null;
+        String content = null;
+        Source source = null;
+        String author = null;
+        for (int field = firstField(p, ctxt); field != END; ) {
+            String fieldName = p.currentName();
+            p.nextToken();
+            if (field != UNKNOWN && !projected[field]) {
+                p.skipChildren();
+            } else {
+                switch (field) {
+                    case SOURCE -> source = p.hasToken(JsonToken.VALUE_NULL)
+                            ? null : sourceDeserializer.deserialize(p, ctxt);
+                    case AUTHOR -> author = dictionary.string(readString(p, ctxt));
+                    case TITLE -> title = readString(p, ctxt);
+                    case DESCRIPTION -> description = readString(p, ctxt);
+                    case URL -> url = readString(p, ctxt);
+                    case URL_TO_IMAGE -> urlToImage = readString(p, ctxt);
+                    case PUBLISHED_AT -> publishedAt = readString(p, ctxt);
+                    case CONTENT -> content = readString(p, ctxt);
+                    default -> ctxt.handleUnknownProperty(p, this, Article.class, fieldName);
+                }
+            }
+            field = nextField(p, field + 1);
+        }
+        return new Article(title, description, publishedAt, url, urlToImage, content, source, author);
+    }
+
+    /**
+     * Replaces a deserialized instance, whose dictionary is not serialized, with one sharing
+     * the dictionary of its restored source deserializer.
+     */
+    @Serial
+    private Object readResolve() {
+        return new ArticleDeserializer(sourceDeserializer, sourceDeserializer.getDictionary(), projected);
+    }
+}
@@ -0,0 +1,93 @@
+package org.article.parser;
+
+import org.article.core.Source;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dictionary of the low-cardinality values of parsed articles.
+ * A feed names only a handful of outlets and authors, so the deserializers of
+ * {@link ArticleModule} look sources and authors up here while binding and share one
+ * Source instance per (id, name) pair and one string per distinct author, instead of
+ * keeping a copy per article. The dictionary is bounded; once a kind is full it is
+ * cleared and starts over with the values seen next, so a long-lived process such as
+ * watch or batch mode keeps sharing the values of the feeds it currently reads.
+ * Instances handed out before a reset stay valid but are no longer shared with later
+ * ones. It is safe to use from several threads.
+ */
+class ArticleDictionary {
+    /**
+     * The default maximum number of distinct values of each kind.
+     */
+    static final int DEFAULT_MAX_ENTRIES = 4096;
+
+    private final int maxEntries;
+    private final Map<String, String> strings = new ConcurrentHashMap<>();
+    private final Map<SourceKey, Source> sources = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a dictionary with the default bound.
+     */
+    ArticleDictionary() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Constructs a dictionary holding at most maxEntries strings and maxEntries sources.
+     */
+    ArticleDictionary(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the shared source with the given id and name, creating it on first use.
+     *
+     * @param id the source id, possibly null
+     * @param name the source name, possibly null
+     * @return the shared source
+     */
+    Source source(String id, String name) {
+        SourceKey key = new SourceKey(id, name);
+        Source shared = sources.get(key);
+        if (shared != null) {
+            return shared;
+        }
+        if (sources.size() >= maxEntries) {
+            sources.clear();
+        }
+        Source canonical = new Source(string(id), string(name));
+        Source previous = sources.putIfAbsent(key, canonical);
+        return previous != null ? previous : canonical;
+    }
+
+    /**
+     * Returns the shared string equal to the given value.
+     *
+     * @param value the value to look up, possibly null
+     * @return the shared string
+     */
+    String string(String value) {
+        if (value == null) {
+            return null;
+        }
+        String shared = strings.get(value);
+        if (shared != null) {
+            return shared;
+        }
+        if (strings.size() >= maxEntries) {
+            strings.clear();
+        }
+        shared = strings.putIfAbsent(value, value);
+        return shared != null ? shared : value;
+    }
+
+    /**
+     * Gets the number of distinct sources held.
+     */
+    int sourceCount() {
+        return sources.size();
+    }
+
+    private record SourceKey(String id, String name) {
+    }
+}
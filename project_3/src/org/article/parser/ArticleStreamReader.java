@@ -0,0 +1,160 @@
+package org.article.parser;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.article.core.Article;
+import org.article.util.ValidationDiagnostics;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Walks a JSON array, or a sequence of root-level values, token by token,
+ * binding one element at a time. Only the element currently being bound is
+ * held in memory, so the footprint does not depend on the number of elements.
+ * Elements that are neither objects nor null are handed to the element reader,
+ * which fails on them just as binding the whole input at once would.
+ *
+ * @param <T> the type each array element is bound to before conversion
+ */
+class ArticleStreamReader<T> implements Iterator<Article>, Closeable {
+    private final JsonParser jsonParser;
+    private final ObjectReader elementReader;
+    private final Function<T, Article> converter;
+    private final ValidationDiagnostics diagnostics;
+    private final String formatName;
+    private final boolean checkNulls;
+    private Article next;
+    private boolean finished;
+
+    /**
+     * Constructs a reader over the array the parser is currently positioned on,
+     * or over the root-level values that follow the parser's position.
+     *
+     * @param jsonParser the parser, positioned on a START_ARRAY token or before a root-level sequence
+     * @param elementReader the reader used to bind each array element
+     * @param converter converts a bound element into an article
+     * @param diagnostics validates the articles and counts rejections
+     * @param formatName the name of the format, used in the validation summary
+     */
+    ArticleStreamReader(JsonParser jsonParser, ObjectReader elementReader, Function<T, Article> converter,
+                        ValidationDiagnostics diagnostics, String formatName) {
+        this(jsonParser, elementReader, converter, diagnostics, formatName, false);
+    }
+
+    /**
+     * Constructs a reader that optionally counts null elements as rejected articles.
+     *
+     * @param jsonParser the parser, positioned on a START_ARRAY token or before a root-level sequence
+     * @param elementReader the reader used to bind each array element
+     * @param converter converts a bound element into an article
+     * @param diagnostics validates the articles and counts rejections
+     * @param formatName the name of the format, used in the validation summary
+     * @param checkNulls whether null elements are validated, and so rejected, instead of skipped
+     */
+    ArticleStreamReader(JsonParser jsonParser, ObjectReader elementReader, Function<T, Article> converter,
+                        ValidationDiagnostics diagnostics, String formatName, boolean checkNulls) {
+        this.jsonParser = jsonParser;
+        this.elementReader = elementReader;
+        this.converter = converter;
+        this.diagnostics = diagnostics;
+        this.formatName = formatName;
+        this.checkNulls = checkNulls;
+    }
+
+    /**
+     * Returns whether another valid article is available.
+     *
+     * @return true if {@link #next()} will return an article
+     * @throws UncheckedIOException if the underlying JSON cannot be read
+     */
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+        try {
+            next = readNextValid();
+        } catch (IOException e) {
+            finished = true;
+            throw new UncheckedIOException("Error reading article from stream", e);
+        }
+        return next != null;
+    }
+
+    /**
+     * Returns the next valid article.
+     *
+     * @return the next valid article
+     * @throws NoSuchElementException if the array has been exhausted
+     */
+    @Override
+    public Article next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Article article = next;
+        next = null;
+        return article;
+    }
+
+    /**
+     * Wraps this reader in a sequential stream that closes the parser when closed.
+     *
+     * @return a stream of valid articles
+     */
+    Stream<Article> stream() {
+        Spliterator<Article> spliterator = Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Closes the underlying JSON parser and logs the validation summary.
+     *
+     * @throws IOException if the parser cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        diagnostics.logSummary(formatName);
+        jsonParser.close();
+    }
+
+    private Article readNextValid() throws IOException {
+        JsonToken token;
+        while ((token = jsonParser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+            if (token == JsonToken.VALUE_NULL) {
+                if (checkNulls) {
+                    diagnostics.check(null);
+                }
+                continue;
+            }
+            T element = elementReader.readValue(jsonParser);
+            Article article = element != null ? converter.apply(element) : null;
+            if (diagnostics.check(article)) {
+                return article;
+            }
+        }
+        finished = true;
+        diagnostics.logSummary(formatName);
+        return null;
+    }
+}
@@ -0,0 +1,130 @@
+package org.article.parser;
+
+import org.article.core.Article;
+import org.article.core.DataSource;
+import org.article.core.Parser;
+import org.article.io.FileDataSource;
+import org.article.io.URLDataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Parser decorator that returns cached results for unchanged inputs.
+ * Files are identified by their absolute path, size and modification time, so
+ * a hit costs a single metadata lookup. URLs are identified by the URL and the
+ * ETag or Last-Modified validator of the response; on a hit the body is closed
+ * unread, and on a miss the response already opened is parsed, so the URL is
+ * never fetched twice. Responses without a validator and any other source are
+ * parsed every time.
+ * <p>
+ * Results are materialized to be cached, so {@link #stream(DataSource)} no longer
+ * streams from the input. Cached lists are unmodifiable and shared between callers.
+ * </p>
+ */
+public class CachingParser implements Parser {
+    private final Parser delegate;
+    private final ParseCache cache;
+    private final String format;
+
+    /**
+     * Constructs a caching parser.
+     * @param delegate The parser producing results on a miss
+     * @param cache The cache to look results up in
+     * @param format The input format of the delegate, so one file parsed as two formats gets two entries
+     */
+    public CachingParser(Parser delegate, ParseCache cache, String format) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.format = format;
+    }
+
+    /**
+     * Returns the cached articles of an unchanged input, or parses and caches them.
+     * Failed parses are not cached.
+     * @param source The data source to parse
+     * @return List of parsed articles
+     * @throws ParserException if the source cannot be read or parsing fails
+     */
+    @Override
+    public List<Article> parse(DataSource source) throws ParserException {
+        try {
+            if (source instanceof FileDataSource file) {
+                return parseFile(file);
+            }
+            if (source instanceof URLDataSource url) {
+                return parseUrl(url);
+            }
+            return delegate.parse(source);
+        } catch (IOException e) {
+            throw new ParserException("Error reading data source", e);
+        }
+    }
+
+    @Override
+    public Stream<Article> stream(DataSource source) throws ParserException {
+        return parse(source).stream();
+    }
+
+    @Override
+    public DataSource getDataSource() {
+        return delegate.getDataSource();
+    }
+
+    /**
+     * Gets the parser this one delegates to.
+     * @return The decorated parser
+     */
+    public Parser getDelegate() {
+        return delegate;
+    }
+
+    private List<Article> parseFile(FileDataSource file) throws IOException, ParserException {
+        Path path = Paths.get(file.getFilePath()).toAbsolutePath();
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        String key = format + ":" + path + ":" + attributes.size() + ":" + attributes.lastModifiedTime().toMillis();
+        List<Article> articles = cache.get(key);
+        if (articles == null) {
+            articles = List.copyOf(delegate.parse(file));
+            cache.put(key, articles);
+        }
+        return articles;
+    }
+
+    private List<Article> parseUrl(URLDataSource url) throws IOException, ParserException {
+        URLDataSource.Response response = url.openResponse();
+        try (InputStream body = response.body()) {
+            if (response.version() == null) {
+                return delegate.parse(new OpenedSource(body));
+            }
+            String key = format + ":" + url.getUrl() + ":" + response.version();
+            List<Article> articles = cache.get(key);
+            if (articles == null) {
+                articles = List.copyOf(delegate.parse(new OpenedSource(body)));
+                cache.put(key, articles);
+            }
+            return articles;
+        }
+    }
+
+    /**
+     * Data source over a response body that has already been opened, read at most once.
+     */
+    private record OpenedSource(InputStream body) implements DataSource {
+        @Override
+        public String getData() throws IOException {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public InputStream openStream() {
+            return body;
+        }
+    }
+}
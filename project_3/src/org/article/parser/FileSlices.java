@@ -0,0 +1,117 @@
+package org.article.parser;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.article.core.Article;
+import java.io.IOException;
+import java.io.Serial;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parses byte ranges of a file in parallel on a fork/join pool.
+ * Each range is memory-mapped and read by its own task; a run of ranges is split
+ * in halves until one is left, and the articles of all ranges are concatenated in
+ * file order. Callers choose the ranges so that none of them splits an article.
+ */
+final class FileSlices {
+    /**
+     * Reads the articles of one mapped range.
+     */
+    @FunctionalInterface
+    interface SliceReader {
+        /**
+         * Binds the articles of a range.
+         *
+         * @param slice the mapped bytes of the range
+         * @param articles the list valid articles are appended to, in order
+         * @throws IOException if the bytes cannot be bound
+         */
+        void read(ByteBuffer slice, List<Article> articles) throws IOException;
+    }
+
+    private FileSlices() {
+    }
+
+    /**
+     * Parses the ranges [starts[i], ends[i]) of a file.
+     *
+     * @param pool the pool running the tasks
+     * @param channel the open file, which must stay open until this method returns
+     * @param starts the offset where each range starts
+     * @param ends the offset where each range ends, exclusive
+     * @param prefixLength the number of bytes the reader parses ahead of each range, such as an
+     *                     opening bracket, which are not part of the file
+     * @param reader the reader binding each range
+     * @return the articles of all ranges in file order
+     * @throws UncheckedIOException if a range cannot be read or bound, naming its position in the file
+     */
+    static List<Article> parse(ForkJoinPool pool, FileChannel channel, long[] starts, long[] ends,
+                               int prefixLength, SliceReader reader) {
+        if (starts.length == 0) {
+            return List.of();
+        }
+        List<List<Article>> results = new ArrayList<>(Collections.nCopies(starts.length, null));
+        pool.invoke(new SliceTask(channel, starts, ends, prefixLength, 0, starts.length, results, reader));
+        int total = results.stream().mapToInt(List::size).sum();
+        List<Article> articles = new ArrayList<>(total);
+        for (List<Article> slice : results) {
+            articles.addAll(slice);
+        }
+        return articles;
+    }
+
+    private static class SliceTask extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+        private final transient FileChannel channel;
+        private final long[] starts;
+        private final long[] ends;
+        private final int prefixLength;
+        private final int from;
+        private final int to;
+        private final transient List<List<Article>> results;
+        private final transient SliceReader reader;
+
+        SliceTask(FileChannel channel, long[] starts, long[] ends, int prefixLength, int from, int to,
+                  List<List<Article>> results, SliceReader reader) {
+            this.channel = channel;
+            this.starts = starts;
+            this.ends = ends;
+            this.prefixLength = prefixLength;
+            this.from = from;
+            this.to = to;
+            this.results = results;
+            this.reader = reader;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new SliceTask(channel, starts, ends, prefixLength, from, middle, results, reader),
+                        new SliceTask(channel, starts, ends, prefixLength, middle, to, results, reader));
+                return;
+            }
+            long start = starts[from];
+            long end = ends[from];
+            List<Article> articles = new ArrayList<>();
+            try {
+                reader.read(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start), articles);
+            } catch (JsonProcessingException e) {
+                long offset = e.getLocation() != null
+                        ? start + Math.max(0, e.getLocation().getByteOffset() - prefixLength)
+                        : start;
+                throw new UncheckedIOException("Malformed article near byte " + offset, e);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error reading bytes " + start + " to " + end, e);
+            }
+            results.set(from, articles);
+        }
+    }
+}
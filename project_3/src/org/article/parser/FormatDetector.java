@@ -0,0 +1,147 @@
+package org.article.parser;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+/**
+ * Detects the layout of JSON article input by peeking at its first tokens.
+ * Bytes are fed to Jackson's non-blocking parser, which reports when it needs
+ * more input instead of failing, so detection never relies on exceptions and
+ * only reads as far as the first decisive token. The stream is reset afterwards.
+ */
+public class FormatDetector {
+    /**
+     * The maximum number of bytes inspected before settling on a format.
+     */
+    public static final int DEFAULT_PEEK_LIMIT = 64 * 1024;
+    private static final int CHUNK_SIZE = 4096;
+    private static final Set<String> ENVELOPE_FIELDS = Set.of("articles", "totalResults");
+    private static final Set<String> NEWSAPI_ARTICLE_FIELDS = Set.of("source", "author", "urlToImage", "content");
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * Detects the input format, inspecting at most {@link #DEFAULT_PEEK_LIMIT} bytes.
+     *
+     * @param in the input, which must support mark and reset
+     * @return the detected format
+     * @throws IOException if the input cannot be read
+     * @throws IllegalArgumentException if the input does not support mark and reset
+     */
+    public static InputFormat detect(InputStream in) throws IOException {
+        return detect(in, DEFAULT_PEEK_LIMIT);
+    }
+
+    /**
+     * Detects the input format and resets the input to where it started.
+     *
+     * @param in the input, which must support mark and reset
+     * @param peekLimit the maximum number of bytes to inspect
+     * @return the detected format
+     * @throws IOException if the input cannot be read
+     * @throws IllegalArgumentException if the input does not support mark and reset
+     */
+    public static InputFormat detect(InputStream in, int peekLimit) throws IOException {
+        if (!in.markSupported()) {
+            throw new IllegalArgumentException("Format detection requires a stream that supports mark/reset");
+        }
+        in.mark(peekLimit);
+        try (JsonParser parser = JSON_FACTORY.createNonBlockingByteArrayParser()) {
+            return scan(in, parser, peekLimit);
+        } finally {
+            in.reset();
+        }
+    }
+
+    /**
+     * Detects which parser format reads a file, by the names the parser configurations use.
+     *
+     * @param file the file to inspect
+     * @return "newsapi" for NewsAPI responses, "ndjson" for lines of NewsAPI articles, "simple"
+     *         for simple articles, or null if the file cannot be read or its layout is not recognized
+     */
+    public static String detectParserFormat(Path file) {
+        try (InputStream data = new BufferedInputStream(Files.newInputStream(file))) {
+            return switch (detect(data)) {
+                case NEWSAPI_ENVELOPE -> "newsapi";
+                case LINE_DELIMITED -> isNewsApiArticle(data) ? "ndjson" : "simple";
+                case SINGLE_OBJECT, ARRAY -> "simple";
+                case UNKNOWN -> null;
+            };
+        } catch (IOException e) {
+            // Unreadable input is reported by the parser itself.
+            return null;
+        }
+    }
+
+    /**
+     * Returns whether the first object of the input has a field only NewsAPI articles have.
+     */
+    private static boolean isNewsApiArticle(InputStream in) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return false;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                if (NEWSAPI_ARTICLE_FIELDS.contains(parser.currentName())) {
+                    return true;
+                }
+                parser.nextToken();
+                parser.skipChildren();
+            }
+            return false;
+        }
+    }
+
+    private static InputFormat scan(InputStream in, JsonParser parser, int peekLimit) throws IOException {
+        ByteArrayFeeder feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        byte[] chunk = new byte[CHUNK_SIZE];
+        int remaining = peekLimit;
+        int depth = 0;
+        boolean firstValueClosed = false;
+
+        while (true) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.NOT_AVAILABLE) {
+                int n = remaining > 0 ? in.read(chunk, 0, Math.min(chunk.length, remaining)) : -1;
+                if (n > 0) {
+                    remaining -= n;
+                    feeder.feedInput(chunk, 0, n);
+                } else if (n < 0 && remaining > 0) {
+                    feeder.endOfInput();
+                } else {
+                    // Peek limit reached before anything decisive: treat as one large object.
+                    return depth > 0 || firstValueClosed ? InputFormat.SINGLE_OBJECT : InputFormat.UNKNOWN;
+                }
+                continue;
+            }
+            if (token == null) {
+                return firstValueClosed ? InputFormat.SINGLE_OBJECT : InputFormat.UNKNOWN;
+            }
+            if (firstValueClosed) {
+                return token == JsonToken.START_OBJECT ? InputFormat.LINE_DELIMITED : InputFormat.SINGLE_OBJECT;
+            }
+            if (depth == 0 && token == JsonToken.START_ARRAY) {
+                return InputFormat.ARRAY;
+            }
+            if (depth == 0 && token != JsonToken.START_OBJECT) {
+                return InputFormat.UNKNOWN;
+            }
+            if (depth == 1 && token == JsonToken.FIELD_NAME && ENVELOPE_FIELDS.contains(parser.currentName())) {
+                return InputFormat.NEWSAPI_ENVELOPE;
+            }
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd() && --depth == 0) {
+                firstValueClosed = true;
+            }
+        }
+    }
+}
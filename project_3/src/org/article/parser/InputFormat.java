@@ -0,0 +1,31 @@
+package org.article.parser;
+
+/**
+ * Layouts of JSON article input recognized by {@link FormatDetector}.
+ */
+public enum InputFormat {
+    /**
+     * A single article object.
+     */
+    SINGLE_OBJECT,
+
+    /**
+     * A JSON array of article objects.
+     */
+    ARRAY,
+
+    /**
+     * A NewsAPI response object wrapping an articles array.
+     */
+    NEWSAPI_ENVELOPE,
+
+    /**
+     * One article object per line (JSON Lines / NDJSON).
+     */
+    LINE_DELIMITED,
+
+    /**
+     * Empty or unrecognized input.
+     */
+    UNKNOWN
+}
@@ -0,0 +1,245 @@
+package org.article.parser;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.article.core.Article;
+import org.article.core.DataSource;
+import org.article.core.Parser;
+import org.article.io.FileDataSource;
+import org.article.io.MappedInputStream;
+import org.article.util.ArticleLogger;
+import org.article.util.ArticleValidator;
+import org.article.util.ValidationDiagnostics;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Parses JSON Lines (NDJSON) input: one NewsAPI article object per line.
+ * <p>
+ * Files are split into chunks of roughly the chunk size, each ending on a newline,
+ * and the chunks are memory-mapped and parsed in parallel on a fork/join pool.
+ * Every worker binds with the same immutable Jackson reader, so no per-article
+ * setup is repeated, and the articles are merged back in file order. Since a JSON
+ * string cannot contain a raw newline, a chunk boundary never splits an article;
+ * pretty-printed objects spanning several lines are not supported. A {@code null}
+ * line counts as a rejected article; any other line that is not an object fails
+ * the parse, whether the input is parsed or streamed. Other sources
+ * are parsed sequentially, and every source, files included, is streamed one line
+ * at a time.
+ * </p>
+ */
+public abstract class NdjsonParser implements Parser {
+    /**
+     * The default number of bytes parsed by one task.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+    static final String FORMAT_NAME = "NDJSON";
+    private static final int BOUNDARY_SCAN_SIZE = 64 * 1024;
+
+    private final JsonFactory jsonFactory;
+    private final ObjectReader articleReader;
+    private final ArticleValidator validator;
+    private final ArticleLogger logger;
+    private final int sampleInterval;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    /**
+     * Constructs an NDJSON parser with the provided dependencies.
+     *
+     * @param objectMapper the object mapper to use for parsing JSON
+     * @param validator the validator to use for validating articles
+     * @param logger the logger to use for logging messages
+     */
+    public NdjsonParser(ObjectMapper objectMapper, ArticleValidator validator, ArticleLogger logger) {
+        this(objectMapper, validator, logger, ValidationDiagnostics.DEFAULT_SAMPLE_INTERVAL);
+    }
+
+    /**
+     * Constructs an NDJSON parser that parses files on the common fork/join pool.
+     *
+     * @param objectMapper the object mapper to use for parsing JSON
+     * @param validator the validator to use for validating articles
+     * @param logger the logger to use for logging messages
+     * @param sampleInterval log every n-th rejected article of each reason in detail; 0 logs only the summary
+     */
+    public NdjsonParser(ObjectMapper objectMapper, ArticleValidator validator, ArticleLogger logger,
+                        int sampleInterval) {
+        this(objectMapper, validator, logger, sampleInterval, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructs an NDJSON parser with an explicit pool and chunk size.
+     *
+     * @param objectMapper the object mapper to use for parsing JSON
+     * @param validator the validator to use for validating articles
+     * @param logger the logger to use for logging messages
+     * @param sampleInterval log every n-th rejected article of each reason in detail; 0 logs only the summary
+     * @param pool the pool that parses the chunks of a file
+     * @param chunkSize the number of bytes parsed by one task, extended to the end of its last line
+     * @throws IllegalArgumentException if chunkSize is not positive
+     */
+    public NdjsonParser(ObjectMapper objectMapper, ArticleValidator validator, ArticleLogger logger,
+                        int sampleInterval, ForkJoinPool pool, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.jsonFactory = objectMapper.getFactory();
+        this.articleReader = objectMapper.readerFor(Article.class);
+        this.validator = validator;
+        this.logger = logger;
+        this.sampleInterval = sampleInterval;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Parses all articles of the source, in parallel if it is a file.
+     *
+     * @param source the data source to parse
+     * @return the valid articles in source order
+     * @throws ParserException if the source cannot be read or a line is neither a JSON object nor null
+     */
+    @Override
+    public List<Article> parse(DataSource source) throws ParserException {
+        ValidationDiagnostics diagnostics = newDiagnostics();
+        try {
+            if (source instanceof FileDataSource file) {
+                return parseFile(file.getFilePath(), diagnostics);
+            }
+            List<Article> articles = new ArrayList<>();
+            try (JsonParser jsonParser = jsonFactory.createParser(source.openStream())) {
+                readArticles(jsonParser, diagnostics, articles);
+            }
+            return articles;
+        } catch (UncheckedIOException e) {
+            logger.error("Failed to parse NDJSON format", e);
+            throw new ParserException("Error parsing NDJSON format", e);
+        } catch (IOException e) {
+            logger.error("Error reading data from source", e);
+            throw new ParserException("Error reading source data", e);
+        } finally {
+            diagnostics.logSummary(FORMAT_NAME);
+        }
+    }
+
+    /**
+     * Streams the articles of the source.
+     * The source is read one line at a time as the stream is consumed, so memory use
+     * does not grow with the number of articles. Files are not split into chunks here;
+     * only {@link #parse(DataSource)} parses them in parallel.
+     *
+     * @param source the data source to parse
+     * @return a stream of valid articles, which must be closed once consumed
+     * @throws ParserException if the source cannot be opened
+     */
+    @Override
+    public Stream<Article> stream(DataSource source) throws ParserException {
+        try {
+            JsonParser jsonParser = jsonFactory.createParser(source.openStream());
+            return new ArticleStreamReader<Article>(jsonParser, articleReader, Function.identity(),
+                    newDiagnostics(), FORMAT_NAME, true).stream();
+        } catch (IOException e) {
+            logger.error("Error reading data from source", e);
+            throw new ParserException("Error reading source data", e);
+        }
+    }
+
+    private ValidationDiagnostics newDiagnostics() {
+        return new ValidationDiagnostics(validator, logger, sampleInterval);
+    }
+
+    /**
+     * Splits a file into newline-aligned chunks and parses them on the pool.
+     *
+     * @param filePath the file to parse
+     * @param diagnostics the diagnostics shared by all chunks
+     * @return the valid articles in file order
+     * @throws IOException if the file cannot be read
+     * @throws UncheckedIOException if a chunk cannot be parsed
+     */
+    private List<Article> parseFile(String filePath, ValidationDiagnostics diagnostics) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            long[] bounds = chunkBounds(channel);
+            return FileSlices.parse(pool, channel, Arrays.copyOf(bounds, bounds.length - 1),
+                    Arrays.copyOfRange(bounds, 1, bounds.length), 0, (chunk, articles) -> {
+                        try (JsonParser jsonParser = jsonFactory.createParser(new MappedInputStream(List.of(chunk)))) {
+                            readArticles(jsonParser, diagnostics, articles);
+                        }
+                    });
+        }
+    }
+
+    /**
+     * Computes the chunk boundaries of a file.
+     * Each boundary except the first and last lies just after a newline.
+     *
+     * @param channel the open file
+     * @return the ascending offsets where chunks start, followed by the file size
+     * @throws IOException if the file cannot be read
+     */
+    private long[] chunkBounds(FileChannel channel) throws IOException {
+        long size = channel.size();
+        List<Long> bounds = new ArrayList<>();
+        ByteBuffer scan = ByteBuffer.allocate(BOUNDARY_SCAN_SIZE);
+        long position = 0;
+        while (position < size) {
+            bounds.add(position);
+            position = nextLineStart(channel, position + chunkSize, size, scan);
+        }
+        bounds.add(size);
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static long nextLineStart(FileChannel channel, long from, long size, ByteBuffer scan)
+            throws IOException {
+        long position = from;
+        while (position < size) {
+            scan.clear();
+            int read = channel.read(scan, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    /**
+     * Binds the article objects that follow the parser's position until the input ends.
+     * Null values are counted as rejected articles; other non-object values fail to bind.
+     *
+     * @param jsonParser the parser positioned before a sequence of root-level values
+     * @param diagnostics the diagnostics of the current parse
+     * @param articles the list valid articles are appended to
+     * @throws IOException if the input cannot be read or a value is neither an object nor null
+     */
+    private void readArticles(JsonParser jsonParser, ValidationDiagnostics diagnostics, List<Article> articles)
+            throws IOException {
+        JsonToken token;
+        while ((token = jsonParser.nextToken()) != null) {
+            Article article = token == JsonToken.VALUE_NULL ? null : articleReader.readValue(jsonParser);
+            if (diagnostics.check(article)) {
+                articles.add(article);
+            }
+        }
+    }
+}
@@ -1,21 +1,64 @@
 package org.article.parser;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import org.article.core.DataSource;
 import org.article.core.Parser;
+import org.article.io.FileDataSource;
+import org.article.io.MappedInputStream;
 import org.article.util.ArticleLogger;
 import org.article.core.Article;
 import org.article.util.ArticleValidator;
+import org.article.util.ValidationDiagnostics;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Parses data from the NewsAPI format.
+ * <p>
+ * Files of at least the parallel threshold are parsed in parallel: the envelope is
+ * walked up to the articles array, the array is scanned once for element boundaries
+ * and cut into slices of whole articles, and the slices are bound and validated on a
+ * fork/join pool before being joined back in file order. In that mode the envelope
+ * after the articles array is not read. Streaming never takes the parallel path, so
+ * memory use while streaming does not grow with the size of the input.
+ * </p>
  */
 public abstract class NewsApiParser implements Parser {
+    /**
+     * Files at or above this size are parsed in parallel when no threshold is given.
+     */
+    public static final long DEFAULT_PARALLEL_THRESHOLD = FileDataSource.DEFAULT_MAP_THRESHOLD;
+
+    /**
+     * The default number of array bytes bound by one task in parallel mode.
+     */
+    public static final int DEFAULT_SLICE_SIZE = 4 * 1024 * 1024;
+    static final String FORMAT_NAME = "NewsAPI";
+    private static final String ARTICLES_FIELD = "articles";
+    private static final ByteBuffer ARRAY_START = ByteBuffer.wrap(new byte[] {'['});
+    private static final ByteBuffer ARRAY_END = ByteBuffer.wrap(new byte[] {']'});
     private final ObjectMapper objectMapper;
     private final ArticleValidator validator;
     private final ArticleLogger logger;
+    private final int sampleInterval;
+    private final ForkJoinPool pool;
+    private final long parallelThreshold;
+    private final int sliceSize;
 
     /**
      * Constructs a NewsAPI parser with the provided dependencies.
@@ -25,33 +68,157 @@ public abstract class NewsApiParser implements Parser {
      * @param logger the logger to use for logging messages
      */
     public NewsApiParser(ObjectMapper objectMapper, ArticleValidator validator, ArticleLogger logger) {
+        this(objectMapper, validator, logger, ValidationDiagnostics.DEFAULT_SAMPLE_INTERVAL);
+    }
+
+    /**
+     * Constructs a NewsAPI parser with the provided dependencies.
+     *
+     * @param objectMapper the object mapper to use for parsing JSON
+     * @param validator the validator to use for validating articles
+     * @param logger the logger to use for logging messages
+     * @param sampleInterval log every n-th rejected article of each reason in detail; 0 logs only the summary
+     */
+    public NewsApiParser(ObjectMapper objectMapper, ArticleValidator validator, ArticleLogger logger,
+                         int sampleInterval) {
+        this(objectMapper, validator, logger, sampleInterval, ForkJoinPool.commonPool(),
+                DEFAULT_PARALLEL_THRESHOLD, DEFAULT_SLICE_SIZE);
+    }
+
+    /**
+     * Constructs a NewsAPI parser with explicit settings for parsing large files in parallel.
+     *
+     * @param objectMapper the object mapper to use for parsing JSON
+     * @param validator the validator to use for validating articles
+     * @param logger the logger to use for logging messages
+     * @param sampleInterval log every n-th rejected article of each reason in detail; 0 logs only the summary
+     * @param pool the pool that binds the slices of a large file
+     * @param parallelThreshold the file size at which parsing switches to parallel mode
+     * @param sliceSize the number of array bytes bound by one task, extended to the end of its last article
+     * @throws IllegalArgumentException if sliceSize is not positive
+     */
+    public NewsApiParser(ObjectMapper objectMapper, ArticleValidator validator, ArticleLogger logger,
+                         int sampleInterval, ForkJoinPool pool, long parallelThreshold, int sliceSize) {
+        if (sliceSize < 1) {
+            throw new IllegalArgumentException("Slice size must be positive");
+        }
         this.objectMapper = objectMapper;
         this.validator = validator;
         this.logger = logger;
+        this.sampleInterval = sampleInterval;
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+        this.sliceSize = sliceSize;
     }
 
     @Override
     public List<Article> parse(DataSource source) throws ParserException {
+        if (source instanceof FileDataSource file && isParallel(Paths.get(file.getFilePath()))) {
+            return parseParallel(Paths.get(file.getFilePath()));
+        }
+        ValidationDiagnostics diagnostics = newDiagnostics();
+        List<Article> articles = validArticles(readResponse(source), diagnostics);
+        diagnostics.logSummary(FORMAT_NAME);
+        return articles;
+    }
+
+    private boolean isParallel(Path file) {
         try {
-            String data = source.getData();
-            NewsApiResponse response = objectMapper.readValue(data, NewsApiResponse.class);
+            return Files.size(file) >= parallelThreshold;
+        } catch (IOException e) {
+            return false;
+        }
+    }
 
-            if (response == null || response.getArticles() == null) {
+    /**
+     * Parses the articles array of a file in slices on the pool.
+     *
+     * @param file the file holding a NewsAPI response
+     * @return the valid articles in file order
+     * @throws ParserException if the file cannot be read or an article cannot be bound
+     */
+    private List<Article> parseParallel(Path file) throws ParserException {
+        ValidationDiagnostics diagnostics = newDiagnostics();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long arrayStart = findArticlesArray(file);
+            if (arrayStart < 0) {
                 logger.error("Failed to parse NewsAPI response - null response or articles",
                         new IllegalStateException("Null response data"));
                 return List.of();
             }
+            long[] ends = ArraySlicer.separators(channel, arrayStart + 1, sliceSize);
+            long[] starts = new long[ends.length];
+            starts[0] = arrayStart + 1;
+            for (int i = 1; i < ends.length; i++) {
+                starts[i] = ends[i - 1] + 1;
+            }
+            ObjectReader articleReader = objectMapper.readerFor(Article.class);
+            List<Article> articles = FileSlices.parse(pool, channel, starts, ends, ARRAY_START.remaining(),
+                    (slice, valid) -> readSlice(slice, articleReader, diagnostics, valid));
+            diagnostics.logSummary(FORMAT_NAME);
+            return articles;
+        } catch (IOException e) {
+            logger.error("Error reading data from source", e);
+            throw new ParserException("Error parsing NewsAPI format", e);
+        } catch (UncheckedIOException e) {
+            logger.error("Error parsing NewsAPI data", e);
+            throw new ParserException("Error parsing NewsAPI format", e);
+        }
+    }
+
+    /**
+     * Finds the opening bracket of the top-level articles array.
+     *
+     * @param file the file holding a NewsAPI response
+     * @return the byte offset of the bracket, or -1 if the response has no articles array
+     * @throws IOException if the envelope cannot be read
+     */
+    private long findArticlesArray(Path file) throws IOException {
+        try (JsonParser jsonParser = objectMapper.getFactory().createParser(Files.newInputStream(file))) {
+            return seekArticlesArray(jsonParser) ? jsonParser.currentTokenLocation().getByteOffset() : -1;
+        }
+    }
+
+    /**
+     * Binds the articles of one slice of the articles array.
+     * The slice holds whole elements separated by commas, so it is read as an array of its own.
+     * Null elements are rejected articles; any other non-object element fails to bind, as in a
+     * sequential parse.
+     */
+    private void readSlice(ByteBuffer slice, ObjectReader articleReader, ValidationDiagnostics diagnostics,
+                           List<Article> articles) throws IOException {
+        try (JsonParser jsonParser = objectMapper.getFactory().createParser(
+                new MappedInputStream(List.of(ARRAY_START, slice, ARRAY_END)))) {
+            jsonParser.nextToken();
+            JsonToken token;
+            while ((token = jsonParser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+                Article article = token == JsonToken.VALUE_NULL ? null : articleReader.readValue(jsonParser);
+                if (diagnostics.check(article)) {
+                    articles.add(article);
+                }
+            }
+        }
+    }
 
-            return response.getArticles()
-                    .stream()
-                    .filter(article -> {
-                        boolean isValid = validator.isValid(article);
-                        if (!isValid) {
-                            logger.warning("Article is missing required fields and will be skipped.");
-                        }
-                        return isValid;
-                    })
-                    .toList();
+    /**
+     * Creates the diagnostics that validate and count the articles of one parse.
+     *
+     * @return new diagnostics for a parse
+     */
+    ValidationDiagnostics newDiagnostics() {
+        return new ValidationDiagnostics(validator, logger, sampleInterval);
+    }
+
+    /**
+     * Binds a complete NewsAPI response from the source.
+     *
+     * @param source the data source to read
+     * @return the bound response, possibly null
+     * @throws ParserException if the source cannot be read or bound
+     */
+    NewsApiResponse readResponse(DataSource source) throws ParserException {
+        try (InputStream data = source.openStream()) {
+            return objectMapper.readValue(data, NewsApiResponse.class);
         } catch (IOException e) {
             logger.error("Error reading data from source", e);
             throw new ParserException("Error parsing NewsAPI format", e);
@@ -60,4 +227,95 @@ public abstract class NewsApiParser implements Parser {
             throw new ParserException("Error parsing NewsAPI format", e);
         }
     }
+
+    /**
+     * Filters the articles of a response down to those that pass validation.
+     *
+     * @param response the bound response, possibly null
+     * @param diagnostics the diagnostics of the current parse
+     * @return the valid articles in order, or an empty list if the response has none
+     */
+    List<Article> validArticles(NewsApiResponse response, ValidationDiagnostics diagnostics) {
+        if (response == null || response.getArticles() == null) {
+            logger.error("Failed to parse NewsAPI response - null response or articles",
+                    new IllegalStateException("Null response data"));
+            return List.of();
+        }
+        return response.getArticles()
+                .stream()
+                .filter(diagnostics::check)
+                .toList();
+    }
+
+    /**
+     * Streams the articles of a NewsAPI response without binding the whole response.
+     * The envelope is walked token by token until the articles array is reached,
+     * after which each article is bound and validated as the stream is consumed.
+     * Files at or above the parallel threshold are streamed the same way; only
+     * {@link #parse(DataSource)} binds them in parallel slices.
+     *
+     * @param source the data source to parse
+     * @return a stream of valid articles, which must be closed once consumed
+     * @throws ParserException if the source cannot be read or is not a NewsAPI response
+     */
+    @Override
+    public Stream<Article> stream(DataSource source) throws ParserException {
+        JsonParser jsonParser = null;
+        try {
+            jsonParser = objectMapper.getFactory().createParser(source.openStream());
+            if (!seekArticlesArray(jsonParser)) {
+                jsonParser.close();
+                logger.error("Failed to parse NewsAPI response - null response or articles",
+                        new IllegalStateException("Null response data"));
+                return Stream.empty();
+            }
+            return new ArticleStreamReader<Article>(jsonParser, objectMapper.readerFor(Article.class),
+                    Function.identity(), newDiagnostics(), FORMAT_NAME, true).stream();
+        } catch (IOException e) {
+            closeQuietly(jsonParser);
+            logger.error("Error reading data from source", e);
+            throw new ParserException("Error parsing NewsAPI format", e);
+        } catch (Exception e) {
+            closeQuietly(jsonParser);
+            logger.error("Error parsing NewsAPI data", e);
+            throw new ParserException("Error parsing NewsAPI format", e);
+        }
+    }
+
+    /**
+     * Advances the parser to the start of the top-level articles array.
+     *
+     * @param jsonParser the parser positioned before the response object
+     * @return true if the parser is now on the articles START_ARRAY token
+     * @throws IOException if the envelope is not a JSON object or cannot be read
+     */
+    private boolean seekArticlesArray(JsonParser jsonParser) throws IOException {
+        JsonToken token = jsonParser.nextToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(jsonParser, "Expected a NewsAPI response object but found " + token);
+        }
+        while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = jsonParser.currentName();
+            JsonToken value = jsonParser.nextToken();
+            if (ARTICLES_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                return true;
+            }
+            jsonParser.skipChildren();
+        }
+        return false;
+    }
+
+    private void closeQuietly(JsonParser jsonParser) {
+        if (jsonParser == null) {
+            return;
+        }
+        try {
+            jsonParser.close();
+        } catch (IOException e) {
+            logger.error("Error closing JSON parser", e);
+        }
+    }
 }
@@ -26,6 +26,24 @@ public class NewsApiResponse {
     @JsonProperty("articles")
     private List<Article> articles;
 
+    /**
+     * Constructs an empty response, to be filled in by Jackson.
+     */
+    public NewsApiResponse() {
+    }
+
+    /**
+     * Constructs a response with the provided fields.
+     *
+     * @param status the status of the response
+     * @param totalResults the total number of results
+     * @param articles the articles of the response
+     */
+    NewsApiResponse(String status, int totalResults, List<Article> articles) {
+        this.status = status;
+        this.totalResults = totalResults;
+        this.articles = articles;
+    }
 
     /**
      * Returns the status of the response.
@@ -0,0 +1,69 @@
+package org.article.parser;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import org.article.core.Article;
+import java.io.IOException;
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a {@link NewsApiResponse} and calls its constructor directly.
+ * The articles are read by an {@link ArticleDeserializer} without a lookup through the
+ * context, and null elements are kept. Unknown fields are skipped, as the class declares.
+ */
+class NewsApiResponseDeserializer extends StreamingDeserializer<NewsApiResponse> {
+    @Serial
+    private static final long serialVersionUID = 1L;
+    private static final int STATUS = 0;
+    private static final int TOTAL_RESULTS = 1;
+    private static final int ARTICLES = 2;
+
+    private final ArticleDeserializer articleDeserializer;
+
+    /**
+     * Constructs a response deserializer.
+     *
+     * @param articleDeserializer the deserializer of the articles
+     */
+    NewsApiResponseDeserializer(ArticleDeserializer articleDeserializer) {
+        super(NewsApiResponse.class, "status", "totalResults", "articles");
+        this.articleDeserializer = articleDeserializer;
+    }
+
+    @Override
+    public NewsApiResponse deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        String status = null;
+        int totalResults = 0;
+        List<Article> articles = null;
+        for (int field = firstField(p, ctxt); field != END; ) {
+            p.nextToken();
+            switch (field) {
+                case STATUS -> status = readString(p, ctxt);
+                case TOTAL_RESULTS -> totalResults = _parseIntPrimitive(p, ctxt);
+                case ARTICLES -> articles = readArticles(p, ctxt);
+                default -> p.skipChildren();
+            }
+            field = nextField(p, field + 1);
+        }
+        return new NewsApiResponse(status, totalResults, articles);
+    }
+
+    private List<Article> readArticles(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        if (!p.isExpectedStartArrayToken()) {
+            ctxt.handleUnexpectedToken(List.class, p);
+            return null;
+        }
+        List<Article> articles = new ArrayList<>();
+        JsonToken token;
+        while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+            articles.add(token == JsonToken.VALUE_NULL ? null : articleDeserializer.deserialize(p, ctxt));
+        }
+        return articles;
+    }
+}
@@ -0,0 +1,237 @@
+package org.article.parser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.article.core.Article;
+import org.article.core.DataSource;
+import org.article.util.ArticleLogger;
+import org.article.util.ArticleValidator;
+import org.article.util.ValidationDiagnostics;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Parses every page of a paginated NewsAPI query.
+ * The first page's totalResults determines how many further {@code page=} requests
+ * are needed; those are fetched concurrently within a bounded in-flight window and
+ * their articles are returned in page order.
+ */
+public abstract class PaginatedNewsApiParser extends NewsApiParser {
+    private static final String PAGE_PARAM = "page";
+    private static final String PAGE_SIZE_PARAM = "pageSize";
+
+    private final String url;
+    private final Function<String, DataSource> pageSources;
+    private final int maxInFlight;
+
+    /**
+     * Constructs a paginated NewsAPI parser.
+     *
+     * @param objectMapper the object mapper to use for parsing JSON
+     * @param validator the validator to use for validating articles
+     * @param logger the logger to use for logging messages
+     * @param url the URL of the first page to fetch
+     * @param pageSources creates the data source for a page URL
+     * @param maxInFlight the maximum number of pages fetched at once
+     * @throws IllegalArgumentException if maxInFlight is not positive
+     */
+    public PaginatedNewsApiParser(ObjectMapper objectMapper, ArticleValidator validator, ArticleLogger logger,
+                                  String url, Function<String, DataSource> pageSources, int maxInFlight) {
+        this(objectMapper, validator, logger, ValidationDiagnostics.DEFAULT_SAMPLE_INTERVAL,
+                url, pageSources, maxInFlight);
+    }
+
+    /**
+     * Constructs a paginated NewsAPI parser.
+     *
+     * @param objectMapper the object mapper to use for parsing JSON
+     * @param validator the validator to use for validating articles
+     * @param logger the logger to use for logging messages
+     * @param sampleInterval log every n-th rejected article of each reason in detail; 0 logs only the summary
+     * @param url the URL of the first page to fetch
+     * @param pageSources creates the data source for a page URL
+     * @param maxInFlight the maximum number of pages fetched at once
+     * @throws IllegalArgumentException if maxInFlight is not positive
+     */
+    public PaginatedNewsApiParser(ObjectMapper objectMapper, ArticleValidator validator, ArticleLogger logger,
+                                  int sampleInterval, String url, Function<String, DataSource> pageSources,
+                                  int maxInFlight) {
+        super(objectMapper, validator, logger, sampleInterval);
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("Max pages in flight must be at least 1");
+        }
+        this.url = url;
+        this.pageSources = pageSources;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Parses all pages into a single list of articles.
+     *
+     * @param source the data source of the first page
+     * @return the valid articles of every page, in page order
+     * @throws ParserException if any page cannot be fetched or parsed
+     */
+    @Override
+    public List<Article> parse(DataSource source) throws ParserException {
+        try (Stream<Article> articles = stream(source)) {
+            return articles.toList();
+        } catch (UncheckedIOException e) {
+            throw new ParserException("Error parsing NewsAPI page", e.getCause());
+        }
+    }
+
+    /**
+     * Streams the articles of all pages in page order.
+     * The first page is parsed eagerly; the remaining pages are fetched in the
+     * background as the stream is consumed, at most maxInFlight at a time.
+     *
+     * @param source the data source of the first page
+     * @return a stream of valid articles, which must be closed once consumed
+     * @throws ParserException if the first page cannot be fetched or parsed
+     */
+    @Override
+    public Stream<Article> stream(DataSource source) throws ParserException {
+        ValidationDiagnostics diagnostics = newDiagnostics();
+        NewsApiResponse first = readResponse(source);
+        List<Article> firstArticles = validArticles(first, diagnostics);
+        if (first == null || first.getArticles() == null) {
+            return firstArticles.stream();
+        }
+
+        int firstPage = queryParam(url, PAGE_PARAM, 1);
+        int pageSize = queryParam(url, PAGE_SIZE_PARAM, first.getArticles().size());
+        int lastPage = pageSize > 0
+                ? firstPage - 1 + Math.ceilDiv(first.getTotalResults(), pageSize)
+                : firstPage;
+
+        PageIterator pages = new PageIterator(firstPage + 1, lastPage, diagnostics);
+        Stream<Article> remaining = StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .flatMap(List::stream);
+        return Stream.concat(firstArticles.stream(), remaining).onClose(() -> {
+            pages.close();
+            diagnostics.logSummary(FORMAT_NAME);
+        });
+    }
+
+    private List<Article> fetchPage(int page, ValidationDiagnostics diagnostics) throws ParserException {
+        return validArticles(readResponse(pageSources.apply(withQueryParam(url, PAGE_PARAM, page))), diagnostics);
+    }
+
+    /**
+     * Reads an integer query parameter from a URL.
+     */
+    static int queryParam(String url, String name, int defaultValue) {
+        int queryStart = url.indexOf('?');
+        if (queryStart < 0) {
+            return defaultValue;
+        }
+        for (String param : url.substring(queryStart + 1).split("&")) {
+            if (param.startsWith(name + "=")) {
+                try {
+                    return Integer.parseInt(param.substring(name.length() + 1));
+                } catch (NumberFormatException e) {
+                    return defaultValue;
+                }
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Returns the URL with a query parameter set, replacing any existing value.
+     */
+    static String withQueryParam(String url, String name, int value) {
+        int queryStart = url.indexOf('?');
+        String base = queryStart < 0 ? url : url.substring(0, queryStart);
+        StringBuilder query = new StringBuilder();
+        if (queryStart >= 0) {
+            for (String param : url.substring(queryStart + 1).split("&")) {
+                if (!param.isEmpty() && !param.startsWith(name + "=")) {
+                    query.append(param).append('&');
+                }
+            }
+        }
+        query.append(name).append('=').append(value);
+        return base + "?" + query;
+    }
+
+    /**
+     * Iterates over the remaining pages, keeping a window of fetches running ahead of the consumer.
+     */
+    private class PageIterator implements Iterator<List<Article>> {
+        private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        private final Deque<Future<List<Article>>> inFlight = new ArrayDeque<>();
+        private final int lastPage;
+        private final ValidationDiagnostics diagnostics;
+        private int nextPage;
+        private int currentPage;
+
+        PageIterator(int firstPage, int lastPage, ValidationDiagnostics diagnostics) {
+            this.nextPage = firstPage;
+            this.currentPage = firstPage;
+            this.lastPage = lastPage;
+            this.diagnostics = diagnostics;
+            fillWindow();
+        }
+
+        @Override
+        public boolean hasNext() {
+            fillWindow();
+            if (inFlight.isEmpty()) {
+                executor.shutdown();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public List<Article> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Future<List<Article>> page = inFlight.removeFirst();
+            int pageNumber = currentPage++;
+            try {
+                return page.get();
+            } catch (ExecutionException e) {
+                close();
+                throw new UncheckedIOException(new IOException(
+                        "Error fetching NewsAPI page " + pageNumber, e.getCause()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new UncheckedIOException(new IOException(
+                        "Interrupted while fetching NewsAPI page " + pageNumber, e));
+            }
+        }
+
+        void close() {
+            inFlight.forEach(page -> page.cancel(true));
+            inFlight.clear();
+            nextPage = lastPage + 1;
+            executor.shutdownNow();
+        }
+
+        private void fillWindow() {
+            while (inFlight.size() < maxInFlight && nextPage <= lastPage) {
+                int page = nextPage++;
+                inFlight.addLast(executor.submit(() -> fetchPage(page, diagnostics)));
+            }
+        }
+    }
+}
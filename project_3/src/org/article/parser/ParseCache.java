@@ -0,0 +1,208 @@
+package org.article.parser;
+
+import org.article.core.Article;
+import org.article.core.Source;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Least-recently-used cache of validated parse results.
+ * The cache is bounded both by the number of entries and by the heap the cached
+ * articles retain; whichever bound is hit first evicts the least
+ * recently used entries. Hits, misses and evictions are counted. All methods
+ * are thread-safe.
+ * <p>
+ * Results depend on the validator that produced them, so a cache should only
+ * be shared between parsers that validate alike.
+ * </p>
+ */
+public class ParseCache {
+    /**
+     * The default maximum number of cached parse results.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 256;
+
+    /**
+     * The default bound on the heap retained by all cached articles, in bytes.
+     */
+    public static final long DEFAULT_MAX_WEIGHT = 64L * 1024 * 1024;
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int STRING_SHALLOW = align(OBJECT_HEADER + REFERENCE + Integer.BYTES + 2);
+    private static final int SOURCE_SHALLOW = align(OBJECT_HEADER + 2 * REFERENCE);
+    private static final int ARTICLE_SHALLOW = align(OBJECT_HEADER + 8 * REFERENCE);
+    private static final int LIST_SHALLOW = align(OBJECT_HEADER + REFERENCE + 1);
+
+    private final int maxEntries;
+    private final long maxWeight;
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Constructs a cache with the default bounds.
+     */
+    public ParseCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_WEIGHT);
+    }
+
+    /**
+     * Constructs a cache.
+     *
+     * @param maxEntries the maximum number of cached parse results
+     * @param maxWeight the bound on the heap retained by all cached articles, in bytes
+     * @throws IllegalArgumentException if a bound is not positive
+     */
+    public ParseCache(int maxEntries, long maxWeight) {
+        if (maxEntries < 1 || maxWeight < 1) {
+            throw new IllegalArgumentException("Cache bounds must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * Looks up a parse result and marks it as most recently used.
+     *
+     * @param key the key of the input
+     * @return the cached articles, or null on a miss
+     */
+    public synchronized List<Article> get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.articles();
+    }
+
+    /**
+     * Caches a parse result, evicting least recently used results as needed.
+     * A result heavier than the whole cache is not kept.
+     *
+     * @param key the key of the input
+     * @param articles the validated articles parsed from the input
+     */
+    public synchronized void put(String key, List<Article> articles) {
+        long entryWeight = weigh(articles);
+        Entry previous = entries.remove(key);
+        if (previous != null) {
+            weight -= previous.weight();
+        }
+        if (entryWeight > maxWeight) {
+            return;
+        }
+        entries.put(key, new Entry(List.copyOf(articles), entryWeight));
+        weight += entryWeight;
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (entries.size() > maxEntries || weight > maxWeight) {
+            weight -= eldest.next().weight();
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Gets the number of cached parse results.
+     *
+     * @return the number of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the heap retained by all cached articles.
+     *
+     * @return the weight in bytes
+     */
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    /**
+     * Gets the number of lookups that found a result.
+     *
+     * @return the hit count
+     */
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of lookups that found nothing.
+     *
+     * @return the miss count
+     */
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * Gets the number of results evicted to stay within the bounds.
+     *
+     * @return the eviction count
+     */
+    public synchronized long getEvictionCount() {
+        return evictions;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("ParseCache[entries=%d, weight=%d, hits=%d, misses=%d, evictions=%d]",
+                entries.size(), weight, hits, misses, evictions);
+    }
+
+    /**
+     * Computes the heap retained by a cached list of articles, assuming compressed
+     * references and compact strings. Objects shared within the list, such as the sources
+     * and authors the article dictionary shares, are counted once.
+     */
+    static long weigh(List<Article> articles) {
+        Set<Object> counted = Collections.newSetFromMap(new IdentityHashMap<>());
+        long total = LIST_SHALLOW + align(ARRAY_HEADER + (long) REFERENCE * articles.size());
+        for (Article article : articles) {
+            if (!counted.add(article)) {
+                continue;
+            }
+            total += ARTICLE_SHALLOW;
+            for (String value : new String[] {article.getTitle(), article.getDescription(), article.getPublishedAt(),
+                    article.getUrl(), article.getUrlToImage(), article.getContent(), article.getAuthor()}) {
+                total += weigh(value, counted);
+            }
+            Source source = article.getSource();
+            if (source != null && counted.add(source)) {
+                total += SOURCE_SHALLOW + weigh(source.getId(), counted) + weigh(source.getName(), counted);
+            }
+        }
+        return total;
+    }
+
+    private static long weigh(String value, Set<Object> counted) {
+        if (value == null || !counted.add(value)) {
+            return 0;
+        }
+        boolean latin1 = value.chars().allMatch(c -> c <= 0xFF);
+        return STRING_SHALLOW + align(ARRAY_HEADER + (long) value.length() * (latin1 ? 1 : 2));
+    }
+
+    private static int align(int size) {
+        return (int) align((long) size);
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    private record Entry(List<Article> articles, long weight) {
+    }
+}
@@ -0,0 +1,46 @@
+package org.article.parser;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import java.io.IOException;
+import java.io.Serial;
+
+/**
+ * Reads a {@link SimpleArticle} and calls its constructor directly.
+ * Unknown fields are skipped, as the class declares.
+ */
+class SimpleArticleDeserializer extends StreamingDeserializer<SimpleArticle> {
+    @Serial
+    private static final long serialVersionUID = 1L;
+    private static final int TITLE = 0;
+    private static final int DESCRIPTION = 1;
+    private static final int PUBLISHED_AT = 2;
+    private static final int URL = 3;
+
+    /**
+     * Constructs a simple article deserializer.
+     */
+    SimpleArticleDeserializer() {
+        super(SimpleArticle.class, "title", "description", "publishedAt", "url");
+    }
+
+    @Override
+    public SimpleArticle deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        String title = null;
+        String description = null;
+        String publishedAt = null;
+        String url = null;
+        for (int field = firstField(p, ctxt); field != END; ) {
+            p.nextToken();
+            switch (field) {
+                case TITLE -> title = readString(p, ctxt);
+                case DESCRIPTION -> description = readString(p, ctxt);
+                case PUBLISHED_AT -> publishedAt = readString(p, ctxt);
+                case URL -> url = readString(p, ctxt);
+                default -> p.skipChildren();
+            }
+            field = nextField(p, field + 1);
+        }
+        return new SimpleArticle(title, description, publishedAt, url);
+    }
+}
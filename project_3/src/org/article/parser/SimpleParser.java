@@ -1,5 +1,6 @@
 package org.article.parser;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.article.core.Article;
@@ -8,7 +9,12 @@ import org.article.core.Parser;
 import org.article.core.Source;
 import org.article.util.ArticleLogger;
 import org.article.util.ArticleValidator;
+import org.article.util.ValidationDiagnostics;
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
@@ -17,9 +23,12 @@ import java.util.stream.Stream;
  * Parses data from the simple article format.
  */
 public abstract class SimpleParser implements Parser {
+    private static final String FORMAT_NAME = "Simple";
+    private static final Source SIMPLE_SOURCE = new Source(null, "Simple");
     private final ObjectMapper objectMapper;
     private final ArticleValidator validator;
     private final ArticleLogger logger;
+    private final int sampleInterval;
 
     /**
      * Constructs a simple parser with the provided dependencies.
@@ -29,10 +38,24 @@ public abstract class SimpleParser implements Parser {
      * @param logger the logger to use for logging messages
      */
     public SimpleParser(ObjectMapper objectMapper, ArticleValidator validator, ArticleLogger logger) {
+        this(objectMapper, validator, logger, ValidationDiagnostics.DEFAULT_SAMPLE_INTERVAL);
+    }
+
+    /**
+     * Constructs a simple parser with the provided dependencies.
+     *
+     * @param objectMapper the object mapper to use for parsing JSON
+     * @param validator the validator to use for validating articles
+     * @param logger the logger to use for logging messages
+     * @param sampleInterval log every n-th rejected article of each reason in detail; 0 logs only the summary
+     */
+    public SimpleParser(ObjectMapper objectMapper, ArticleValidator validator, ArticleLogger logger,
+                        int sampleInterval) {
         this.objectMapper = objectMapper
                 .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         this.validator = validator;
         this.logger = logger;
+        this.sampleInterval = sampleInterval;
     }
 
     /**
@@ -44,45 +67,103 @@ public abstract class SimpleParser implements Parser {
      */
     @Override
     public List<Article> parse(DataSource source) throws ParserException {
+        try (InputStream data = new BufferedInputStream(source.openStream())) {
+            InputFormat format = FormatDetector.detect(data);
+            ValidationDiagnostics diagnostics = newDiagnostics();
+            try (JsonParser jsonParser = objectMapper.getFactory().createParser(data)) {
+                return switch (format) {
+                    case SINGLE_OBJECT -> parseSingleArticle(jsonParser, diagnostics);
+                    case ARRAY -> parseArticleArray(jsonParser, diagnostics);
+                    case LINE_DELIMITED -> parseLineDelimited(jsonParser, diagnostics);
+                    case NEWSAPI_ENVELOPE, UNKNOWN -> throw unsupportedFormat(format);
+                };
+            } finally {
+                diagnostics.logSummary(FORMAT_NAME);
+            }
+        } catch (IOException e) {
+            logger.error("Error reading data from source", e);
+            throw new ParserException("Error reading source data", e);
+        }
+    }
+
+    /**
+     * Streams the articles of the source one at a time.
+     * Arrays and line-delimited input are bound element by element, so memory
+     * use does not grow with the number of articles.
+     *
+     * @param source the data source to parse
+     * @return a stream of valid articles, which must be closed once consumed
+     * @throws ParserException if the source cannot be read or is not in the simple format
+     */
+    @Override
+    public Stream<Article> stream(DataSource source) throws ParserException {
+        InputStream data = null;
         try {
-            String data = source.getData();
-            return parseSingleOrArrayFormat(data);
+            data = new BufferedInputStream(source.openStream());
+            InputFormat format = FormatDetector.detect(data);
+            if (format != InputFormat.SINGLE_OBJECT && format != InputFormat.ARRAY
+                    && format != InputFormat.LINE_DELIMITED) {
+                data.close();
+                throw unsupportedFormat(format);
+            }
+            JsonParser jsonParser = objectMapper.getFactory().createParser(data);
+            if (format == InputFormat.ARRAY) {
+                jsonParser.nextToken();
+            }
+            return newReader(jsonParser, newDiagnostics()).stream();
         } catch (IOException e) {
+            closeQuietly(data);
             logger.error("Error reading data from source", e);
             throw new ParserException("Error reading source data", e);
         }
     }
 
-    private List<Article> parseSingleOrArrayFormat(String data) throws ParserException {
+    private ParserException unsupportedFormat(InputFormat format) {
+        ParserException e = new ParserException("Expected an article object, array or lines but found " + format);
+        logger.error("Unrecognized simple article format", e);
+        return e;
+    }
+
+    private ValidationDiagnostics newDiagnostics() {
+        return new ValidationDiagnostics(validator, logger, sampleInterval);
+    }
+
+    private ArticleStreamReader<SimpleArticle> newReader(JsonParser jsonParser, ValidationDiagnostics diagnostics) {
+        return new ArticleStreamReader<>(jsonParser, objectMapper.readerFor(SimpleArticle.class),
+                this::convertToArticle, diagnostics, FORMAT_NAME);
+    }
+
+    private void closeQuietly(InputStream data) {
+        if (data == null) {
+            return;
+        }
         try {
-            return parseSingleArticle(data);
-        } catch (ParserException e) {
-            return parseArticleArray(data);
+            data.close();
+        } catch (IOException e) {
+            logger.error("Error closing source data", e);
         }
     }
 
     /**
-     * Parses the data from the provided source into a list of articles.
+     * Parses a single simple article into a list of articles.
      *
-     * @param data the JSON data to parse
+     * @param jsonParser the parser positioned on the article object
+     * @param diagnostics the diagnostics of the current parse
      * @return the list of articles parsed from the data
      * @throws ParserException if an error occurs while parsing the data
      */
-    private List<Article> parseSingleArticle(String data) throws ParserException {
+    private List<Article> parseSingleArticle(JsonParser jsonParser, ValidationDiagnostics diagnostics)
+            throws ParserException {
         try {
-            SimpleArticle simpleArticle = objectMapper.readValue(data, SimpleArticle.class);
+            SimpleArticle simpleArticle = objectMapper.readValue(jsonParser, SimpleArticle.class);
             if (simpleArticle == null) {
                 logger.warning("Parsed article is null");
                 return List.of();
             }
             Article article = convertToArticle(simpleArticle);
-            if (validator.isValid(article)) {
-                return List.of(article);
-            } else {
-                logger.warning("Article is missing required fields and will be skipped.");
-                return List.of();
-            }
+            return diagnostics.check(article) ? List.of(article) : List.of();
         } catch (IOException e) {
+            logger.error("Failed to parse single article format", e);
             throw new ParserException("Error parsing single article format", e);
         }
     }
@@ -90,13 +171,15 @@ public abstract class SimpleParser implements Parser {
     /**
      * Parses an array of simple articles into a list of articles.
      *
-     * @param data the JSON data to parse
+     * @param jsonParser the parser positioned on the article array
+     * @param diagnostics the diagnostics of the current parse
      * @return the list of articles parsed from the data
      * @throws ParserException if an error occurs while parsing the data
      */
-    private List<Article> parseArticleArray(String data) throws ParserException {
+    private List<Article> parseArticleArray(JsonParser jsonParser, ValidationDiagnostics diagnostics)
+            throws ParserException {
         try {
-            SimpleArticle[] articleArray = objectMapper.readValue(data, SimpleArticle[].class);
+            SimpleArticle[] articleArray = objectMapper.readValue(jsonParser, SimpleArticle[].class);
             if (articleArray == null) {
                 logger.warning("Parsed article array is null");
                 return List.of();
@@ -104,13 +187,7 @@ public abstract class SimpleParser implements Parser {
             return Stream.of(articleArray)
                     .filter(Objects::nonNull)
                     .map(this::convertToArticle)
-                    .filter(article -> {
-                        boolean isValid = validator.isValid(article);
-                        if (!isValid) {
-                            logger.warning("Article is missing required fields and will be skipped.");
-                        }
-                        return isValid;
-                    })
+                    .filter(diagnostics::check)
                     .toList();
         } catch (IOException e) {
             logger.error("Failed to parse article array format", e);
@@ -118,6 +195,26 @@ public abstract class SimpleParser implements Parser {
         }
     }
 
+    /**
+     * Parses line-delimited simple articles into a list of articles.
+     *
+     * @param jsonParser the parser positioned before the first article
+     * @param diagnostics the diagnostics of the current parse
+     * @return the list of articles parsed from the data
+     * @throws ParserException if an error occurs while parsing the data
+     */
+    private List<Article> parseLineDelimited(JsonParser jsonParser, ValidationDiagnostics diagnostics)
+            throws ParserException {
+        List<Article> articles = new ArrayList<>();
+        try {
+            newReader(jsonParser, diagnostics).forEachRemaining(articles::add);
+            return articles;
+        } catch (UncheckedIOException e) {
+            logger.error("Failed to parse line-delimited format", e);
+            throw new ParserException("Error parsing line-delimited format", e.getCause());
+        }
+    }
+
     /**
      * Converts a simple article to an article.
      *
@@ -135,7 +232,7 @@ public abstract class SimpleParser implements Parser {
                 simple.getUrl(),
                 null,                       // urlToImage not in simple format
                 null,                       // content not in simple format
-                new Source(null, "Simple"), // default source since not in format
+                SIMPLE_SOURCE,              // shared default source since not in format
                 null                        // author not in simple format
         );
     }
@@ -0,0 +1,66 @@
+package org.article.parser;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import org.article.core.Source;
+import java.io.IOException;
+import java.io.Serial;
+
+/**
+ * Reads a {@link Source} and returns the dictionary's shared instance for it.
+ * Unknown fields are reported to the context, so they fail or are skipped
+ * according to the mapper's settings, as with the reflective binding.
+ */
+class SourceDeserializer extends StreamingDeserializer<Source> {
+    @Serial
+    private static final long serialVersionUID = 1L;
+    private static final int ID = 0;
+    private static final int NAME = 1;
+
+    private final transient ArticleDictionary dictionary;
+
+    /**
+     * Constructs a source deserializer.
+     *
+     * @param dictionary the dictionary sharing equal sources
+     */
+    SourceDeserializer(ArticleDictionary dictionary) {
+        super(Source.class, "id", "name");
+        this.dictionary = dictionary;
+    }
+
+    @Override
+    public Source deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        String id = null;
+        String name = null;
+        for (int field = firstField(p, ctxt); field != END; ) {
+            String fieldName = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case ID -> id = readString(p, ctxt);
+                case NAME -> name = readString(p, ctxt);
+                default -> ctxt.handleUnknownProperty(p, this, Source.class, fieldName);
+            }
+            field = nextField(p, field + 1);
+        }
+        return dictionary.source(id, name);
+    }
+
+    /**
+     * Gets the dictionary sharing equal sources.
+     *
+     * @return the dictionary
+     */
+    ArticleDictionary getDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Replaces a deserialized instance, whose dictionary is not serialized, with one
+     * holding an empty dictionary.
+     */
+    @Serial
+    private Object readResolve() {
+        return new SourceDeserializer(new ArticleDictionary());
+    }
+}
@@ -0,0 +1,125 @@
+package org.article.parser;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Base of the hand-written deserializers that read an object's fields straight from the token stream.
+ * <p>
+ * Each subclass lists its fields in the order a feed usually writes them. Reading the
+ * next field first asks the parser whether the upcoming name is the expected one,
+ * which the UTF-8 parser answers by comparing the quoted name bytes in place, without
+ * decoding the name or looking it up in the symbol table. Only when a feed reorders
+ * or adds fields is the decoded name matched against the list.
+ * </p>
+ *
+ * @param <T> the type of the value read
+ */
+abstract class StreamingDeserializer<T> extends StdDeserializer<T> {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The index returned once the object has been read completely.
+     */
+    static final int END = -1;
+
+    /**
+     * The index returned for a field name that is not in the list.
+     */
+    static final int UNKNOWN = -2;
+
+    private final Class<T> type;
+    private final SerializedString[] fields;
+
+    /**
+     * Constructs a deserializer for an object with the given fields.
+     *
+     * @param type the type of the value read
+     * @param fieldNames the JSON field names, in the order they are expected
+     */
+    StreamingDeserializer(Class<T> type, String... fieldNames) {
+        super(type);
+        this.type = type;
+        this.fields = Arrays.stream(fieldNames).map(SerializedString::new).toArray(SerializedString[]::new);
+    }
+
+    /**
+     * Returns the index of the field the parser is on when deserialization starts,
+     * advancing past the opening brace if the parser is on one.
+     *
+     * @param p the parser positioned at the value
+     * @param ctxt the deserialization context
+     * @return the index of the first field, {@link #UNKNOWN}, or {@link #END} for an empty object
+     * @throws IOException if the value is not an object or cannot be read
+     */
+    final int firstField(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.isExpectedStartObjectToken()) {
+            return nextField(p, 0);
+        }
+        if (p.hasToken(JsonToken.FIELD_NAME)) {
+            return indexOf(p.currentName());
+        }
+        if (p.hasToken(JsonToken.END_OBJECT)) {
+            return END;
+        }
+        ctxt.handleUnexpectedToken(type, p);
+        return END;
+    }
+
+    /**
+     * Advances to the next field name and returns its index.
+     *
+     * @param p the parser positioned at the last token of the previous value
+     * @param expected the index of the field most likely to come next, negative if none
+     * @return the index of the field, {@link #UNKNOWN}, or {@link #END} at the closing brace
+     * @throws IOException if the input cannot be read
+     */
+    final int nextField(JsonParser p, int expected) throws IOException {
+        if (expected < 0 || expected >= fields.length) {
+            p.nextToken();
+        } else if (p.nextFieldName(fields[expected])) {
+            return expected;
+        }
+        return p.hasToken(JsonToken.FIELD_NAME) ? indexOf(p.currentName()) : END;
+    }
+
+    /**
+     * Reads a string field the way Jackson's string deserializer would.
+     *
+     * @param p the parser positioned at the value
+     * @param ctxt the deserialization context
+     * @return the text of the value, or null for a JSON null
+     * @throws IOException if the value cannot be coerced to a string
+     */
+    final String readString(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            return p.getText();
+        }
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        return _parseString(p, ctxt, this);
+    }
+
+    @Override
+    public Collection<Object> getKnownPropertyNames() {
+        return Arrays.stream(fields).<Object>map(SerializedString::getValue).toList();
+    }
+
+    private int indexOf(String name) {
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i].getValue().equals(name)) {
+                return i;
+            }
+        }
+        return UNKNOWN;
+    }
+}
@@ -0,0 +1,135 @@
+package org.article.parser;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Finds the structural characters of JSON text 64 bytes at a time.
+ * <p>
+ * A block is classified with word-at-a-time arithmetic on eight little-endian longs
+ * instead of a branch per byte: each character class becomes a 64-bit mask with one
+ * bit per byte. Backslash runs are resolved to the set of escaped bytes, the unescaped
+ * quotes are turned into a mask of string interiors by a prefix XOR, and the brackets,
+ * braces, colons and commas outside strings are reported together with the quotes.
+ * Whether the next block starts escaped or inside a string is carried over, so a
+ * document may be fed in any number of blocks. Bit i of a mask stands for byte i of
+ * its block.
+ * </p>
+ */
+final class StructuralScanner {
+    /**
+     * The number of bytes classified per call.
+     */
+    static final int BLOCK_SIZE = 64;
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class,
+            ByteOrder.LITTLE_ENDIAN);
+    private static final long ONES = 0x0101010101010101L;
+    private static final long LOW_SEVEN_BITS = 0x7F7F7F7F7F7F7F7FL;
+    private static final long ODD_BITS = 0xAAAAAAAAAAAAAAAAL;
+    private static final long HIGH_BITS_TO_BYTE = 0x0102040810204080L;
+
+    private long escapedCarry;
+    private long inStringCarry;
+
+    /**
+     * Classifies the next block of the document.
+     *
+     * @param data the bytes holding the block
+     * @param offset the index of the block's first byte; 64 bytes must be available from there
+     * @return the mask of unescaped quotes and of brackets, braces, colons and commas outside strings
+     */
+    long next(byte[] data, int offset) {
+        long quotes = 0;
+        long backslashes = 0;
+        long operators = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            long word = (long) LONGS.get(data, offset + i * Long.BYTES);
+            int shift = i * Long.BYTES;
+            long folded = word & ~(ONES * 0x20);
+            quotes |= matches(word, '"') << shift;
+            backslashes |= matches(word, '\\') << shift;
+            operators |= (matches(folded, '[') | matches(folded, ']')
+                    | matches(word, ':') | matches(word, ',')) << shift;
+        }
+        long escaped = escaped(backslashes);
+        quotes &= ~escaped;
+        long inString = prefixXor(quotes) ^ inStringCarry;
+        inStringCarry = inString >> 63;
+        return quotes | (operators & ~inString);
+    }
+
+    /**
+     * Builds the structural bitmap of a whole buffer.
+     * A final partial block is classified as if padded with spaces.
+     *
+     * @param data the buffer holding the document
+     * @param offset the index of the document's first byte
+     * @param length the length of the document in bytes
+     * @return one bit per byte, where byte i of the document is bit {@code i % 64} of word {@code i / 64}
+     */
+    static long[] index(byte[] data, int offset, int length) {
+        StructuralScanner scanner = new StructuralScanner();
+        long[] bitmap = new long[Math.ceilDiv(length, BLOCK_SIZE)];
+        int full = length / BLOCK_SIZE;
+        for (int i = 0; i < full; i++) {
+            bitmap[i] = scanner.next(data, offset + i * BLOCK_SIZE);
+        }
+        if (full < bitmap.length) {
+            byte[] tail = new byte[BLOCK_SIZE];
+            Arrays.fill(tail, (byte) ' ');
+            System.arraycopy(data, offset + full * BLOCK_SIZE, tail, 0, length - full * BLOCK_SIZE);
+            bitmap[full] = scanner.next(tail, 0);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Returns whether the scan is inside a string after the last block.
+     *
+     * @return true if the last block ended inside a string
+     */
+    boolean inString() {
+        return inStringCarry != 0;
+    }
+
+    /**
+     * Computes the bytes escaped by a backslash, continuing a run from the previous block.
+     * A backslash run escapes the byte after it if the run has odd length; the subtraction
+     * below propagates through each run starting at an even or odd position in parallel.
+     */
+    private long escaped(long backslashes) {
+        long potentialEscape = backslashes & ~escapedCarry;
+        long maybeEscaped = potentialEscape << 1;
+        long evenSeriesCodesAndOddBits = (maybeEscaped | ODD_BITS) - potentialEscape;
+        long escapeAndTerminalCode = evenSeriesCodesAndOddBits ^ ODD_BITS;
+        long escaped = escapeAndTerminalCode ^ (backslashes | escapedCarry);
+        escapedCarry = (escapeAndTerminalCode & backslashes) >>> 63;
+        return escaped;
+    }
+
+    /**
+     * Returns a mask with bit i set if an odd number of bits at or below i are set.
+     */
+    private static long prefixXor(long bits) {
+        bits ^= bits << 1;
+        bits ^= bits << 2;
+        bits ^= bits << 4;
+        bits ^= bits << 8;
+        bits ^= bits << 16;
+        bits ^= bits << 32;
+        return bits;
+    }
+
+    /**
+     * Returns an 8-bit mask of the bytes of a word that equal a character.
+     * The high bit of each byte is set exactly where the byte is zero after the XOR,
+     * then the eight high bits are gathered into the low byte by one multiplication.
+     */
+    private static long matches(long word, char c) {
+        long x = word ^ (ONES * c);
+        long zeroBytes = ~(((x & LOW_SEVEN_BITS) + LOW_SEVEN_BITS) | x | LOW_SEVEN_BITS);
+        return ((zeroBytes >>> 7) * HIGH_BITS_TO_BYTE) >>> 56;
+    }
+}
@@ -0,0 +1,168 @@
+package org.article.search;
+
+import org.article.core.Article;
+import org.article.core.ArticleField;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory inverted index over the title, description and content of articles.
+ * Each distinct term maps to a {@link PostingList} of delta- and varint-compressed
+ * article ids and positions, so a keyword lookup touches only the articles that
+ * contain the keyword instead of scanning the corpus.
+ * <p>
+ * Articles are indexed one at a time as parsers emit them and receive ascending
+ * ids starting at 0. Adding is serialized; searching needs no lock and may run on
+ * any number of threads while articles are added. Each search sees the articles
+ * whose addition completed before it started.
+ * </p>
+ */
+public class ArticleIndex implements SearchIndex {
+    /**
+     * The fields whose text is indexed, in position order.
+     */
+    static final List<ArticleField> INDEXED_FIELDS =
+            List.of(ArticleField.TITLE, ArticleField.DESCRIPTION, ArticleField.CONTENT);
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final Map<String, PostingList> postings = new ConcurrentHashMap<>();
+    private volatile Article[] articles = new Article[INITIAL_CAPACITY];
+    private volatile int[] lengths = new int[INITIAL_CAPACITY];
+    private volatile long totalLength;
+    private volatile int size;
+
+    /**
+     * Indexes an article.
+     * Positions continue across fields with a gap, so a phrase never spans two fields.
+     *
+     * @param article the article to index
+     * @return the id of the article
+     */
+    @Override
+    public synchronized int add(Article article) {
+        int id = size;
+        Map<String, int[]> positions = new HashMap<>();
+        Map<String, Integer> counts = new HashMap<>();
+        int position = 0;
+        for (ArticleField field : INDEXED_FIELDS) {
+            for (String term : Tokenizer.tokenize(field.get(article))) {
+                int count = counts.merge(term, 1, Integer::sum);
+                int[] termPositions = positions.computeIfAbsent(term, t -> new int[4]);
+                if (count > termPositions.length) {
+                    termPositions = Arrays.copyOf(termPositions, termPositions.length * 2);
+                    positions.put(term, termPositions);
+                }
+                termPositions[count - 1] = position++;
+            }
+            position++;
+        }
+        for (Map.Entry<String, int[]> entry : positions.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), t -> new PostingList())
+                    .add(id, entry.getValue(), counts.get(entry.getKey()));
+        }
+
+        if (id == articles.length) {
+            articles = Arrays.copyOf(articles, id * 2);
+            lengths = Arrays.copyOf(lengths, id * 2);
+        }
+        articles[id] = article;
+        lengths[id] = position;
+        totalLength += position;
+        size = id + 1;
+        return id;
+    }
+
+    /**
+     * Gets the number of indexed articles.
+     *
+     * @return the number of articles
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets an indexed article.
+     *
+     * @param id the id returned when the article was added
+     * @return the article
+     * @throws IndexOutOfBoundsException if no article has that id
+     */
+    @Override
+    public Article get(int id) {
+        int visible = size;
+        if (id < 0 || id >= visible) {
+            throw new IndexOutOfBoundsException("Article " + id + " out of bounds for index of size " + visible);
+        }
+        return articles[id];
+    }
+
+    /**
+     * Finds the best-matching articles.
+     *
+     * @param query the query to run
+     * @param limit the maximum number of ids to return
+     * @return the ids of the matching articles, best first
+     */
+    @Override
+    public int[] search(Query query, int limit) {
+        return IndexSnapshot.search(List.of(snapshot()), query, limit);
+    }
+
+    /**
+     * Parses and runs a query.
+     *
+     * @param query the query text, see {@link Query#parse(String)}
+     * @param limit the maximum number of ids to return
+     * @return the ids of the matching articles, best first
+     * @throws IllegalArgumentException if the query is invalid
+     */
+    public int[] search(String query, int limit) {
+        return search(Query.parse(query), limit);
+    }
+
+    /**
+     * Captures the articles whose addition has completed.
+     */
+    Snapshot snapshot() {
+        int visible = size;
+        return new Snapshot(postings, articles, lengths, visible, totalLength);
+    }
+
+    /**
+     * Gets the number of distinct indexed terms.
+     *
+     * @return the number of terms
+     */
+    public int termCount() {
+        return postings.size();
+    }
+
+    /**
+     * The indexed articles visible at one point in time.
+     * Posting lists keep growing after the snapshot is taken; ids at or beyond size are ignored.
+     */
+    record Snapshot(Map<String, PostingList> postings, Article[] articles, int[] lengths, int size,
+                    long totalLength) implements TermSource {
+        @Override
+        public PostingList.Cursor cursor(String term) {
+            PostingList list = postings.get(term);
+            return list != null ? list.cursor() : null;
+        }
+
+        @Override
+        public int documentCount(String term) {
+            PostingList list = postings.get(term);
+            return list != null ? Math.min(list.documentCount(), size) : 0;
+        }
+
+        @Override
+        public int length(int id) {
+            return lengths[id];
+        }
+    }
+}
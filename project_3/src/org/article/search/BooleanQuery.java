@@ -0,0 +1,44 @@
+package org.article.search;
+
+import java.util.List;
+
+/**
+ * Matches articles matching all (AND) or any (OR) of its clauses, summing their scores.
+ */
+class BooleanQuery extends Query {
+    private final List<Query> clauses;
+    private final boolean conjunction;
+
+    BooleanQuery(List<Query> clauses, boolean conjunction) {
+        if (clauses.isEmpty()) {
+            throw new IllegalArgumentException("A boolean query needs at least one clause");
+        }
+        this.clauses = clauses;
+        this.conjunction = conjunction;
+    }
+
+    @Override
+    ScoredDocs evaluate(IndexSnapshot snapshot) {
+        ScoredDocs result = clauses.getFirst().evaluate(snapshot);
+        for (int i = 1; i < clauses.size(); i++) {
+            if (conjunction && result.size() == 0) {
+                return result;
+            }
+            ScoredDocs next = clauses.get(i).evaluate(snapshot);
+            result = conjunction ? result.intersect(next) : result.union(next);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("(");
+        for (Query clause : clauses) {
+            if (text.length() > 1) {
+                text.append(conjunction ? " AND " : " OR ");
+            }
+            text.append(clause);
+        }
+        return text.append(')').toString();
+    }
+}
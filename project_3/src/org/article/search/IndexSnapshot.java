@@ -0,0 +1,97 @@
+package org.article.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Consistent view of one part of an index as of the start of a query.
+ * Articles added while the query runs have ids at or beyond {@link #size()} and are ignored.
+ * Scores follow Okapi BM25 over the concatenated title, description and content, with
+ * term statistics taken from the whole collection so that every part scores alike.
+ */
+class IndexSnapshot {
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    private final TermSource source;
+    private final int collectionSize;
+    private final float averageLength;
+    private final Map<String, Integer> collectionCounts;
+    private final List<? extends TermSource> collection;
+
+    private IndexSnapshot(TermSource source, List<? extends TermSource> collection, int collectionSize,
+                          long collectionLength, Map<String, Integer> collectionCounts) {
+        this.source = source;
+        this.collection = collection;
+        this.collectionSize = collectionSize;
+        this.averageLength = collectionSize == 0 ? 0 : Math.max(1, (float) collectionLength / collectionSize);
+        this.collectionCounts = collectionCounts;
+    }
+
+    /**
+     * Runs a query over consecutive parts of an index.
+     * The ids of each part are shifted by the sizes of the parts before it.
+     *
+     * @param parts the parts in id order
+     * @param query the query to run
+     * @param limit the maximum number of ids to return
+     * @return the ids of the matching articles, best first
+     */
+    static int[] search(List<? extends TermSource> parts, Query query, int limit) {
+        int collectionSize = 0;
+        long collectionLength = 0;
+        for (TermSource part : parts) {
+            collectionSize += part.size();
+            collectionLength += part.totalLength();
+        }
+        Map<String, Integer> collectionCounts = new HashMap<>();
+        List<ScoredDocs> results = new ArrayList<>(parts.size());
+        for (TermSource part : parts) {
+            IndexSnapshot snapshot = new IndexSnapshot(part, parts, collectionSize, collectionLength, collectionCounts);
+            results.add(query.evaluate(snapshot));
+        }
+        int[] bases = new int[parts.size()];
+        for (int i = 1; i < bases.length; i++) {
+            bases[i] = bases[i - 1] + parts.get(i - 1).size();
+        }
+        return ScoredDocs.concat(results, bases).top(limit);
+    }
+
+    /**
+     * Gets the number of articles visible to the query.
+     */
+    int size() {
+        return source.size();
+    }
+
+    /**
+     * Returns a cursor over the postings of a term, or null if no article contains it.
+     */
+    PostingList.Cursor cursor(String term) {
+        return source.cursor(term);
+    }
+
+    /**
+     * Gets the inverse document frequency of a term across the collection.
+     */
+    float idf(String term) {
+        int count = collectionCounts.computeIfAbsent(term, t -> {
+            int total = 0;
+            for (TermSource part : collection) {
+                total += part.documentCount(t);
+            }
+            return total;
+        });
+        return (float) Math.log(1 + (collectionSize - count + 0.5) / (count + 0.5));
+    }
+
+    /**
+     * Scores an article in which a term or phrase occurs frequency times.
+     */
+    float score(float idf, int frequency, int id) {
+        float norm = K1 * (1 - B + B * source.length(id) / averageLength);
+        return idf * frequency * (K1 + 1) / (frequency + norm);
+    }
+}
@@ -0,0 +1,86 @@
+package org.article.search;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Matches articles containing several terms at consecutive positions.
+ * Candidates are found by leapfrogging the posting cursors to a common id; positions
+ * are decoded only for those. The phrase scores like one term occurring as often as
+ * the whole phrase, weighted by the summed idf of its terms.
+ */
+class PhraseQuery extends Query {
+    private final List<String> terms;
+
+    PhraseQuery(List<String> terms) {
+        this.terms = List.copyOf(terms);
+    }
+
+    @Override
+    ScoredDocs evaluate(IndexSnapshot snapshot) {
+        PostingList.Cursor[] cursors = new PostingList.Cursor[terms.size()];
+        float idf = 0;
+        for (int i = 0; i < cursors.length; i++) {
+            cursors[i] = snapshot.cursor(terms.get(i));
+            if (cursors[i] == null) {
+                return ScoredDocs.EMPTY;
+            }
+            idf += snapshot.idf(terms.get(i));
+        }
+
+        int[] ids = new int[16];
+        float[] scores = new float[16];
+        int count = 0;
+        int target = 0;
+        while (cursors[0].advance(target) && cursors[0].id() < snapshot.size()) {
+            target = cursors[0].id();
+            boolean aligned = true;
+            for (int i = 1; i < cursors.length && aligned; i++) {
+                if (!cursors[i].advance(target)) {
+                    return new ScoredDocs(ids, scores, count);
+                }
+                if (cursors[i].id() != target) {
+                    target = cursors[i].id();
+                    aligned = false;
+                }
+            }
+            if (!aligned) {
+                continue;
+            }
+            int frequency = countOccurrences(cursors);
+            if (frequency > 0) {
+                if (count == ids.length) {
+                    ids = Arrays.copyOf(ids, count * 2);
+                    scores = Arrays.copyOf(scores, count * 2);
+                }
+                ids[count] = target;
+                scores[count++] = snapshot.score(idf, frequency, target);
+            }
+            target++;
+        }
+        return new ScoredDocs(ids, scores, count);
+    }
+
+    private static int countOccurrences(PostingList.Cursor[] cursors) {
+        int[][] positions = new int[cursors.length][];
+        for (int i = 0; i < cursors.length; i++) {
+            positions[i] = cursors[i].positions();
+        }
+        int occurrences = 0;
+        for (int start : positions[0]) {
+            boolean matches = true;
+            for (int i = 1; i < positions.length && matches; i++) {
+                matches = Arrays.binarySearch(positions[i], start + i) >= 0;
+            }
+            if (matches) {
+                occurrences++;
+            }
+        }
+        return occurrences;
+    }
+
+    @Override
+    public String toString() {
+        return "\"" + String.join(" ", terms) + "\"";
+    }
+}
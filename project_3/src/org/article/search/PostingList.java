@@ -0,0 +1,204 @@
+package org.article.search;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Compressed, append-only posting list of one term.
+ * Each entry is the gap to the previous article id, the term frequency and the
+ * gaps between the term's positions, all written as unsigned varints, so a
+ * typical entry takes two or three bytes.
+ * <p>
+ * A single writer appends while any number of readers iterate. The writer fills
+ * the buffer before publishing its new length through a volatile write, and a
+ * reader only decodes up to the length it read, so it never sees a partial entry.
+ * </p>
+ */
+class PostingList {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private volatile byte[] bytes = new byte[INITIAL_CAPACITY];
+    private volatile int length;
+    private volatile int documentCount;
+    private int lastId = -1;
+
+    /**
+     * Appends the positions of the term in an article.
+     * Must be called by one thread at a time, with increasing article ids.
+     *
+     * @param id the article id, greater than every id appended before
+     * @param positions the ascending positions of the term in the article
+     * @param count the number of positions to append
+     */
+    void add(int id, int[] positions, int count) {
+        byte[] buffer = bytes;
+        int offset = length;
+        int needed = offset + (2 + count) * 5;
+        if (needed > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(needed, buffer.length * 2));
+            bytes = buffer;
+        }
+        offset = writeVarint(buffer, offset, id - lastId);
+        offset = writeVarint(buffer, offset, count);
+        int previous = 0;
+        for (int i = 0; i < count; i++) {
+            offset = writeVarint(buffer, offset, positions[i] - previous);
+            previous = positions[i];
+        }
+        lastId = id;
+        documentCount++;
+        length = offset;
+    }
+
+    /**
+     * Gets the number of articles containing the term.
+     */
+    int documentCount() {
+        return documentCount;
+    }
+
+    /**
+     * Gets the number of bytes used by the encoded postings.
+     */
+    int sizeInBytes() {
+        return length;
+    }
+
+    /**
+     * Gets the id of the last article appended, or -1 if there is none.
+     */
+    int lastId() {
+        return lastId;
+    }
+
+    /**
+     * Returns a cursor over the entries published so far.
+     */
+    Cursor cursor() {
+        int limit = length;
+        return new Cursor(ByteBuffer.wrap(bytes), 0, limit);
+    }
+
+    /**
+     * Returns the encoded entries published so far.
+     */
+    ByteBuffer encoded() {
+        int limit = length;
+        return ByteBuffer.wrap(bytes, 0, limit).slice();
+    }
+
+    private static int writeVarint(byte[] buffer, int offset, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[offset++] = (byte) value;
+        return offset;
+    }
+
+    /**
+     * Forward-only iterator over the entries of a posting list, in memory or in a mapped segment.
+     * Positions are decoded only when asked for.
+     */
+    static class Cursor {
+        private final ByteBuffer bytes;
+        private final int limit;
+        private int offset;
+        private int id = -1;
+        private int frequency;
+        private int positionsOffset;
+        private boolean positionsRead;
+
+        Cursor(ByteBuffer bytes, int offset, int limit) {
+            this.bytes = bytes;
+            this.offset = offset;
+            this.positionsOffset = offset;
+            this.limit = limit;
+        }
+
+        /**
+         * Moves to the next entry.
+         *
+         * @return false if there are no more entries
+         */
+        boolean next() {
+            if (!positionsRead) {
+                skipPositions();
+            }
+            if (offset >= limit) {
+                id = Integer.MAX_VALUE;
+                return false;
+            }
+            id += readVarint();
+            frequency = readVarint();
+            positionsOffset = offset;
+            positionsRead = false;
+            return true;
+        }
+
+        /**
+         * Moves to the first entry whose id is at least target.
+         *
+         * @return false if there is no such entry
+         */
+        boolean advance(int target) {
+            while (id < target) {
+                if (!next()) {
+                    return false;
+                }
+            }
+            return id != Integer.MAX_VALUE;
+        }
+
+        /**
+         * Gets the article id of the current entry.
+         */
+        int id() {
+            return id;
+        }
+
+        /**
+         * Gets the number of occurrences in the current article.
+         */
+        int frequency() {
+            return frequency;
+        }
+
+        /**
+         * Decodes the ascending positions of the current entry.
+         */
+        int[] positions() {
+            offset = positionsOffset;
+            int[] positions = new int[frequency];
+            int position = 0;
+            for (int i = 0; i < frequency; i++) {
+                position += readVarint();
+                positions[i] = position;
+            }
+            positionsRead = true;
+            return positions;
+        }
+
+        private void skipPositions() {
+            offset = positionsOffset;
+            for (int i = 0; i < frequency; i++) {
+                while ((bytes.get(offset++) & 0x80) != 0) {
+                    // continuation byte
+                }
+            }
+            positionsRead = true;
+        }
+
+        private int readVarint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes.get(offset++);
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
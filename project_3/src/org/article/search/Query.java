@@ -0,0 +1,128 @@
+package org.article.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A search over the terms of an {@link ArticleIndex}.
+ * Queries are built from terms, phrases and AND/OR combinations, or parsed from
+ * text such as {@code climate "stock market" OR inflation}: whitespace-separated
+ * words and quoted phrases must all match, and {@code OR} separates alternatives.
+ */
+public abstract class Query {
+    Query() {
+    }
+
+    /**
+     * Finds the matching articles among those visible in the snapshot.
+     *
+     * @param snapshot the index view to search
+     * @return the matching ids in ascending order with their scores
+     */
+    abstract ScoredDocs evaluate(IndexSnapshot snapshot);
+
+    /**
+     * Creates a query for a single word.
+     * A word the tokenizer splits into several terms, such as "covid-19", matches as a phrase.
+     *
+     * @param word the word to search for
+     * @return the query
+     * @throws IllegalArgumentException if the word contains no letters or digits
+     */
+    public static Query term(String word) {
+        return phrase(word);
+    }
+
+    /**
+     * Creates a query for consecutive words in the same field.
+     *
+     * @param text the words to search for
+     * @return the query
+     * @throws IllegalArgumentException if the text contains no letters or digits
+     */
+    public static Query phrase(String text) {
+        List<String> terms = Tokenizer.tokenize(text);
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("No searchable terms in '" + text + "'");
+        }
+        return terms.size() == 1 ? new TermQuery(terms.getFirst()) : new PhraseQuery(terms);
+    }
+
+    /**
+     * Creates a query matching articles that match every clause.
+     *
+     * @param clauses the clauses to combine
+     * @return the query
+     * @throws IllegalArgumentException if no clauses are given
+     */
+    public static Query and(Query... clauses) {
+        return clauses.length == 1 ? clauses[0] : new BooleanQuery(List.of(clauses), true);
+    }
+
+    /**
+     * Creates a query matching articles that match any clause.
+     *
+     * @param clauses the clauses to combine
+     * @return the query
+     * @throws IllegalArgumentException if no clauses are given
+     */
+    public static Query or(Query... clauses) {
+        return clauses.length == 1 ? clauses[0] : new BooleanQuery(List.of(clauses), false);
+    }
+
+    /**
+     * Parses a query.
+     *
+     * @param text the query text
+     * @return the query
+     * @throws IllegalArgumentException if the text has no searchable terms or an unterminated phrase
+     */
+    public static Query parse(String text) {
+        List<Query> alternatives = new ArrayList<>();
+        List<Query> clauses = new ArrayList<>();
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '"') {
+                int end = text.indexOf('"', i + 1);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Unterminated phrase in query '" + text + "'");
+                }
+                addClause(clauses, text.substring(i + 1, end));
+                i = end + 1;
+            } else {
+                int end = i;
+                while (end < text.length() && !Character.isWhitespace(text.charAt(end)) && text.charAt(end) != '"') {
+                    end++;
+                }
+                String word = text.substring(i, end);
+                if (word.equals("OR")) {
+                    addAlternative(alternatives, clauses);
+                    clauses = new ArrayList<>();
+                } else {
+                    addClause(clauses, word);
+                }
+                i = end;
+            }
+        }
+        addAlternative(alternatives, clauses);
+        if (alternatives.isEmpty()) {
+            throw new IllegalArgumentException("No searchable terms in query '" + text + "'");
+        }
+        return or(alternatives.toArray(new Query[0]));
+    }
+
+    private static void addClause(List<Query> clauses, String text) {
+        if (!Tokenizer.tokenize(text).isEmpty()) {
+            clauses.add(phrase(text));
+        }
+    }
+
+    private static void addAlternative(List<Query> alternatives, List<Query> clauses) {
+        if (!clauses.isEmpty()) {
+            alternatives.add(and(clauses.toArray(new Query[0])));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.article.search;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Ascending article ids with their scores; the intermediate result of evaluating a query.
+ */
+class ScoredDocs {
+    static final ScoredDocs EMPTY = new ScoredDocs(new int[0], new float[0], 0);
+
+    private final int[] ids;
+    private final float[] scores;
+    private final int size;
+
+    ScoredDocs(int[] ids, float[] scores, int size) {
+        this.ids = ids;
+        this.scores = scores;
+        this.size = size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int id(int index) {
+        return ids[index];
+    }
+
+    float score(int index) {
+        return scores[index];
+    }
+
+    /**
+     * Joins the results of consecutive index parts, shifting each part's ids by its base.
+     */
+    static ScoredDocs concat(List<ScoredDocs> parts, int[] bases) {
+        if (parts.size() == 1) {
+            return parts.getFirst();
+        }
+        int total = 0;
+        for (ScoredDocs part : parts) {
+            total += part.size;
+        }
+        int[] ids = new int[total];
+        float[] scores = new float[total];
+        int count = 0;
+        for (int p = 0; p < parts.size(); p++) {
+            ScoredDocs part = parts.get(p);
+            for (int i = 0; i < part.size; i++) {
+                ids[count] = part.ids[i] + bases[p];
+                scores[count++] = part.scores[i];
+            }
+        }
+        return new ScoredDocs(ids, scores, count);
+    }
+
+    /**
+     * Keeps the ids present in both results, adding their scores.
+     */
+    ScoredDocs intersect(ScoredDocs other) {
+        int capacity = Math.min(size, other.size);
+        int[] resultIds = new int[capacity];
+        float[] resultScores = new float[capacity];
+        int count = 0;
+        for (int i = 0, j = 0; i < size && j < other.size; ) {
+            if (ids[i] < other.ids[j]) {
+                i++;
+            } else if (ids[i] > other.ids[j]) {
+                j++;
+            } else {
+                resultIds[count] = ids[i];
+                resultScores[count++] = scores[i++] + other.scores[j++];
+            }
+        }
+        return new ScoredDocs(resultIds, resultScores, count);
+    }
+
+    /**
+     * Keeps the ids present in either result, adding the scores of ids present in both.
+     */
+    ScoredDocs union(ScoredDocs other) {
+        int[] resultIds = new int[size + other.size];
+        float[] resultScores = new float[size + other.size];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && ids[i] < other.ids[j])) {
+                resultIds[count] = ids[i];
+                resultScores[count++] = scores[i++];
+            } else if (i == size || ids[i] > other.ids[j]) {
+                resultIds[count] = other.ids[j];
+                resultScores[count++] = other.scores[j++];
+            } else {
+                resultIds[count] = ids[i];
+                resultScores[count++] = scores[i++] + other.scores[j++];
+            }
+        }
+        return new ScoredDocs(resultIds, resultScores, count);
+    }
+
+    /**
+     * Returns the ids of the best-scoring entries, best first; ties go to the lower id.
+     * Only the best limit entries are kept while scanning, so the cost grows with the
+     * number of matches but not with their sort.
+     */
+    int[] top(int limit) {
+        Comparator<Integer> worstFirst = Comparator.<Integer>comparingDouble(i -> scores[i])
+                .thenComparing(Comparator.reverseOrder());
+        PriorityQueue<Integer> best = new PriorityQueue<>(Math.max(1, Math.min(limit, size)), worstFirst);
+        for (int i = 0; i < size; i++) {
+            if (best.size() < limit) {
+                best.add(i);
+            } else if (limit > 0 && worstFirst.compare(i, best.peek()) > 0) {
+                best.poll();
+                best.add(i);
+            }
+        }
+        int[] top = new int[best.size()];
+        for (int i = top.length - 1; i >= 0; i--) {
+            top[i] = ids[best.poll()];
+        }
+        return top;
+    }
+}
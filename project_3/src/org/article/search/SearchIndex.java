@@ -0,0 +1,42 @@
+package org.article.search;
+
+import org.article.core.Article;
+
+/**
+ * An index that articles can be added to and searched.
+ * Implemented in memory by {@link ArticleIndex} and on disk by {@link SegmentedIndex}.
+ */
+public interface SearchIndex {
+    /**
+     * Indexes an article.
+     *
+     * @param article the article to index
+     * @return the id of the article
+     */
+    int add(Article article);
+
+    /**
+     * Gets the number of indexed articles.
+     *
+     * @return the number of articles
+     */
+    int size();
+
+    /**
+     * Gets an indexed article.
+     *
+     * @param id the id returned when the article was added
+     * @return the article
+     * @throws IndexOutOfBoundsException if no article has that id
+     */
+    Article get(int id);
+
+    /**
+     * Finds the best-matching articles.
+     *
+     * @param query the query to run
+     * @param limit the maximum number of ids to return
+     * @return the ids of the matching articles, best first
+     */
+    int[] search(Query query, int limit);
+}
@@ -0,0 +1,283 @@
+package org.article.search;
+
+import org.article.core.Article;
+import org.article.core.ArticleField;
+import org.article.core.Source;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Immutable, memory-mapped index segment.
+ * Opening a segment maps the file and reads its header, nothing more; terms,
+ * postings and articles are read in place through the page cache on demand.
+ * <p>
+ * Layout, all numbers big-endian:
+ * </p>
+ * <ol>
+ *     <li>header: magic, version, article count, term count, total length and the
+ *     positions of the article table, the length table and the term table</li>
+ *     <li>stored articles: a source flag byte, then each {@link ArticleField} as a
+ *     varint of its UTF-8 length plus one (0 for null) followed by its bytes</li>
+ *     <li>article table: the position of every stored article plus the end position</li>
+ *     <li>length table: the number of token positions of every article</li>
+ *     <li>postings: the encoded posting list of every term, as in {@link PostingList}</li>
+ *     <li>term dictionary: per term its UTF-8 bytes, article count, last id and the
+ *     position and length of its postings, in ascending byte order</li>
+ *     <li>term table: the position of every dictionary entry, for binary search</li>
+ * </ol>
+ * <p>
+ * A file may exceed the 2 GiB limit of a single mapping. It is mapped as windows of
+ * twice {@link #MAX_RECORD_SIZE} bytes starting every {@code MAX_RECORD_SIZE} bytes, so any
+ * record no longer than that lies entirely within the window its start falls into.
+ * </p>
+ */
+class Segment implements TermSource {
+    static final long MAGIC = 0x4152545345473031L;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int MAX_RECORD_SIZE = 1 << 29;
+
+    private static final ArticleField[] FIELDS = ArticleField.values();
+
+    private final Path file;
+    private final MappedByteBuffer[] windows;
+    private final int size;
+    private final int termCount;
+    private final long totalLength;
+    private final long articleTablePosition;
+    private final long lengthTablePosition;
+    private final long termTablePosition;
+
+    private Segment(Path file, MappedByteBuffer[] windows) throws IOException {
+        this.file = file;
+        this.windows = windows;
+        ByteBuffer header = windows[0];
+        if (header.capacity() < HEADER_SIZE || header.getLong(0) != MAGIC) {
+            throw new IOException("Not an article index segment: " + file);
+        }
+        if (header.getInt(8) != VERSION) {
+            throw new IOException("Unsupported segment version " + header.getInt(8) + ": " + file);
+        }
+        this.size = header.getInt(12);
+        this.termCount = header.getInt(16);
+        this.totalLength = header.getLong(24);
+        this.articleTablePosition = header.getLong(32);
+        this.lengthTablePosition = header.getLong(40);
+        this.termTablePosition = header.getLong(48);
+    }
+
+    /**
+     * Maps a segment file.
+     *
+     * @param file the segment file
+     * @return the segment
+     * @throws IOException if the file cannot be mapped or is not a complete segment
+     */
+    static Segment open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            int windowCount = (int) Math.max(1, Math.ceilDiv(fileSize, MAX_RECORD_SIZE));
+            MappedByteBuffer[] windows = new MappedByteBuffer[windowCount];
+            for (int i = 0; i < windowCount; i++) {
+                long start = (long) i * MAX_RECORD_SIZE;
+                long length = Math.min(2L * MAX_RECORD_SIZE, fileSize - start);
+                windows[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            }
+            return new Segment(file, windows);
+        }
+    }
+
+    /**
+     * Gets the segment file.
+     */
+    Path file() {
+        return file;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long totalLength() {
+        return totalLength;
+    }
+
+    @Override
+    public int length(int id) {
+        return readInt(lengthTablePosition + (long) id * Integer.BYTES);
+    }
+
+    @Override
+    public PostingList.Cursor cursor(String term) {
+        int index = find(term);
+        if (index < 0) {
+            return null;
+        }
+        ByteBuffer postings = postings(index);
+        return new PostingList.Cursor(postings, 0, postings.limit());
+    }
+
+    @Override
+    public int documentCount(String term) {
+        int index = find(term);
+        return index < 0 ? 0 : termDocumentCount(index);
+    }
+
+    /**
+     * Decodes a stored article.
+     *
+     * @param id the id of the article within this segment
+     * @return the article
+     */
+    Article get(int id) {
+        ByteBuffer record = storedArticle(id);
+        boolean hasSource = record.get() != 0;
+        String[] values = new String[FIELDS.length];
+        for (int i = 0; i < FIELDS.length; i++) {
+            int length = readVarint(record) - 1;
+            if (length >= 0) {
+                byte[] bytes = new byte[length];
+                record.get(bytes);
+                values[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+        }
+        Source source = hasSource
+                ? new Source(values[ArticleField.SOURCE_ID.ordinal()], values[ArticleField.SOURCE_NAME.ordinal()])
+                : null;
+        return new Article(values[ArticleField.TITLE.ordinal()], values[ArticleField.DESCRIPTION.ordinal()],
+                values[ArticleField.PUBLISHED_AT.ordinal()], values[ArticleField.URL.ordinal()],
+                values[ArticleField.URL_TO_IMAGE.ordinal()], values[ArticleField.CONTENT.ordinal()],
+                source, values[ArticleField.AUTHOR.ordinal()]);
+    }
+
+    /**
+     * Returns the encoded form of a stored article.
+     */
+    ByteBuffer storedArticle(int id) {
+        long start = readLong(articleTablePosition + (long) id * Long.BYTES);
+        long end = readLong(articleTablePosition + (long) (id + 1) * Long.BYTES);
+        return slice(start, (int) (end - start));
+    }
+
+    /**
+     * Gets the number of terms.
+     */
+    int termCount() {
+        return termCount;
+    }
+
+    /**
+     * Gets the UTF-8 bytes of the term at an index of the dictionary.
+     */
+    byte[] term(int index) {
+        long entry = entryPosition(index);
+        byte[] term = new byte[readInt(entry)];
+        slice(entry + Integer.BYTES, term.length).get(term);
+        return term;
+    }
+
+    /**
+     * Gets the number of articles containing the term at an index of the dictionary.
+     */
+    int termDocumentCount(int index) {
+        long entry = entryPosition(index);
+        return readInt(entry + Integer.BYTES + readInt(entry));
+    }
+
+    /**
+     * Gets the id of the last article containing the term at an index of the dictionary.
+     */
+    int termLastId(int index) {
+        long entry = entryPosition(index);
+        return readInt(entry + 2L * Integer.BYTES + readInt(entry));
+    }
+
+    /**
+     * Returns the encoded posting list of the term at an index of the dictionary.
+     */
+    ByteBuffer postings(int index) {
+        long entry = entryPosition(index);
+        long fields = entry + 3L * Integer.BYTES + readInt(entry);
+        return slice(readLong(fields), readInt(fields + Long.BYTES));
+    }
+
+    /**
+     * Binary-searches the dictionary for a term.
+     *
+     * @return the index of the term, or -1 if no article contains it
+     */
+    private int find(String term) {
+        byte[] key = term.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = termCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long entry = entryPosition(mid);
+            int length = readInt(entry);
+            ByteBuffer candidate = slice(entry + Integer.BYTES, length);
+            int order = compare(candidate, key);
+            if (order < 0) {
+                low = mid + 1;
+            } else if (order > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private static int compare(ByteBuffer candidate, byte[] key) {
+        int length = Math.min(candidate.remaining(), key.length);
+        for (int i = 0; i < length; i++) {
+            int order = Integer.compare(candidate.get(i) & 0xFF, key[i] & 0xFF);
+            if (order != 0) {
+                return order;
+            }
+        }
+        return Integer.compare(candidate.remaining(), key.length);
+    }
+
+    private long entryPosition(int index) {
+        return readLong(termTablePosition + (long) index * Long.BYTES);
+    }
+
+    private ByteBuffer slice(long position, int length) {
+        return window(position).slice(offset(position), length);
+    }
+
+    private int readInt(long position) {
+        return window(position).getInt(offset(position));
+    }
+
+    private long readLong(long position) {
+        return window(position).getLong(offset(position));
+    }
+
+    private ByteBuffer window(long position) {
+        return windows[(int) (position / MAX_RECORD_SIZE)];
+    }
+
+    private static int offset(long position) {
+        return (int) (position % MAX_RECORD_SIZE);
+    }
+
+    private static int readVarint(ByteBuffer bytes) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+}
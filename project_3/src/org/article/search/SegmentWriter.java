@@ -0,0 +1,311 @@
+package org.article.search;
+
+import org.article.core.Article;
+import org.article.core.ArticleField;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Writes an immutable index segment file; see {@link Segment} for the layout.
+ * Articles are added first, then terms in ascending order of their UTF-8 bytes.
+ * The header is written last, so a segment interrupted while being written is
+ * never mistaken for a complete one.
+ */
+class SegmentWriter implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Comparator<byte[]> TERM_ORDER = Arrays::compareUnsigned;
+
+    private final FileChannel channel;
+    private final DataOutputStream out;
+    private final ByteArrayOutputStream dictionary = new ByteArrayOutputStream();
+    private final DataOutputStream dictionaryOut = new DataOutputStream(dictionary);
+    private long position;
+    private long[] articleOffsets = new long[1024];
+    private int[] lengths = new int[1024];
+    private int articleCount;
+    private long totalLength;
+    private long[] termOffsets = new long[1024];
+    private int termCount;
+    private byte[] lastTerm;
+    private long articleTablePosition = -1;
+    private long lengthTablePosition;
+
+    /**
+     * Creates the segment file, replacing any existing file.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be created
+     */
+    SegmentWriter(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE));
+        out.write(new byte[Segment.HEADER_SIZE]);
+        position = Segment.HEADER_SIZE;
+    }
+
+    /**
+     * Writes the articles and terms of an in-memory index snapshot as a segment.
+     *
+     * @param snapshot the snapshot to write
+     * @param file the file to write
+     * @throws IOException if the segment cannot be written
+     */
+    static void write(ArticleIndex.Snapshot snapshot, Path file) throws IOException {
+        try (SegmentWriter writer = new SegmentWriter(file)) {
+            for (int id = 0; id < snapshot.size(); id++) {
+                writer.addArticle(snapshot.articles()[id], snapshot.lengths()[id]);
+            }
+            List<Map.Entry<byte[], PostingList>> terms = new ArrayList<>(snapshot.postings().size());
+            for (Map.Entry<String, PostingList> entry : snapshot.postings().entrySet()) {
+                terms.add(Map.entry(entry.getKey().getBytes(StandardCharsets.UTF_8), entry.getValue()));
+            }
+            terms.sort(Map.Entry.comparingByKey(TERM_ORDER));
+            for (Map.Entry<byte[], PostingList> term : terms) {
+                PostingList list = term.getValue();
+                writer.addTerm(term.getKey(), list.documentCount(), list.lastId(), list.encoded());
+            }
+            writer.finish();
+        }
+    }
+
+    /**
+     * Merges consecutive segments into one, keeping article order.
+     * Stored articles are copied as they are. Posting lists of a term are
+     * concatenated; only the first id gap of each source segment is re-encoded
+     * to account for the articles of the segments before it.
+     *
+     * @param segments the segments to merge, in id order
+     * @param file the file to write
+     * @throws IOException if the segment cannot be written
+     */
+    static void merge(List<Segment> segments, Path file) throws IOException {
+        try (SegmentWriter writer = new SegmentWriter(file)) {
+            int[] bases = new int[segments.size()];
+            int base = 0;
+            for (int s = 0; s < segments.size(); s++) {
+                Segment segment = segments.get(s);
+                bases[s] = base;
+                for (int id = 0; id < segment.size(); id++) {
+                    writer.addStoredArticle(segment.storedArticle(id), segment.length(id));
+                }
+                base += segment.size();
+            }
+
+            PriorityQueue<int[]> heads = new PriorityQueue<>((a, b) -> {
+                int order = TERM_ORDER.compare(segments.get(a[0]).term(a[1]), segments.get(b[0]).term(b[1]));
+                return order != 0 ? order : Integer.compare(a[0], b[0]);
+            });
+            for (int s = 0; s < segments.size(); s++) {
+                if (segments.get(s).termCount() > 0) {
+                    heads.add(new int[]{s, 0});
+                }
+            }
+            ByteArrayOutputStream postings = new ByteArrayOutputStream();
+            while (!heads.isEmpty()) {
+                byte[] term = segments.get(heads.peek()[0]).term(heads.peek()[1]);
+                postings.reset();
+                int documentCount = 0;
+                int lastId = -1;
+                while (!heads.isEmpty()
+                        && Arrays.equals(segments.get(heads.peek()[0]).term(heads.peek()[1]), term)) {
+                    int[] head = heads.poll();
+                    Segment segment = segments.get(head[0]);
+                    int termIndex = head[1];
+                    ByteBuffer encoded = segment.postings(termIndex);
+                    int firstId = readVarint(encoded) - 1;
+                    writeVarint(postings, bases[head[0]] + firstId - lastId);
+                    while (encoded.hasRemaining()) {
+                        postings.write(encoded.get());
+                    }
+                    documentCount += segment.termDocumentCount(termIndex);
+                    lastId = bases[head[0]] + segment.termLastId(termIndex);
+                    if (termIndex + 1 < segment.termCount()) {
+                        heads.add(new int[]{head[0], termIndex + 1});
+                    }
+                }
+                writer.addTerm(term, documentCount, lastId, ByteBuffer.wrap(postings.toByteArray()));
+            }
+            writer.finish();
+        }
+    }
+
+    /**
+     * Appends an article.
+     *
+     * @param article the article to store
+     * @param length the number of token positions of the article
+     */
+    void addArticle(Article article, int length) throws IOException {
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        record.write(article.getSource() != null ? 1 : 0);
+        for (ArticleField field : ArticleField.values()) {
+            String value = field.get(article);
+            if (value == null) {
+                writeVarint(record, 0);
+            } else {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeVarint(record, bytes.length + 1);
+                record.write(bytes);
+            }
+        }
+        addStoredArticle(ByteBuffer.wrap(record.toByteArray()), length);
+    }
+
+    /**
+     * Appends an article already encoded in the stored format.
+     */
+    void addStoredArticle(ByteBuffer record, int length) throws IOException {
+        if (articleTablePosition >= 0) {
+            throw new IllegalStateException("Articles must be added before terms");
+        }
+        if (articleCount + 1 == articleOffsets.length) {
+            articleOffsets = Arrays.copyOf(articleOffsets, articleOffsets.length * 2);
+            lengths = Arrays.copyOf(lengths, lengths.length * 2);
+        }
+        checkRecordSize(record.remaining());
+        articleOffsets[articleCount] = position;
+        lengths[articleCount++] = length;
+        totalLength += length;
+        write(record);
+    }
+
+    /**
+     * Appends the postings of a term.
+     *
+     * @param term the UTF-8 bytes of the term, greater than those of every term added before
+     * @param documentCount the number of articles containing the term
+     * @param lastId the id of the last article in the postings
+     * @param postings the encoded posting list
+     */
+    void addTerm(byte[] term, int documentCount, int lastId, ByteBuffer postings) throws IOException {
+        if (lastTerm != null && TERM_ORDER.compare(lastTerm, term) >= 0) {
+            throw new IllegalArgumentException("Terms must be added in ascending order: "
+                    + new String(term, StandardCharsets.UTF_8));
+        }
+        if (articleTablePosition < 0) {
+            writeArticleTables();
+        }
+        checkRecordSize(postings.remaining());
+        if (termCount == termOffsets.length) {
+            termOffsets = Arrays.copyOf(termOffsets, termCount * 2);
+        }
+        termOffsets[termCount++] = dictionary.size();
+        dictionaryOut.writeInt(term.length);
+        dictionaryOut.write(term);
+        dictionaryOut.writeInt(documentCount);
+        dictionaryOut.writeInt(lastId);
+        dictionaryOut.writeLong(position);
+        dictionaryOut.writeInt(postings.remaining());
+        write(postings);
+        lastTerm = term;
+    }
+
+    /**
+     * Writes the term dictionary and the header and forces the file to disk.
+     */
+    void finish() throws IOException {
+        if (articleTablePosition < 0) {
+            writeArticleTables();
+        }
+        long dictionaryPosition = position;
+        checkRecordSize(dictionary.size());
+        dictionary.writeTo(out);
+        position += dictionary.size();
+        long termTablePosition = position;
+        checkRecordSize((long) termCount * Long.BYTES);
+        for (int i = 0; i < termCount; i++) {
+            out.writeLong(dictionaryPosition + termOffsets[i]);
+        }
+        out.flush();
+
+        ByteBuffer header = ByteBuffer.allocate(Segment.HEADER_SIZE);
+        header.putLong(Segment.MAGIC)
+                .putInt(Segment.VERSION)
+                .putInt(articleCount)
+                .putInt(termCount)
+                .putInt(0)
+                .putLong(totalLength)
+                .putLong(articleTablePosition)
+                .putLong(lengthTablePosition)
+                .putLong(termTablePosition)
+                .flip();
+        channel.force(false);
+        channel.write(header, 0);
+        channel.force(true);
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void writeArticleTables() throws IOException {
+        articleTablePosition = position;
+        checkRecordSize((long) (articleCount + 1) * Long.BYTES);
+        for (int i = 0; i < articleCount; i++) {
+            out.writeLong(articleOffsets[i]);
+        }
+        out.writeLong(articleTablePosition);
+        position += (long) (articleCount + 1) * Long.BYTES;
+        lengthTablePosition = position;
+        for (int i = 0; i < articleCount; i++) {
+            out.writeInt(lengths[i]);
+        }
+        position += (long) articleCount * Integer.BYTES;
+    }
+
+    private void write(ByteBuffer bytes) throws IOException {
+        int length = bytes.remaining();
+        if (bytes.hasArray()) {
+            out.write(bytes.array(), bytes.arrayOffset() + bytes.position(), length);
+        } else {
+            byte[] copy = new byte[length];
+            bytes.duplicate().get(copy);
+            out.write(copy);
+        }
+        position += length;
+    }
+
+    private static void checkRecordSize(long size) {
+        if (size > Segment.MAX_RECORD_SIZE) {
+            throw new IllegalArgumentException("Segment record of " + size + " bytes exceeds the limit of "
+                    + Segment.MAX_RECORD_SIZE);
+        }
+    }
+
+    private static int readVarint(ByteBuffer bytes) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+}
@@ -0,0 +1,382 @@
+package org.article.search;
+
+import org.article.core.Article;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Persistent article index made of immutable, memory-mapped segments.
+ * New articles collect in an in-memory {@link ArticleIndex} until {@link #flush()}
+ * writes them as a new segment. A manifest file lists the live segments in id
+ * order and is replaced atomically, so a restarted process maps the segments it
+ * names and can search right away, without reparsing any input.
+ * <p>
+ * Segments are merged on a background thread. Each segment has a level, the floor
+ * of the logarithm of its size to the base of the merge factor, with segments smaller
+ * than the floor size all on the lowest level. Walking from the oldest segment, the
+ * segments up to the last one on the highest remaining level form a tier; a tier of
+ * merge-factor or more segments has its oldest merge-factor segments rewritten as one,
+ * which also sweeps up smaller segments stranded between larger ones. Every tier then
+ * holds fewer than merge-factor segments and tiers have strictly decreasing levels, so
+ * the number of segments grows only logarithmically with the corpus, whatever the
+ * sizes of the flushes. Merging adjacent segments keeps every article id stable. Searches see a consistent
+ * set of segments and may run on any thread while articles are added or merged.
+ * </p>
+ */
+public class SegmentedIndex implements SearchIndex, AutoCloseable {
+    /**
+     * The number of similar-sized segments merged at once when no factor is given.
+     */
+    public static final int DEFAULT_MERGE_FACTOR = 8;
+
+    /**
+     * Segments with at most this many articles are all on the lowest merge level.
+     */
+    static final int FLOOR_SEGMENT_SIZE = 1000;
+    private static final String MANIFEST = "segments";
+    private static final String SEGMENT_PREFIX = "segment_";
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path directory;
+    private final int mergeFactor;
+    private final boolean readOnly;
+    private final ExecutorService merger;
+    private volatile State state;
+    private long nextGeneration;
+    private boolean mergePending;
+    private IOException mergeFailure;
+
+    /**
+     * Opens or creates an index with the default merge factor.
+     *
+     * @param directory the directory holding the segments, created if missing
+     * @throws IOException if the directory or a listed segment cannot be opened
+     */
+    public SegmentedIndex(Path directory) throws IOException {
+        this(directory, DEFAULT_MERGE_FACTOR);
+    }
+
+    /**
+     * Opens or creates an index.
+     * Segment files not listed in the manifest are left over from an interrupted
+     * flush or merge and are deleted.
+     *
+     * @param directory the directory holding the segments, created if missing
+     * @param mergeFactor the number of similar-sized segments merged at once, at least 2
+     * @throws IOException if the directory or a listed segment cannot be opened
+     * @throws IllegalArgumentException if mergeFactor is less than 2
+     */
+    public SegmentedIndex(Path directory, int mergeFactor) throws IOException {
+        this(directory, mergeFactor, false);
+    }
+
+    private SegmentedIndex(Path directory, int mergeFactor, boolean readOnly) throws IOException {
+        if (mergeFactor < 2) {
+            throw new IllegalArgumentException("Merge factor must be at least 2");
+        }
+        this.directory = readOnly ? directory : Files.createDirectories(directory);
+        this.mergeFactor = mergeFactor;
+        this.readOnly = readOnly;
+
+        Path manifest = directory.resolve(MANIFEST);
+        List<String> names = readOnly || Files.exists(manifest)
+                ? Files.readAllLines(manifest, StandardCharsets.UTF_8)
+                : List.of();
+        List<Segment> segments = new ArrayList<>(names.size());
+        for (String name : names) {
+            segments.add(Segment.open(directory.resolve(name)));
+            nextGeneration = Math.max(nextGeneration, generationOf(name) + 1);
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                nextGeneration = Math.max(nextGeneration, generationOf(name) + 1);
+                if (!readOnly && !names.contains(name)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+        this.state = new State(List.copyOf(segments), new ArticleIndex());
+        this.merger = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "article-index-merger");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Opens an existing index for searching only.
+     * Nothing in the directory is created or deleted, so a mistyped path fails
+     * instead of leaving an empty index behind.
+     *
+     * @param directory the directory holding the segments
+     * @return the index
+     * @throws java.nio.file.NoSuchFileException if the directory holds no index
+     * @throws IOException if a listed segment cannot be opened
+     */
+    public static SegmentedIndex openReadOnly(Path directory) throws IOException {
+        return new SegmentedIndex(directory, DEFAULT_MERGE_FACTOR, true);
+    }
+
+    /**
+     * Adds an article to the in-memory part of the index.
+     *
+     * @param article the article to add
+     * @return the id of the article
+     * @throws IllegalStateException if the index was opened read-only
+     */
+    @Override
+    public synchronized int add(Article article) {
+        if (readOnly) {
+            throw new IllegalStateException("Index is open read-only");
+        }
+        State current = state;
+        return current.segmentSize() + current.buffer().add(article);
+    }
+
+    /**
+     * Writes the articles added since the last flush as a new segment.
+     *
+     * @throws IOException if the segment or the manifest cannot be written
+     */
+    public synchronized void flush() throws IOException {
+        State current = state;
+        if (current.buffer().size() == 0) {
+            return;
+        }
+        Path file = directory.resolve(SEGMENT_PREFIX + nextGeneration++ + SEGMENT_SUFFIX);
+        SegmentWriter.write(current.buffer().snapshot(), file);
+        List<Segment> segments = new ArrayList<>(current.segments());
+        segments.add(Segment.open(file));
+        publish(segments, new ArticleIndex());
+        scheduleMerge();
+    }
+
+    /**
+     * Gets the number of articles in the index.
+     *
+     * @return the number of articles
+     */
+    @Override
+    public int size() {
+        State current = state;
+        return current.segmentSize() + current.buffer().size();
+    }
+
+    /**
+     * Gets the number of segments on disk.
+     *
+     * @return the number of segments
+     */
+    public int segmentCount() {
+        return state.segments().size();
+    }
+
+    /**
+     * Gets an article.
+     *
+     * @param id the id returned when the article was added
+     * @return the article
+     * @throws IndexOutOfBoundsException if no article has that id
+     */
+    @Override
+    public Article get(int id) {
+        State current = state;
+        int base = 0;
+        for (Segment segment : current.segments()) {
+            if (id >= base && id < base + segment.size()) {
+                return segment.get(id - base);
+            }
+            base += segment.size();
+        }
+        if (id < base) {
+            throw new IndexOutOfBoundsException("Article " + id + " out of bounds for index of size " + size());
+        }
+        return current.buffer().get(id - base);
+    }
+
+    /**
+     * Finds the best-matching articles across all segments and unflushed articles.
+     *
+     * @param query the query to run
+     * @param limit the maximum number of ids to return
+     * @return the ids of the matching articles, best first
+     */
+    @Override
+    public int[] search(Query query, int limit) {
+        State current = state;
+        List<TermSource> parts = new ArrayList<>(current.segments());
+        parts.add(current.buffer().snapshot());
+        return IndexSnapshot.search(parts, query, limit);
+    }
+
+    /**
+     * Parses and runs a query.
+     *
+     * @param query the query text, see {@link Query#parse(String)}
+     * @param limit the maximum number of ids to return
+     * @return the ids of the matching articles, best first
+     * @throws IllegalArgumentException if the query is invalid
+     */
+    public int[] search(String query, int limit) {
+        return search(Query.parse(query), limit);
+    }
+
+    /**
+     * Flushes unwritten articles and waits for pending merges, including merges they trigger.
+     *
+     * @throws IOException if flushing failed or a background merge failed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        flush();
+        try {
+            while (mergePending) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        merger.shutdown();
+        if (mergeFailure != null) {
+            throw mergeFailure;
+        }
+    }
+
+    /**
+     * Starts a merge if a tier holds merge-factor segments and none is running.
+     */
+    private void scheduleMerge() {
+        List<Segment> segments = state.segments();
+        if (mergePending || mergeFailure != null) {
+            return;
+        }
+        int first = mergeStart(segments);
+        if (first < 0) {
+            return;
+        }
+        List<Segment> toMerge = List.copyOf(segments.subList(first, first + mergeFactor));
+        Path file = directory.resolve(SEGMENT_PREFIX + nextGeneration++ + SEGMENT_SUFFIX);
+        mergePending = true;
+        merger.execute(() -> merge(first, toMerge, file));
+    }
+
+    /**
+     * Finds the oldest tier of at least merge-factor segments.
+     *
+     * @param segments the live segments in id order
+     * @return the index of the first segment to merge, or -1 if no tier is due
+     */
+    private int mergeStart(List<Segment> segments) {
+        int[] levels = new int[segments.size()];
+        for (int i = 0; i < levels.length; i++) {
+            levels[i] = level(segments.get(i).size());
+        }
+        int start = 0;
+        while (start < levels.length) {
+            int top = start;
+            for (int i = start; i < levels.length; i++) {
+                if (levels[i] >= levels[top]) {
+                    top = i;
+                }
+            }
+            if (top - start + 1 >= mergeFactor) {
+                return start;
+            }
+            start = top + 1;
+        }
+        return -1;
+    }
+
+    private int level(int size) {
+        return (int) Math.floor(Math.log(Math.max(size, FLOOR_SEGMENT_SIZE)) / Math.log(mergeFactor));
+    }
+
+    /**
+     * Rewrites consecutive segments as one and swaps it in.
+     * Flushes only append segments and merges run one at a time, so the merged
+     * segments are still at the same place in the list when the merge completes.
+     * A failed merge deletes its partial file and is reported by {@link #close()}.
+     */
+    private void merge(int first, List<Segment> toMerge, Path file) {
+        boolean published = false;
+        try {
+            SegmentWriter.merge(toMerge, file);
+            Segment merged = Segment.open(file);
+            synchronized (this) {
+                List<Segment> segments = new ArrayList<>(state.segments());
+                segments.subList(first, first + toMerge.size()).clear();
+                segments.add(first, merged);
+                publish(segments, state.buffer());
+                published = true;
+                for (Segment segment : toMerge) {
+                    deleteMerged(segment.file());
+                }
+                mergePending = false;
+                scheduleMerge();
+            }
+        } catch (Exception e) {
+            if (!published) {
+                deleteMerged(file);
+            }
+            synchronized (this) {
+                mergeFailure = e instanceof IOException io ? io : new IOException("Error merging segments", e);
+            }
+        } finally {
+            synchronized (this) {
+                if (mergeFailure != null || !published) {
+                    mergePending = false;
+                }
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Makes a new set of segments visible and records it in the manifest.
+     */
+    private void publish(List<Segment> segments, ArticleIndex buffer) throws IOException {
+        List<String> names = new ArrayList<>(segments.size());
+        for (Segment segment : segments) {
+            names.add(segment.file().getFileName().toString());
+        }
+        Path temporary = directory.resolve(MANIFEST + ".tmp");
+        Files.write(temporary, names, StandardCharsets.UTF_8);
+        Files.move(temporary, directory.resolve(MANIFEST), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        state = new State(List.copyOf(segments), buffer);
+    }
+
+    private static void deleteMerged(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // Platforms that lock mapped files refuse; the file is not in the manifest and is removed on the next open.
+        }
+    }
+
+    private static long generationOf(String name) {
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * The live segments and the unflushed articles, replaced as a whole.
+     */
+    private record State(List<Segment> segments, ArticleIndex buffer) {
+        int segmentSize() {
+            int size = 0;
+            for (Segment segment : segments) {
+                size += segment.size();
+            }
+            return size;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.article.search;
+
+import java.util.Arrays;
+
+/**
+ * Matches articles containing a single term.
+ */
+class TermQuery extends Query {
+    private final String term;
+
+    TermQuery(String term) {
+        this.term = term;
+    }
+
+    @Override
+    ScoredDocs evaluate(IndexSnapshot snapshot) {
+        PostingList.Cursor cursor = snapshot.cursor(term);
+        if (cursor == null) {
+            return ScoredDocs.EMPTY;
+        }
+        float idf = snapshot.idf(term);
+        int[] ids = new int[16];
+        float[] scores = new float[16];
+        int count = 0;
+        while (cursor.next() && cursor.id() < snapshot.size()) {
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, count * 2);
+                scores = Arrays.copyOf(scores, count * 2);
+            }
+            ids[count] = cursor.id();
+            scores[count++] = snapshot.score(idf, cursor.frequency(), cursor.id());
+        }
+        return new ScoredDocs(ids, scores, count);
+    }
+
+    @Override
+    public String toString() {
+        return term;
+    }
+}
@@ -0,0 +1,32 @@
+package org.article.search;
+
+/**
+ * Read access to the postings and article lengths of one part of an index:
+ * the in-memory index or a single on-disk segment. Article ids are local to the part.
+ */
+interface TermSource {
+    /**
+     * Gets the number of articles in this part.
+     */
+    int size();
+
+    /**
+     * Gets the total number of token positions of all articles in this part.
+     */
+    long totalLength();
+
+    /**
+     * Returns a cursor over the postings of a term, or null if no article contains it.
+     */
+    PostingList.Cursor cursor(String term);
+
+    /**
+     * Gets the number of articles in this part containing a term.
+     */
+    int documentCount(String term);
+
+    /**
+     * Gets the number of token positions of an article.
+     */
+    int length(int id);
+}
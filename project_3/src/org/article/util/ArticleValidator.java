@@ -1,16 +1,52 @@
 package org.article.util;
 
 import org.article.core.Article;
+import org.article.core.ArticleBatch;
+import org.article.core.ArticleField;
+import java.util.EnumSet;
+import java.util.Set;
 
 /**
  * Interface for article validation.
  */
 public interface ArticleValidator {
+    /**
+     * Validates the provided article.
+     *
+     * @param article the article to validate
+     * @return VALID, or the reason the article was rejected
+     */
+    ValidationResult validate(Article article);
+
     /**
      * Validates the provided article.
      *
      * @param article the article to validate
      * @return true if the article is valid, false otherwise
      */
-    boolean isValid(Article article);
-}
\ No newline at end of file
+    default boolean isValid(Article article) {
+        return validate(article).isValid();
+    }
+
+    /**
+     * Validates one article of a columnar batch.
+     * The default materializes a lazy view; implementations may check the stored bytes directly.
+     *
+     * @param batch the batch holding the article
+     * @param row the row index of the article
+     * @return VALID, or the reason the article was rejected
+     */
+    default ValidationResult validate(ArticleBatch batch, int row) {
+        return validate(batch.get(row));
+    }
+
+    /**
+     * Gets the fields this validator reads, so that parsers may skip decoding the others.
+     * The default assumes that any field may be read.
+     *
+     * @return the fields read by validation
+     */
+    default Set<ArticleField> getCheckedFields() {
+        return EnumSet.allOf(ArticleField.class);
+    }
+}
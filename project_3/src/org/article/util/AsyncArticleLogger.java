@@ -0,0 +1,245 @@
+package org.article.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.SimpleFormatter;
+
+/**
+ * Asynchronous file-based implementation of ArticleLogger.
+ * Logging threads only enqueue a record into a bounded lock-free ring buffer;
+ * a single background thread formats the records with the same layout as
+ * FileArticleLogger and writes them to the file in batches, flushing once per batch.
+ * If the writer thread fails, later messages are dropped instead of queued, so
+ * producers never wait on a writer that is gone.
+ * Implements AutoCloseable; closing drains every queued record before returning.
+ */
+public class AsyncArticleLogger implements ArticleLogger, AutoCloseable {
+    /**
+     * The default number of records the buffer can hold.
+     */
+    public static final int DEFAULT_CAPACITY = 8192;
+    private static final int MAX_BATCH_SIZE = 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final LogRingBuffer<LogRecord> buffer;
+    private final OverflowPolicy overflowPolicy;
+    private final Writer writer;
+    private final Formatter formatter = new SimpleFormatter();
+    private final ErrorManager errorManager = new ErrorManager();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicInteger activeProducers = new AtomicInteger();
+    private volatile Thread writerThread;
+    private volatile boolean closed;
+    private volatile boolean stopping;
+    private volatile boolean failed;
+    private long reportedDropped;
+
+    /**
+     * Opens a logger with the default capacity that blocks when full.
+     * @param logFileName the name of the log file
+     * @return the running logger
+     * @throws LoggingException if the log file cannot be opened
+     */
+    public static AsyncArticleLogger open(String logFileName) throws LoggingException {
+        return open(logFileName, DEFAULT_CAPACITY, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Opens a logger that appends to the specified file.
+     * @param logFileName the name of the log file
+     * @param capacity the number of records the buffer can hold, rounded up to a power of two
+     * @param overflowPolicy what to do with a record when the buffer is full
+     * @return the running logger
+     * @throws LoggingException if the log file cannot be opened
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public static AsyncArticleLogger open(String logFileName, int capacity, OverflowPolicy overflowPolicy)
+            throws LoggingException {
+        Writer writer;
+        try {
+            writer = Files.newBufferedWriter(Paths.get(logFileName), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (Exception e) {
+            throw new LoggingException(
+                    String.format("Failed to initialize file logger with file: %s", logFileName),
+                    e);
+        }
+        return open(writer, capacity, overflowPolicy);
+    }
+
+    /**
+     * Opens a logger that writes to the given writer, which it closes when closed.
+     */
+    static AsyncArticleLogger open(Writer writer, int capacity, OverflowPolicy overflowPolicy) {
+        AsyncArticleLogger logger = new AsyncArticleLogger(writer, capacity, overflowPolicy);
+        logger.start();
+        return logger;
+    }
+
+    private AsyncArticleLogger(Writer writer, int capacity, OverflowPolicy overflowPolicy) {
+        this.buffer = new LogRingBuffer<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.writer = writer;
+    }
+
+    private void start() {
+        writerThread = Thread.ofPlatform().name("article-logger-writer").daemon().start(this::writeLoop);
+    }
+
+    /**
+     * Logs a warning message.
+     * @param message the message to log
+     */
+    @Override
+    public void warning(String message) {
+        enqueue(Level.WARNING, message, "warning");
+    }
+
+    /**
+     * Logs an error message with an exception.
+     * @param message the message to log
+     * @param e the exception to log
+     */
+    @Override
+    public void error(String message, Exception e) {
+        String errorMessage = e.getMessage();
+        if (errorMessage != null) {
+            enqueue(Level.SEVERE, String.format("%s: %s", message, errorMessage), "error");
+        } else {
+            enqueue(Level.SEVERE, message, "error");
+        }
+
+        Throwable cause = e.getCause();
+        if (cause != null && cause.getMessage() != null) {
+            enqueue(Level.SEVERE, String.format("Caused by: %s", cause.getMessage()), "error");
+        }
+    }
+
+    /**
+     * Gets the number of messages discarded because the buffer was full.
+     * @return the number of dropped messages
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Writes every queued record, stops the background writer and closes the file.
+     * Messages logged after closing are discarded. Logging calls already past the closed
+     * check are waited for, so their records are written too.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        while (activeProducers.get() > 0) {
+            LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+        }
+        stopping = true;
+        LockSupport.unpark(writerThread);
+        boolean interrupted = false;
+        while (writerThread.isAlive()) {
+            try {
+                writerThread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void enqueue(Level level, String message, String method) {
+        activeProducers.incrementAndGet();
+        try {
+            if (closed) {
+                return;
+            }
+            LogRecord record = newRecord(level, message, method);
+            while (failed || !buffer.offer(record)) {
+                if (overflowPolicy != OverflowPolicy.BLOCK || closed || failed) {
+                    dropped.increment();
+                    return;
+                }
+                LockSupport.unpark(writerThread);
+                LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+            }
+        } finally {
+            activeProducers.decrementAndGet();
+        }
+    }
+
+    private static LogRecord newRecord(Level level, String message, String method) {
+        LogRecord record = new LogRecord(level, message);
+        record.setLoggerName(AsyncArticleLogger.class.getName());
+        record.setSourceClassName(AsyncArticleLogger.class.getName());
+        record.setSourceMethodName(method);
+        return record;
+    }
+
+    private void writeLoop() {
+        List<LogRecord> batch = new ArrayList<>(Math.min(buffer.capacity(), MAX_BATCH_SIZE));
+        try {
+            while (true) {
+                boolean closing = stopping;
+                if (buffer.drainTo(batch, MAX_BATCH_SIZE) > 0) {
+                    writeBatch(batch);
+                } else if (closing) {
+                    writeBatch(batch);
+                    break;
+                } else {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+            }
+        } catch (Throwable t) {
+            failed = true;
+            errorManager.error("Log writer stopped", t instanceof Exception e ? e : new RuntimeException(t),
+                    ErrorManager.GENERIC_FAILURE);
+        } finally {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                errorManager.error("Failed to close log file", e, ErrorManager.CLOSE_FAILURE);
+            }
+        }
+    }
+
+    private void writeBatch(List<LogRecord> batch) {
+        try {
+            for (LogRecord record : batch) {
+                writer.write(formatter.format(record));
+            }
+            if (overflowPolicy == OverflowPolicy.COUNT_DROPPED) {
+                long total = dropped.sum();
+                if (total > reportedDropped) {
+                    writer.write(formatter.format(newRecord(Level.WARNING, String.format(
+                            "Log buffer full: %d messages dropped", total - reportedDropped), "warning")));
+                    reportedDropped = total;
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            errorManager.error("Failed to write log records", e, ErrorManager.WRITE_FAILURE);
+        } finally {
+            batch.clear();
+        }
+    }
+}
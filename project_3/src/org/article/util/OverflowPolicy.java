@@ -0,0 +1,19 @@
+package org.article.util;
+
+/**
+ * What an asynchronous logger does when its buffer is full.
+ */
+public enum OverflowPolicy {
+    /**
+     * Wait until the background writer frees space, so no message is lost.
+     */
+    BLOCK,
+    /**
+     * Discard the message silently.
+     */
+    DROP,
+    /**
+     * Discard the message and write a warning with the number of dropped messages.
+     */
+    COUNT_DROPPED
+}
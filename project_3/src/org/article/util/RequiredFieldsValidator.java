@@ -1,7 +1,11 @@
 package org.article.util;
 
 import org.article.core.Article;
+import org.article.core.ArticleBatch;
+import org.article.core.ArticleField;
 import org.article.core.Source;
+import java.util.EnumSet;
+import java.util.Set;
 
 /**
  * Validates required fields in an article.
@@ -11,23 +15,78 @@ public class RequiredFieldsValidator implements ArticleValidator {
      * Validates that the article has all required fields.
      *
      * @param article the article to validate
-     * @return true if the article is valid, false otherwise
+     * @return VALID, or the first required field that is missing
      */
     @Override
-    public boolean isValid(Article article) {
-        return article != null &&
-                isNotEmpty(article.getTitle()) &&
-                isNotEmpty(article.getDescription()) &&
-                isNotEmpty(article.getPublishedAt()) &&
-                isNotEmpty(article.getUrl()) &&
-                hasValidSource(article.getSource());
+    public ValidationResult validate(Article article) {
+        if (article == null) {
+            return ValidationResult.NULL_ARTICLE;
+        }
+        if (!isNotEmpty(article.getTitle())) {
+            return ValidationResult.MISSING_TITLE;
+        }
+        if (!isNotEmpty(article.getDescription())) {
+            return ValidationResult.MISSING_DESCRIPTION;
+        }
+        if (!isNotEmpty(article.getPublishedAt())) {
+            return ValidationResult.MISSING_PUBLISHED_AT;
+        }
+        if (!isNotEmpty(article.getUrl())) {
+            return ValidationResult.MISSING_URL;
+        }
+        Source source = article.getSource();
+        if (source == null) {
+            return ValidationResult.MISSING_SOURCE;
+        }
+        if (!isNotEmpty(source.getName())) {
+            return ValidationResult.MISSING_SOURCE_NAME;
+        }
+        return ValidationResult.VALID;
     }
 
-    private boolean isNotEmpty(String value) {
-        return value != null && !value.trim().isEmpty();
+    /**
+     * Validates that a batch article has all required fields, checking the stored bytes
+     * without decoding them.
+     *
+     * @param batch the batch holding the article
+     * @param row the row index of the article
+     * @return VALID, or the first required field that is missing
+     */
+    @Override
+    public ValidationResult validate(ArticleBatch batch, int row) {
+        if (!batch.hasText(row, ArticleField.TITLE)) {
+            return ValidationResult.MISSING_TITLE;
+        }
+        if (!batch.hasText(row, ArticleField.DESCRIPTION)) {
+            return ValidationResult.MISSING_DESCRIPTION;
+        }
+        if (!batch.hasText(row, ArticleField.PUBLISHED_AT)) {
+            return ValidationResult.MISSING_PUBLISHED_AT;
+        }
+        if (!batch.hasText(row, ArticleField.URL)) {
+            return ValidationResult.MISSING_URL;
+        }
+        if (!batch.hasSource(row)) {
+            return ValidationResult.MISSING_SOURCE;
+        }
+        if (!batch.hasText(row, ArticleField.SOURCE_NAME)) {
+            return ValidationResult.MISSING_SOURCE_NAME;
+        }
+        return ValidationResult.VALID;
+    }
+
+    /**
+     * Gets the required fields, the only ones this validator reads.
+     *
+     * @return title, description, publication date, URL and source name
+     */
+    @Override
+    public Set<ArticleField> getCheckedFields() {
+        return EnumSet.of(ArticleField.TITLE, ArticleField.DESCRIPTION, ArticleField.PUBLISHED_AT,
+                ArticleField.URL, ArticleField.SOURCE_NAME);
     }
 
-    private boolean hasValidSource(Source source) {
-        return source != null && isNotEmpty(source.getName());
+    private boolean isNotEmpty(String value) {
+        return ValidationRule.hasText(value);
     }
-}
\ No newline at end of file
+}
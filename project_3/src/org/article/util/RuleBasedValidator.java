@@ -0,0 +1,179 @@
+package org.article.util;
+
+import org.article.core.Article;
+import org.article.core.ArticleField;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Validates articles against rules declared in a rules file.
+ * Each non-blank line declares one rule; lines starting with '#' are comments:
+ * <pre>
+ * required &lt;field&gt;
+ * length   &lt;field&gt; &lt;min&gt; &lt;max&gt;
+ * url      &lt;field&gt;
+ * date     &lt;field&gt;
+ * </pre>
+ * Field names are those of {@link ArticleField}. The rules are compiled once into
+ * a flat array of allocation-free checks. While validating, the validator tracks
+ * how often each rule rejects and periodically reorders the array so the rules
+ * that reject most per unit of cost run first. With several failing fields the
+ * reported reason may therefore change over time; the accept/reject outcome does not.
+ */
+public class RuleBasedValidator implements ArticleValidator {
+    /**
+     * The average number of validations between two reorderings; a power of two.
+     */
+    static final int REORDER_INTERVAL = 1024;
+
+    private volatile ValidationRule[] rules;
+
+    private RuleBasedValidator(List<ValidationRule> rules) {
+        this.rules = rules.toArray(new ValidationRule[0]);
+    }
+
+    /**
+     * Creates a validator with the same rules as RequiredFieldsValidator.
+     * @return a validator requiring title, description, publishedAt, url and source name
+     */
+    public static RuleBasedValidator defaults() {
+        return parse(List.of(
+                "required title",
+                "required description",
+                "required publishedAt",
+                "required url",
+                "required source.name"));
+    }
+
+    /**
+     * Reads and compiles the rules of a rules file.
+     * @param rulesPath the path to the rules file
+     * @return the compiled validator
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if a line is malformed
+     */
+    public static RuleBasedValidator read(Path rulesPath) throws IOException {
+        return parse(Files.readAllLines(rulesPath, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Compiles rule declarations.
+     * @param lines the rule declarations
+     * @return the compiled validator
+     * @throws IllegalArgumentException if a line is malformed
+     */
+    public static RuleBasedValidator parse(List<String> lines) {
+        List<ValidationRule> rules = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            try {
+                rules.add(compile(line.split("\\s+")));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(String.format(
+                        "Invalid rule on line %d: %s", i + 1, e.getMessage()), e);
+            }
+        }
+        return new RuleBasedValidator(rules);
+    }
+
+    private static ValidationRule compile(String[] parts) {
+        String kind = parts[0];
+        int expectedParts = kind.equals("length") ? 4 : 2;
+        if (parts.length != expectedParts) {
+            throw new IllegalArgumentException(
+                    "Required: required|url|date <field>, or length <field> <min> <max>");
+        }
+        ArticleField field = ArticleField.forName(parts[1]);
+        return switch (kind) {
+            case "required" -> ValidationRule.required(field);
+            case "length" -> ValidationRule.length(field, parseBound(parts[2]), parseBound(parts[3]));
+            case "url" -> ValidationRule.url(field);
+            case "date" -> ValidationRule.date(field);
+            default -> throw new IllegalArgumentException("Unknown rule '" + kind + "'");
+        };
+    }
+
+    private static int parseBound(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Length bound is not a number: " + value);
+        }
+    }
+
+    /**
+     * Validates the article against every rule, in the current order.
+     *
+     * @param article the article to validate
+     * @return VALID, or the reason given by the first rule that rejects the article
+     */
+    @Override
+    public ValidationResult validate(Article article) {
+        if ((ThreadLocalRandom.current().nextInt() & (REORDER_INTERVAL - 1)) == 0) {
+            reorder();
+        }
+        if (article == null) {
+            return ValidationResult.NULL_ARTICLE;
+        }
+        for (ValidationRule rule : rules) {
+            ValidationResult result = rule.check(article);
+            if (!result.isValid()) {
+                return result;
+            }
+        }
+        return ValidationResult.VALID;
+    }
+
+    /**
+     * Reorders the rules by their observed rejections per unit of cost.
+     * Validations in progress keep using the array they started with.
+     */
+    synchronized void reorder() {
+        ValidationRule[] reordered = rules.clone();
+        double[] scores = new double[reordered.length];
+        for (int i = 0; i < reordered.length; i++) {
+            scores[i] = reordered[i].score();
+        }
+        Integer[] order = new Integer[reordered.length];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, Comparator.comparingDouble((Integer i) -> scores[i]).reversed());
+        ValidationRule[] sorted = new ValidationRule[reordered.length];
+        for (int i = 0; i < order.length; i++) {
+            sorted[i] = reordered[order[i]];
+        }
+        rules = sorted;
+    }
+
+    /**
+     * Gets the fields named by the rules.
+     * @return the fields read by validation
+     */
+    @Override
+    public Set<ArticleField> getCheckedFields() {
+        Set<ArticleField> fields = EnumSet.noneOf(ArticleField.class);
+        for (ValidationRule rule : rules) {
+            fields.add(rule.getField());
+        }
+        return fields;
+    }
+
+    /**
+     * Gets the rules in their current evaluation order.
+     * @return descriptions of the rules, e.g. "required title"
+     */
+    public List<String> getRuleOrder() {
+        return Arrays.stream(rules).map(ValidationRule::toString).toList();
+    }
+}
@@ -0,0 +1,148 @@
+package org.article.util;
+
+import org.article.core.Article;
+import org.article.core.Source;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Validates the articles of one parse and aggregates the rejections.
+ * Rejections are counted per reason and per article source in striped counters,
+ * so articles may be checked from several threads. Instead of one log entry per
+ * rejected article, only a sample of rejections is logged in detail and a single
+ * summary line is logged when the parse completes. Sampling is per reason, so the
+ * first rejection for every missing field is always logged.
+ */
+public class ValidationDiagnostics {
+    /**
+     * The default number of rejections of one reason between two detailed log entries.
+     */
+    public static final int DEFAULT_SAMPLE_INTERVAL = 100;
+    private static final String UNKNOWN_SOURCE = "unknown";
+
+    private final ArticleValidator validator;
+    private final ArticleLogger logger;
+    private final int sampleInterval;
+    private final LongAdder checked = new LongAdder();
+    private final LongAdder[] rejectedByReason = new LongAdder[ValidationResult.values().length];
+    private final Map<String, LongAdder> rejectedBySource = new ConcurrentHashMap<>();
+    private final AtomicBoolean summaryLogged = new AtomicBoolean();
+
+    /**
+     * Constructs diagnostics for one parse.
+     *
+     * @param validator the validator to check articles with
+     * @param logger the logger for sampled rejections and the summary
+     * @param sampleInterval log every n-th rejection of each reason in detail, starting with the first;
+     *                       0 disables detailed entries
+     * @throws IllegalArgumentException if sampleInterval is negative
+     */
+    public ValidationDiagnostics(ArticleValidator validator, ArticleLogger logger, int sampleInterval) {
+        if (sampleInterval < 0) {
+            throw new IllegalArgumentException("Sample interval must not be negative");
+        }
+        this.validator = validator;
+        this.logger = logger;
+        this.sampleInterval = sampleInterval;
+        for (int i = 0; i < rejectedByReason.length; i++) {
+            rejectedByReason[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Validates an article and records the outcome.
+     *
+     * @param article the article to validate
+     * @return true if the article is valid and should be kept
+     */
+    public boolean check(Article article) {
+        checked.increment();
+        ValidationResult result = validator.validate(article);
+        if (result.isValid()) {
+            return true;
+        }
+        LongAdder reasonCount = rejectedByReason[result.ordinal()];
+        reasonCount.increment();
+        String source = sourceName(article);
+        rejectedBySource.computeIfAbsent(source, key -> new LongAdder()).increment();
+        if (sampleInterval > 0 && (reasonCount.sum() - 1) % sampleInterval == 0) {
+            logger.warning(String.format("Skipping article from source %s: %s (title: %s)",
+                    source, result.getLabel(), article != null ? article.getTitle() : null));
+        }
+        return false;
+    }
+
+    /**
+     * Gets the number of articles checked so far.
+     * @return the number of checked articles
+     */
+    public long getChecked() {
+        return checked.sum();
+    }
+
+    /**
+     * Gets the number of articles rejected so far.
+     * @return the number of rejected articles
+     */
+    public long getRejected() {
+        long total = 0;
+        for (LongAdder count : rejectedByReason) {
+            total += count.sum();
+        }
+        return total;
+    }
+
+    /**
+     * Gets the number of rejections for each reason that occurred.
+     * @return rejection counts by reason
+     */
+    public Map<ValidationResult, Long> getRejectedByReason() {
+        Map<ValidationResult, Long> counts = new EnumMap<>(ValidationResult.class);
+        for (ValidationResult result : ValidationResult.values()) {
+            long count = rejectedByReason[result.ordinal()].sum();
+            if (count > 0) {
+                counts.put(result, count);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Gets the number of rejections for each article source.
+     * @return rejection counts by source name
+     */
+    public Map<String, Long> getRejectedBySource() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        rejectedBySource.entrySet().stream()
+                .sorted(Map.Entry.<String, LongAdder>comparingByValue(
+                        (a, b) -> Long.compare(b.sum(), a.sum())).thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> counts.put(entry.getKey(), entry.getValue().sum()));
+        return counts;
+    }
+
+    /**
+     * Logs one summary line if any article was rejected. Later calls do nothing.
+     *
+     * @param format the name of the parsed format, used in the summary
+     */
+    public void logSummary(String format) {
+        long rejected = getRejected();
+        if (rejected == 0 || !summaryLogged.compareAndSet(false, true)) {
+            return;
+        }
+        Map<String, Long> byReason = new LinkedHashMap<>();
+        getRejectedByReason().forEach((result, count) -> byReason.put(result.getLabel(), count));
+        logger.warning(String.format("%s: skipped %d of %d articles; by reason %s; by source %s",
+                format, rejected, getChecked(), byReason, getRejectedBySource()));
+    }
+
+    private static String sourceName(Article article) {
+        Source source = article != null ? article.getSource() : null;
+        String name = source != null ? source.getName() : null;
+        return name != null && !name.isBlank() ? name : UNKNOWN_SOURCE;
+    }
+}
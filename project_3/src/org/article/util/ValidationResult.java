@@ -0,0 +1,77 @@
+package org.article.util;
+
+import java.util.Locale;
+
+/**
+ * Outcome of validating an article, naming the first required field that failed.
+ */
+public enum ValidationResult {
+    /**
+     * The article has all required fields.
+     */
+    VALID,
+    /**
+     * The article itself is missing.
+     */
+    NULL_ARTICLE,
+    /**
+     * The title is missing or blank.
+     */
+    MISSING_TITLE,
+    /**
+     * The description is missing or blank.
+     */
+    MISSING_DESCRIPTION,
+    /**
+     * The publication date is missing or blank.
+     */
+    MISSING_PUBLISHED_AT,
+    /**
+     * The URL is missing or blank.
+     */
+    MISSING_URL,
+    /**
+     * The source is missing.
+     */
+    MISSING_SOURCE,
+    /**
+     * The source name is missing or blank.
+     */
+    MISSING_SOURCE_NAME,
+    /**
+     * Another field declared as required is missing or blank.
+     */
+    MISSING_FIELD,
+    /**
+     * A field is shorter than its declared minimum length.
+     */
+    FIELD_TOO_SHORT,
+    /**
+     * A field is longer than its declared maximum length.
+     */
+    FIELD_TOO_LONG,
+    /**
+     * A field declared as a URL is not an absolute http or https URL.
+     */
+    INVALID_URL,
+    /**
+     * A field declared as a date does not start with a yyyy-MM-dd date.
+     */
+    INVALID_DATE;
+
+    /**
+     * Returns whether this result accepts the article.
+     * @return true if the article is valid
+     */
+    public boolean isValid() {
+        return this == VALID;
+    }
+
+    /**
+     * Gets a readable label for this result, e.g. "missing title" or "invalid url".
+     * @return the label
+     */
+    public String getLabel() {
+        return name().toLowerCase(Locale.ROOT).replace('_', ' ');
+    }
+}
@@ -0,0 +1,199 @@
+package org.article.util;
+
+import org.article.core.Article;
+import org.article.core.ArticleField;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A compiled validation rule over one article field.
+ * Rules read the field through its getter and inspect the characters in place,
+ * so checking an article never allocates. Each rule counts how often it was
+ * evaluated and how often it rejected, which RuleBasedValidator uses to order rules.
+ */
+abstract class ValidationRule {
+    private final ArticleField field;
+    private final String description;
+    private final int cost;
+    private final LongAdder evaluated = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private ValidationRule(ArticleField field, String description, int cost) {
+        this.field = field;
+        this.description = description;
+        this.cost = cost;
+    }
+
+    /**
+     * Creates a rule requiring a field to contain a non-whitespace character.
+     */
+    static ValidationRule required(ArticleField field) {
+        return new ValidationRule(field, "required " + field.getFieldName(), 1) {
+            @Override
+            ValidationResult test(Article article) {
+                if (hasText(field.get(article))) {
+                    return ValidationResult.VALID;
+                }
+                return switch (field) {
+                    case TITLE -> ValidationResult.MISSING_TITLE;
+                    case DESCRIPTION -> ValidationResult.MISSING_DESCRIPTION;
+                    case PUBLISHED_AT -> ValidationResult.MISSING_PUBLISHED_AT;
+                    case URL -> ValidationResult.MISSING_URL;
+                    case SOURCE_NAME -> article.getSource() == null
+                            ? ValidationResult.MISSING_SOURCE : ValidationResult.MISSING_SOURCE_NAME;
+                    case SOURCE_ID -> article.getSource() == null
+                            ? ValidationResult.MISSING_SOURCE : ValidationResult.MISSING_FIELD;
+                    default -> ValidationResult.MISSING_FIELD;
+                };
+            }
+        };
+    }
+
+    /**
+     * Creates a rule bounding the length of a field when it is present.
+     */
+    static ValidationRule length(ArticleField field, int min, int max) {
+        if (min < 0 || max < min) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid length bounds %d..%d for %s", min, max, field.getFieldName()));
+        }
+        String description = String.format("length %s %d %d", field.getFieldName(), min, max);
+        return new ValidationRule(field, description, 1) {
+            @Override
+            ValidationResult test(Article article) {
+                String value = field.get(article);
+                if (value == null) {
+                    return ValidationResult.VALID;
+                }
+                if (value.length() < min) {
+                    return ValidationResult.FIELD_TOO_SHORT;
+                }
+                return value.length() > max ? ValidationResult.FIELD_TOO_LONG : ValidationResult.VALID;
+            }
+        };
+    }
+
+    /**
+     * Creates a rule requiring a present field to be an absolute http or https URL with a host.
+     */
+    static ValidationRule url(ArticleField field) {
+        return new ValidationRule(field, "url " + field.getFieldName(), 3) {
+            @Override
+            ValidationResult test(Article article) {
+                String value = field.get(article);
+                return value == null || isHttpUrl(value) ? ValidationResult.VALID : ValidationResult.INVALID_URL;
+            }
+        };
+    }
+
+    /**
+     * Creates a rule requiring a present field to start with a yyyy-MM-dd date.
+     */
+    static ValidationRule date(ArticleField field) {
+        return new ValidationRule(field, "date " + field.getFieldName(), 2) {
+            @Override
+            ValidationResult test(Article article) {
+                String value = field.get(article);
+                return value == null || isIsoDate(value) ? ValidationResult.VALID : ValidationResult.INVALID_DATE;
+            }
+        };
+    }
+
+    /**
+     * Checks the article against this rule.
+     *
+     * @param article the article to check, never null
+     * @return VALID, or the reason the article fails this rule
+     */
+    abstract ValidationResult test(Article article);
+
+    /**
+     * Checks the article and records the outcome.
+     */
+    ValidationResult check(Article article) {
+        evaluated.increment();
+        ValidationResult result = test(article);
+        if (!result.isValid()) {
+            rejected.increment();
+        }
+        return result;
+    }
+
+    /**
+     * Gets the expected rejections per unit of cost; rules with higher scores run first.
+     * Rules that have not been evaluated yet are ordered by cost alone.
+     */
+    double score() {
+        long evaluations = evaluated.sum();
+        double rejectionRate = (rejected.sum() + 1.0) / (evaluations + 2.0);
+        return rejectionRate / cost;
+    }
+
+    /**
+     * Gets the field this rule reads.
+     */
+    ArticleField getField() {
+        return field;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+
+    /**
+     * Returns whether the value contains a character other than whitespace or control characters,
+     * matching {@code !value.trim().isEmpty()} without creating a trimmed copy.
+     */
+    static boolean hasText(String value) {
+        if (value == null) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isHttpUrl(String value) {
+        int hostStart;
+        if (value.regionMatches(true, 0, "https://", 0, 8)) {
+            hostStart = 8;
+        } else if (value.regionMatches(true, 0, "http://", 0, 7)) {
+            hostStart = 7;
+        } else {
+            return false;
+        }
+        if (hostStart == value.length() || value.charAt(hostStart) == '/') {
+            return false;
+        }
+        for (int i = hostStart; i < value.length(); i++) {
+            if (value.charAt(i) <= ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isIsoDate(String value) {
+        if (value.length() < 10 || value.charAt(4) != '-' || value.charAt(7) != '-') {
+            return false;
+        }
+        for (int i = 0; i < 10; i++) {
+            if (i != 4 && i != 7 && !isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        int month = (value.charAt(5) - '0') * 10 + value.charAt(6) - '0';
+        int day = (value.charAt(8) - '0') * 10 + value.charAt(9) - '0';
+        if (month < 1 || month > 12 || day < 1 || day > 31) {
+            return false;
+        }
+        return value.length() == 10 || value.charAt(10) == 'T' || value.charAt(10) == ' ';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
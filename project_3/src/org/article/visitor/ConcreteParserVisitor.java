@@ -4,11 +4,19 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.article.core.Parser;
 import org.article.core.DataSource;
 import org.article.io.FileDataSource;
+import org.article.io.HttpCache;
 import org.article.io.URLDataSource;
+import org.article.parser.CachingParser;
+import org.article.parser.NdjsonParser;
 import org.article.parser.NewsApiParser;
+import org.article.parser.ParseCache;
+import org.article.parser.PaginatedNewsApiParser;
 import org.article.parser.SimpleParser;
 import org.article.util.ArticleLogger;
 import org.article.util.ArticleValidator;
+import org.article.util.ValidationDiagnostics;
+import java.net.http.HttpClient;
+import java.util.function.Function;
 
 /**
  * Concrete implementation of ParserVisitor that creates parser instances.
@@ -17,6 +25,9 @@ public class ConcreteParserVisitor implements ParserVisitor {
     private final ObjectMapper objectMapper;
     private final ArticleValidator validator;
     private final ArticleLogger logger;
+    private final HttpCache httpCache;
+    private final int sampleInterval;
+    private final ParseCache parseCache;
 
     /**
      * Constructs a new ConcreteParserVisitor with required dependencies.
@@ -25,47 +36,127 @@ public class ConcreteParserVisitor implements ParserVisitor {
      * @param logger The logger for error logging
      */
     public ConcreteParserVisitor(ObjectMapper objectMapper, ArticleValidator validator, ArticleLogger logger) {
+        this(objectMapper, validator, logger, null);
+    }
+
+    /**
+     * Constructs a new ConcreteParserVisitor whose URL sources revalidate against a shared cache.
+     * @param objectMapper The object mapper for JSON parsing
+     * @param validator The validator for article validation
+     * @param logger The logger for error logging
+     * @param httpCache The HTTP cache for URL sources, or null to disable caching
+     */
+    public ConcreteParserVisitor(ObjectMapper objectMapper, ArticleValidator validator, ArticleLogger logger,
+                                 HttpCache httpCache) {
+        this(objectMapper, validator, logger, httpCache, ValidationDiagnostics.DEFAULT_SAMPLE_INTERVAL);
+    }
+
+    /**
+     * Constructs a new ConcreteParserVisitor with a custom sampling rate for rejected articles.
+     * @param objectMapper The object mapper for JSON parsing
+     * @param validator The validator for article validation
+     * @param logger The logger for error logging
+     * @param httpCache The HTTP cache for URL sources, or null to disable caching
+     * @param sampleInterval Log every n-th rejected article of each reason in detail; 0 logs only the summary
+     */
+    public ConcreteParserVisitor(ObjectMapper objectMapper, ArticleValidator validator, ArticleLogger logger,
+                                 HttpCache httpCache, int sampleInterval) {
+        this(objectMapper, validator, logger, httpCache, sampleInterval, null);
+    }
+
+    /**
+     * Constructs a new ConcreteParserVisitor whose parsers return cached results for unchanged inputs.
+     * Paginated URL sources span several responses and are never cached.
+     * @param objectMapper The object mapper for JSON parsing
+     * @param validator The validator for article validation
+     * @param logger The logger for error logging
+     * @param httpCache The HTTP cache for URL sources, or null to disable caching
+     * @param sampleInterval Log every n-th rejected article of each reason in detail; 0 logs only the summary
+     * @param parseCache The cache of parse results, or null to parse every time
+     */
+    public ConcreteParserVisitor(ObjectMapper objectMapper, ArticleValidator validator, ArticleLogger logger,
+                                 HttpCache httpCache, int sampleInterval, ParseCache parseCache) {
         this.objectMapper = objectMapper;
         this.validator = validator;
         this.logger = logger;
+        this.httpCache = httpCache;
+        this.sampleInterval = sampleInterval;
+        this.parseCache = parseCache;
     }
 
     @Override
     public Parser visitFileNewsApi(ParserConfiguration config) {
         FileNewsApiConfiguration fileConfig = (FileNewsApiConfiguration) config;
-        return new NewsApiParser(objectMapper, validator, logger) {
-            private final DataSource source = new FileDataSource(fileConfig.getFilePath());
+        return cached(new NewsApiParser(objectMapper, validator, logger, sampleInterval) {
+            private final DataSource source = new FileDataSource(fileConfig.getFilePath(), fileConfig.getReadMode());
 
             @Override
             public DataSource getDataSource() {
                 return source;
             }
-        };
+        }, "newsapi");
     }
 
     @Override
     public Parser visitFileSimple(ParserConfiguration config) {
         FileSimpleConfiguration fileConfig = (FileSimpleConfiguration) config;
-        return new SimpleParser(objectMapper, validator, logger) {
+        return cached(new SimpleParser(objectMapper, validator, logger, sampleInterval) {
+            private final DataSource source = new FileDataSource(fileConfig.getFilePath(), fileConfig.getReadMode());
+
+            @Override
+            public DataSource getDataSource() {
+                return source;
+            }
+        }, "simple");
+    }
+
+    @Override
+    public Parser visitFileNdjson(ParserConfiguration config) {
+        FileNdjsonConfiguration fileConfig = (FileNdjsonConfiguration) config;
+        return cached(new NdjsonParser(objectMapper, validator, logger, sampleInterval) {
             private final DataSource source = new FileDataSource(fileConfig.getFilePath());
 
             @Override
             public DataSource getDataSource() {
                 return source;
             }
-        };
+        }, "ndjson");
     }
 
     @Override
     public Parser visitUrlNewsApi(ParserConfiguration config) {
         UrlNewsApiConfiguration urlConfig = (UrlNewsApiConfiguration) config;
-        return new NewsApiParser(objectMapper, validator, logger) {
-            private final DataSource source = new URLDataSource(urlConfig.getUrl());
+        HttpClient httpClient = HttpClient.newHttpClient();
+        Function<String, DataSource> sources = url ->
+                new URLDataSource(url, httpClient, urlConfig.getMaxBodySize(), httpCache);
+        if (urlConfig.isPaginated()) {
+            return new PaginatedNewsApiParser(objectMapper, validator, logger, sampleInterval,
+                    urlConfig.getUrl(), sources, urlConfig.getMaxPagesInFlight()) {
+                private final DataSource source = sources.apply(urlConfig.getUrl());
+
+                @Override
+                public DataSource getDataSource() {
+                    return source;
+                }
+            };
+        }
+        return cached(new NewsApiParser(objectMapper, validator, logger, sampleInterval) {
+            private final DataSource source = sources.apply(urlConfig.getUrl());
 
             @Override
             public DataSource getDataSource() {
                 return source;
             }
-        };
+        }, "newsapi");
+    }
+
+    /**
+     * Wraps a parser in a caching decorator if a parse cache is configured.
+     * @param parser The parser to wrap
+     * @param format The input format the parser reads
+     * @return The caching parser, or the parser itself without a cache
+     */
+    private Parser cached(Parser parser, String format) {
+        return parseCache != null ? new CachingParser(parser, parseCache, format) : parser;
     }
-}
\ No newline at end of file
+}
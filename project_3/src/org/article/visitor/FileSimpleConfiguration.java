@@ -1,19 +1,31 @@
 package org.article.visitor;
 
 import org.article.core.Parser;
+import org.article.io.FileReadMode;
 
 /**
  * Configuration for file-based Simple format parsing.
  */
 public class FileSimpleConfiguration implements ParserConfiguration {
     private final String filePath;
+    private final FileReadMode readMode;
 
     /**
      * Constructs a new file-based Simple format configuration.
      * @param filePath The path to the file to parse
      */
     public FileSimpleConfiguration(String filePath) {
+        this(filePath, FileReadMode.AUTO);
+    }
+
+    /**
+     * Constructs a new file-based Simple format configuration with an explicit read mode.
+     * @param filePath The path to the file to parse
+     * @param readMode How the file should be read
+     */
+    public FileSimpleConfiguration(String filePath, FileReadMode readMode) {
         this.filePath = filePath;
+        this.readMode = readMode;
     }
 
     /**
@@ -24,6 +36,14 @@ public class FileSimpleConfiguration implements ParserConfiguration {
         return filePath;
     }
 
+    /**
+     * Gets the read mode for this configuration.
+     * @return The configured read mode
+     */
+    public FileReadMode getReadMode() {
+        return readMode;
+    }
+
     /**
      * Accepts a visitor to create a parser instance.
      * @param visitor The visitor to accept
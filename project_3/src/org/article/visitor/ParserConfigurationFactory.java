@@ -1,13 +1,20 @@
 package org.article.visitor;
 
+import org.article.io.URLDataSource;
+
 /**
  * Factory for creating parser configurations based on source type and format.
  */
 public class ParserConfigurationFactory {
+    /**
+     * The number of result pages fetched at once for the "newsapi-paged" format.
+     */
+    public static final int DEFAULT_MAX_PAGES_IN_FLIGHT = 8;
+
     /**
      * Creates a parser configuration based on source type and format.
      * @param sourceType The type of source ("file" or "url")
-     * @param format The format type ("newsapi" or "simple")
+     * @param format The format type ("newsapi", "simple" or "ndjson", or "newsapi-paged" for every page of a URL query)
      * @param pathOrUrl The path or URL to the source
      * @return A parser configuration matching the specified parameters
      * @throws IllegalArgumentException if invalid combination of parameters
@@ -17,14 +24,15 @@ public class ParserConfigurationFactory {
             case "file" -> switch (format.toLowerCase()) {
                 case "newsapi" -> new FileNewsApiConfiguration(pathOrUrl);
                 case "simple" -> new FileSimpleConfiguration(pathOrUrl);
+                case "ndjson" -> new FileNdjsonConfiguration(pathOrUrl);
                 default -> throw new IllegalArgumentException("Invalid format: " + format);
             };
-            case "url" -> {
-                if (!format.equalsIgnoreCase("newsapi")) {
-                    throw new IllegalArgumentException("URL source only supports NewsAPI format");
-                }
-                yield new UrlNewsApiConfiguration(pathOrUrl);
-            }
+            case "url" -> switch (format.toLowerCase()) {
+                case "newsapi" -> new UrlNewsApiConfiguration(pathOrUrl);
+                case "newsapi-paged" -> new UrlNewsApiConfiguration(pathOrUrl,
+                        URLDataSource.DEFAULT_MAX_BODY_SIZE, DEFAULT_MAX_PAGES_IN_FLIGHT);
+                default -> throw new IllegalArgumentException("URL source only supports NewsAPI format");
+            };
             default -> throw new IllegalArgumentException("Invalid source type: " + sourceType);
         };
     }
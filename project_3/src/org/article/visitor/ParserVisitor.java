@@ -20,6 +20,13 @@ public interface ParserVisitor {
      */
     Parser visitFileSimple(ParserConfiguration config);
 
+    /**
+     * Visits a file source with NDJSON format configuration.
+     * @param config The parser configuration to visit
+     * @return A parser configured for file-based NDJSON parsing
+     */
+    Parser visitFileNdjson(ParserConfiguration config);
+
     /**
      * Visits a URL source with NewsAPI format configuration.
      * @param config The parser configuration to visit
@@ -1,19 +1,43 @@
 package org.article.visitor;
 
 import org.article.core.Parser;
+import org.article.io.URLDataSource;
 
 /**
  * Configuration for URL-based NewsAPI format parsing.
  */
 public class UrlNewsApiConfiguration implements ParserConfiguration {
     private final String url;
+    private final long maxBodySize;
+    private final int maxPagesInFlight;
 
     /**
      * Constructs a new URL-based NewsAPI configuration.
      * @param url The URL to parse from
      */
     public UrlNewsApiConfiguration(String url) {
+        this(url, URLDataSource.DEFAULT_MAX_BODY_SIZE);
+    }
+
+    /**
+     * Constructs a new URL-based NewsAPI configuration with a body size limit.
+     * @param url The URL to parse from
+     * @param maxBodySize The maximum decoded size of the response body in bytes
+     */
+    public UrlNewsApiConfiguration(String url, long maxBodySize) {
+        this(url, maxBodySize, 0);
+    }
+
+    /**
+     * Constructs a new URL-based NewsAPI configuration that fetches every result page.
+     * @param url The URL of the first page to parse from
+     * @param maxBodySize The maximum decoded size of each response body in bytes
+     * @param maxPagesInFlight The maximum number of pages fetched at once, or 0 to fetch only the first page
+     */
+    public UrlNewsApiConfiguration(String url, long maxBodySize, int maxPagesInFlight) {
         this.url = url;
+        this.maxBodySize = maxBodySize;
+        this.maxPagesInFlight = maxPagesInFlight;
     }
 
     /**
@@ -24,6 +48,30 @@ public class UrlNewsApiConfiguration implements ParserConfiguration {
         return url;
     }
 
+    /**
+     * Gets the maximum response body size for this configuration.
+     * @return The maximum decoded body size in bytes
+     */
+    public long getMaxBodySize() {
+        return maxBodySize;
+    }
+
+    /**
+     * Gets the number of result pages fetched concurrently.
+     * @return The maximum number of pages in flight, or 0 if only the first page is fetched
+     */
+    public int getMaxPagesInFlight() {
+        return maxPagesInFlight;
+    }
+
+    /**
+     * Returns whether every result page should be fetched.
+     * @return true if pagination is enabled
+     */
+    public boolean isPaginated() {
+        return maxPagesInFlight > 0;
+    }
+
     /**
      * Accepts a visitor to create a parser instance.
      * @param visitor The visitor to accept
@@ -3,6 +3,8 @@ package org.article;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.article.core.Article;
+import org.article.core.ArticleField;
+import org.article.output.ArticleTemplate;
 import org.article.output.BasicArticlePrinter;
 import org.article.core.ArticlePrinter;
 import org.article.util.*;
@@ -13,6 +15,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -168,4 +172,24 @@ class ClientTest {
                 client.run(new String[]{"file", testFile.toString(), "newsapi"})
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * Test cases for deriving the decoded fields from the template and the validator.
+     */
+    @Test
+    @DisplayName("Should decode only the printed, validated, deduplicated and diagnosed fields")
+    void shouldProjectNeededFields() {
+        RuleBasedValidator rules = RuleBasedValidator.parse(List.of("length author 1 100"));
+
+        assertAll(
+                () -> assertEquals(EnumSet.of(ArticleField.TITLE, ArticleField.DESCRIPTION,
+                                ArticleField.PUBLISHED_AT, ArticleField.URL, ArticleField.SOURCE_NAME),
+                        Client.projection(ArticleTemplate.BASIC, new RequiredFieldsValidator(), false)),
+                () -> assertEquals(EnumSet.of(ArticleField.TITLE, ArticleField.URL, ArticleField.AUTHOR,
+                                ArticleField.SOURCE_NAME),
+                        Client.projection(ArticleTemplate.compile("{title}%n"), rules, false)),
+                () -> assertEquals(EnumSet.allOf(ArticleField.class),
+                        Client.projection(ArticleTemplate.BASIC, new RequiredFieldsValidator(), true))
+        );
+    }
+}
@@ -0,0 +1,132 @@
+package org.article.batch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.article.util.ArticleLogger;
+import org.article.util.RequiredFieldsValidator;
+import org.article.visitor.ConcreteParserVisitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test suite for batch ingestion.
+ * Verifies manifest parsing and concurrent, failure-isolated ingestion.
+ */
+@DisplayName("Batch Ingestion Tests")
+class BatchIngestorTest {
+    private static final String SIMPLE_JSON = """
+            {
+                "title": "Test Title",
+                "description": "Test Description",
+                "publishedAt": "2024-01-01",
+                "url": "https://test.com"
+            }
+            """;
+
+    @TempDir
+    Path tempDir;
+    private BatchIngestor ingestor;
+
+    @BeforeEach
+    void setUp() {
+        ConcreteParserVisitor visitor = new ConcreteParserVisitor(
+                new ObjectMapper(), new RequiredFieldsValidator(), mock(ArticleLogger.class));
+        ingestor = new BatchIngestor(visitor, 2);
+    }
+
+    /**
+     * Tests for manifest parsing.
+     */
+    @Nested
+    @DisplayName("Manifest Tests")
+    class ManifestTests {
+        @Test
+        @DisplayName("Parses entries and skips comments and blank lines")
+        void testParse() {
+            List<ManifestEntry> entries = Manifest.parse(List.of(
+                    "# nightly sources",
+                    "",
+                    "file ./data/newsapi.json newsapi",
+                    "  url   https://example.com/feed   newsapi  "));
+
+            assertAll(
+                    () -> assertEquals(2, entries.size()),
+                    () -> assertEquals("file", entries.get(0).getSourceType()),
+                    () -> assertEquals("./data/newsapi.json", entries.get(0).getPathOrUrl()),
+                    () -> assertEquals("https://example.com/feed", entries.get(1).getPathOrUrl()),
+                    () -> assertEquals("newsapi", entries.get(1).getFormat())
+            );
+        }
+
+        @Test
+        @DisplayName("Rejects malformed lines")
+        void testMalformedLine() {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> Manifest.parse(List.of("file ./data/newsapi.json")));
+            assertTrue(exception.getMessage().contains("line 1"));
+        }
+    }
+
+    /**
+     * Tests for concurrent ingestion.
+     */
+    @Nested
+    @DisplayName("Ingestion Tests")
+    class IngestionTests {
+        @Test
+        @DisplayName("Returns results in manifest order")
+        void testResultOrder() throws Exception {
+            List<ManifestEntry> entries = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                Path file = tempDir.resolve("simple" + i + ".json");
+                Files.writeString(file, SIMPLE_JSON.replace("Test Title", "Title " + i));
+                entries.add(new ManifestEntry("file", file.toString(), "simple"));
+            }
+
+            List<SourceResult> results = ingestor.ingest(entries);
+
+            assertEquals(entries.size(), results.size());
+            for (int i = 0; i < results.size(); i++) {
+                SourceResult result = results.get(i);
+                assertTrue(result.isSuccess());
+                assertSame(entries.get(i), result.getEntry());
+                assertEquals("Title " + i, result.getArticles().getFirst().getTitle());
+            }
+        }
+
+        @Test
+        @DisplayName("Isolates failing sources")
+        void testFailureIsolation() throws Exception {
+            Path valid = tempDir.resolve("valid.json");
+            Files.writeString(valid, SIMPLE_JSON);
+
+            List<SourceResult> results = ingestor.ingest(List.of(
+                    new ManifestEntry("file", tempDir.resolve("missing.json").toString(), "simple"),
+                    new ManifestEntry("url", "https://example.com", "simple"),
+                    new ManifestEntry("file", valid.toString(), "simple")));
+
+            assertAll(
+                    () -> assertFalse(results.get(0).isSuccess()),
+                    () -> assertNotNull(results.get(0).getError()),
+                    () -> assertInstanceOf(IllegalArgumentException.class, results.get(1).getError()),
+                    () -> assertTrue(results.get(2).isSuccess()),
+                    () -> assertEquals(1, results.get(2).getArticles().size())
+            );
+        }
+
+        @Test
+        @DisplayName("Rejects a non-positive concurrency cap")
+        void testInvalidConcurrency() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new BatchIngestor(mock(ConcreteParserVisitor.class), 0));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package org.article.batch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.article.dedup.UrlDeduplicator;
+import org.article.util.ArticleLogger;
+import org.article.util.RequiredFieldsValidator;
+import org.article.visitor.ConcreteParserVisitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test suite for directory watch mode.
+ * Verifies that only created or modified files are ingested, once they have settled.
+ */
+@DisplayName("Directory Watcher Tests")
+class DirectoryWatcherTest {
+    private static final String SIMPLE_JSON = """
+            {"title": "%s", "description": "Description", "publishedAt": "2024-01-01", "url": "https://test.com/%s"}
+            """;
+    private static final String NEWSAPI_JSON = """
+            {"status": "ok", "totalResults": 1, "articles": [
+                {"source": {"id": null, "name": "Test Source"}, "title": "NewsAPI Title",
+                 "description": "Description", "publishedAt": "2024-01-01", "url": "https://test.com/newsapi"}
+            ]}
+            """;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @TempDir
+    Path tempDir;
+    private final BlockingQueue<SourceResult> results = new LinkedBlockingQueue<>();
+    private DirectoryWatcher watcher;
+    private Thread watchThread;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ConcreteParserVisitor visitor = new ConcreteParserVisitor(
+                new ObjectMapper(), new RequiredFieldsValidator(), mock(ArticleLogger.class));
+        Files.writeString(tempDir.resolve("existing.json"), SIMPLE_JSON.formatted("Existing", "existing"));
+        watcher = new DirectoryWatcher(visitor, new UrlDeduplicator(1000, 0.01), results::add,
+                Duration.ofMillis(50), 2);
+        watcher.register(tempDir);
+        watchThread = new Thread(() -> {
+            try {
+                watcher.run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        watchThread.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        watcher.close();
+        watchThread.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        assertFalse(watchThread.isAlive());
+    }
+
+    @Test
+    @DisplayName("Ingests new files of either format and ignores existing ones")
+    void testNewFiles() throws Exception {
+        Files.writeString(tempDir.resolve("simple.json"), SIMPLE_JSON.formatted("Simple Title", "simple"));
+        Files.writeString(tempDir.resolve("newsapi.json"), NEWSAPI_JSON);
+
+        SourceResult first = results.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        SourceResult second = results.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertNotNull(first);
+        assertNotNull(second);
+        SourceResult simple = first.getEntry().getPathOrUrl().endsWith("simple.json") ? first : second;
+        SourceResult newsApi = simple == first ? second : first;
+        assertAll(
+                () -> assertTrue(simple.isSuccess()),
+                () -> assertEquals("simple", simple.getEntry().getFormat()),
+                () -> assertEquals("Simple Title", simple.getArticles().getFirst().getTitle()),
+                () -> assertTrue(newsApi.isSuccess()),
+                () -> assertEquals("newsapi", newsApi.getEntry().getFormat()),
+                () -> assertEquals("NewsAPI Title", newsApi.getArticles().getFirst().getTitle()),
+                () -> assertNull(results.poll(200, TimeUnit.MILLISECONDS))
+        );
+    }
+
+    @Test
+    @DisplayName("Delivers only the new articles of a modified file")
+    void testModifiedFile() throws Exception {
+        Path file = tempDir.resolve("feed.json");
+        Files.writeString(file, "[" + SIMPLE_JSON.formatted("First", "first") + "]");
+        SourceResult created = results.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        Files.writeString(file, "[" + SIMPLE_JSON.formatted("First", "first") + ","
+                + SIMPLE_JSON.formatted("Second", "second") + "]");
+        SourceResult modified = results.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertNotNull(created);
+        assertNotNull(modified);
+        assertAll(
+                () -> assertEquals(1, created.getArticles().size()),
+                () -> assertEquals(1, modified.getArticles().size()),
+                () -> assertEquals("Second", modified.getArticles().getFirst().getTitle())
+        );
+    }
+
+    @Test
+    @DisplayName("Ignores temporary files until they are renamed")
+    void testTemporaryFile() throws Exception {
+        Path partial = tempDir.resolve("incoming.json.part");
+        Files.writeString(partial, SIMPLE_JSON.formatted("Renamed", "renamed"));
+        assertNull(results.poll(200, TimeUnit.MILLISECONDS));
+
+        Files.move(partial, tempDir.resolve("incoming.json"), StandardCopyOption.ATOMIC_MOVE);
+        SourceResult result = results.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertNotNull(result);
+        assertTrue(result.getEntry().getPathOrUrl().endsWith("incoming.json"));
+        assertEquals("Renamed", result.getArticles().getFirst().getTitle());
+    }
+
+    @Test
+    @DisplayName("Rejects invalid settings")
+    void testInvalidSettings() {
+        ConcreteParserVisitor visitor = mock(ConcreteParserVisitor.class);
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new DirectoryWatcher(visitor, null, results::add, Duration.ofMillis(-1), 1)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new DirectoryWatcher(visitor, null, results::add, Duration.ZERO, 0))
+        );
+    }
+}
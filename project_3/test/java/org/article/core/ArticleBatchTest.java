@@ -0,0 +1,109 @@
+package org.article.core;
+
+import org.article.util.RequiredFieldsValidator;
+import org.article.util.ValidationResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ArticleBatch.
+ * Verifies round-tripping of articles through the columnar store, lazy views,
+ * byte-level access and validation without materializing articles.
+ */
+@DisplayName("ArticleBatch Tests")
+class ArticleBatchTest {
+    private final Article article = new Article(
+            "Test Title – ünïcode 📰",
+            "Test Description",
+            "2024-01-01",
+            "https://test.com",
+            "https://test.com/image",
+            "Test content",
+            new Source("test-id", "Test Source"),
+            "Test Author"
+    );
+
+    /**
+     * Tests that every field survives the round trip, including nulls and values larger than a chunk.
+     */
+    @Test
+    @DisplayName("Round-trips articles through the columns")
+    void testRoundTrip() {
+        ArticleBatch batch = new ArticleBatch(8);
+        String longContent = "x".repeat(100);
+        batch.add(article);
+        batch.add(new Article(null, null, null, null, null, longContent, null, null));
+
+        Article first = batch.get(0);
+        Article second = batch.get(1);
+        assertAll(
+                () -> assertEquals(2, batch.size()),
+                () -> assertEquals(article.getTitle(), first.getTitle()),
+                () -> assertEquals(article.getDescription(), first.getDescription()),
+                () -> assertEquals(article.getPublishedAt(), first.getPublishedAt()),
+                () -> assertEquals(article.getUrl(), first.getUrl()),
+                () -> assertEquals(article.getUrlToImage(), first.getUrlToImage()),
+                () -> assertEquals(article.getContent(), first.getContent()),
+                () -> assertEquals(article.getAuthor(), first.getAuthor()),
+                () -> assertEquals("test-id", first.getSource().getId()),
+                () -> assertEquals("Test Source", first.getSource().getName()),
+                () -> assertSame(first.getTitle(), first.getTitle(), "Decoded values should be kept"),
+                () -> assertNull(second.getTitle()),
+                () -> assertNull(second.getSource()),
+                () -> assertEquals(longContent, second.getContent()),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> batch.get(2))
+        );
+    }
+
+    /**
+     * Tests that fields can be read as UTF-8 bytes and checked for text without decoding.
+     */
+    @Test
+    @DisplayName("Exposes encoded bytes and blank checks")
+    void testByteAccess() {
+        ArticleBatch batch = new ArticleBatch();
+        batch.add(article);
+        batch.add(new Article(" \t", "", null, "u", null, null, new Source(null, null), null));
+
+        ByteBuffer title = batch.bytes(0, ArticleField.TITLE);
+        byte[] encoded = new byte[title.remaining()];
+        title.get(encoded);
+        assertAll(
+                () -> assertArrayEquals(article.getTitle().getBytes(StandardCharsets.UTF_8), encoded),
+                () -> assertTrue(batch.bytes(1, ArticleField.DESCRIPTION).isReadOnly()),
+                () -> assertNull(batch.bytes(1, ArticleField.PUBLISHED_AT)),
+                () -> assertTrue(batch.hasText(0, ArticleField.TITLE)),
+                () -> assertFalse(batch.hasText(1, ArticleField.TITLE)),
+                () -> assertFalse(batch.hasText(1, ArticleField.DESCRIPTION)),
+                () -> assertFalse(batch.hasText(1, ArticleField.PUBLISHED_AT)),
+                () -> assertTrue(batch.hasSource(1)),
+                () -> assertNotNull(batch.get(1).getSource())
+        );
+    }
+
+    /**
+     * Tests that validating a batch row agrees with validating the original article.
+     */
+    @Test
+    @DisplayName("Validates rows without materializing articles")
+    void testValidateRows() {
+        RequiredFieldsValidator validator = new RequiredFieldsValidator();
+        List<Article> articles = new ArrayList<>(List.of(
+                article,
+                new Article("T", "D", "P", "U", null, null, null, null),
+                new Article("T", "D", "P", "U", null, null, new Source("id", " "), null),
+                new Article("T", " ", "P", "U", null, null, new Source("id", "name"), null)));
+        ArticleBatch batch = new ArticleBatch();
+        articles.forEach(batch::add);
+
+        for (int row = 0; row < articles.size(); row++) {
+            assertEquals(validator.validate(articles.get(row)), validator.validate(batch, row));
+        }
+        assertEquals(ValidationResult.MISSING_SOURCE_NAME, validator.validate(batch, 2));
+    }
+}
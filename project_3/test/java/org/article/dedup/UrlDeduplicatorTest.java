@@ -0,0 +1,191 @@
+package org.article.dedup;
+
+import org.article.core.Article;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for URL deduplication.
+ * Verifies URL normalization, the Bloom filter and exact set, and concurrent use of a deduplicator.
+ */
+@DisplayName("URL Deduplication Tests")
+class UrlDeduplicatorTest {
+    /**
+     * Tests for URL normalization and fingerprints.
+     */
+    @Nested
+    @DisplayName("Fingerprint Tests")
+    class FingerprintTests {
+        @Test
+        @DisplayName("Treats trivially different links to a story as equal")
+        void testEquivalentUrls() {
+            long expected = UrlFingerprint.of("https://example.com/news/story");
+
+            assertAll(
+                    () -> assertEquals(expected, UrlFingerprint.of("http://www.Example.COM/news/story/")),
+                    () -> assertEquals(expected, UrlFingerprint.of("https://example.com:443/news/story#comments")),
+                    () -> assertEquals(expected, UrlFingerprint.of(" https://example.com/news/story?utm_source=feed&fbclid=x ")),
+                    () -> assertEquals("example.com/news/story?id=7",
+                            UrlFingerprint.normalize("https://example.com/news/story/?utm_medium=rss&id=7"))
+            );
+        }
+
+        @Test
+        @DisplayName("Keeps paths, queries and ports that identify a different page")
+        void testDistinctUrls() {
+            long base = UrlFingerprint.of("https://example.com/news/story");
+
+            assertAll(
+                    () -> assertNotEquals(base, UrlFingerprint.of("https://example.com/news/Story")),
+                    () -> assertNotEquals(base, UrlFingerprint.of("https://example.com/news/story?id=2")),
+                    () -> assertNotEquals(base, UrlFingerprint.of("https://example.com:8443/news/story")),
+                    () -> assertNotEquals(base, UrlFingerprint.of("https://news.example.com/news/story"))
+            );
+        }
+    }
+
+    /**
+     * Tests for the Bloom filter and exact fingerprint set.
+     */
+    @Nested
+    @DisplayName("Data Structure Tests")
+    class DataStructureTests {
+        @Test
+        @DisplayName("Bloom filter has no false negatives and stays near its false-positive rate")
+        void testBloomFilter() {
+            BloomFilter filter = new BloomFilter(10_000, 0.01);
+            for (long i = 0; i < 10_000; i++) {
+                filter.put(UrlFingerprint.of("https://example.com/" + i));
+            }
+            int falsePositives = 0;
+            for (long i = 0; i < 10_000; i++) {
+                assertTrue(filter.mightContain(UrlFingerprint.of("https://example.com/" + i)));
+                if (filter.mightContain(UrlFingerprint.of("https://other.org/" + i))) {
+                    falsePositives++;
+                }
+            }
+            assertTrue(falsePositives < 200, "False positives: " + falsePositives);
+        }
+
+        @Test
+        @DisplayName("Bloom filter rejects invalid sizing")
+        void testBloomFilterArguments() {
+            assertAll(
+                    () -> assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01)),
+                    () -> assertThrows(IllegalArgumentException.class, () -> new BloomFilter(10, 0)),
+                    () -> assertThrows(IllegalArgumentException.class, () -> new BloomFilter(10, 1))
+            );
+        }
+
+        @Test
+        @DisplayName("Hash set grows, confirms members and refuses keys once full")
+        void testLongHashSet() {
+            ConcurrentLongHashSet set = new ConcurrentLongHashSet(100_000);
+            for (long i = 0; i < 10_000; i++) {
+                assertEquals(ConcurrentLongHashSet.Insertion.ADDED, set.add(i * 0x9E3779B97F4A7C15L));
+            }
+
+            ConcurrentLongHashSet tiny = new ConcurrentLongHashSet(1);
+            assertAll(
+                    () -> assertEquals(10_000, set.size()),
+                    () -> assertTrue(set.contains(0)),
+                    () -> assertTrue(set.contains(42 * 0x9E3779B97F4A7C15L)),
+                    () -> assertFalse(set.contains(1)),
+                    () -> assertEquals(ConcurrentLongHashSet.Insertion.PRESENT, set.add(0)),
+                    () -> assertEquals(ConcurrentLongHashSet.Insertion.ADDED, tiny.add(1)),
+                    () -> assertEquals(ConcurrentLongHashSet.Insertion.FULL, tiny.add(2)),
+                    () -> assertEquals(ConcurrentLongHashSet.Insertion.PRESENT, tiny.add(1))
+            );
+        }
+    }
+
+    /**
+     * Tests for the deduplicator itself.
+     */
+    @Nested
+    @DisplayName("Deduplicator Tests")
+    class DeduplicatorTests {
+        @Test
+        @DisplayName("Keeps the first article per URL and never drops missing URLs")
+        void testFirstSeen() {
+            UrlDeduplicator deduplicator = new UrlDeduplicator(100, 0.01);
+
+            assertAll(
+                    () -> assertTrue(deduplicator.firstSeen(article("https://example.com/a"))),
+                    () -> assertFalse(deduplicator.firstSeen(article("http://www.example.com/a/"))),
+                    () -> assertTrue(deduplicator.firstSeen(article("https://example.com/b"))),
+                    () -> assertTrue(deduplicator.firstSeen(article(null))),
+                    () -> assertTrue(deduplicator.firstSeen(article(null))),
+                    () -> assertTrue(deduplicator.firstSeen("  ")),
+                    () -> assertEquals(1, deduplicator.getDuplicateCount())
+            );
+        }
+
+        @Test
+        @DisplayName("Falls back to the Bloom filter beyond the exact bound")
+        void testBeyondExactBound() {
+            UrlDeduplicator deduplicator = new UrlDeduplicator(1_000, 0.001, 1);
+            int kept = 0;
+            for (int i = 0; i < 1_000; i++) {
+                if (deduplicator.firstSeen("https://example.com/" + i)) {
+                    kept++;
+                }
+            }
+            for (int i = 0; i < 1_000; i++) {
+                assertFalse(deduplicator.firstSeen("https://example.com/" + i));
+            }
+            assertTrue(kept > 990, "Kept: " + kept);
+        }
+
+        @Test
+        @DisplayName("Sizes the filter above the exact bound")
+        void testFilterHeadroom() {
+            UrlDeduplicator deduplicator = new UrlDeduplicator(100, 0.01);
+            int kept = 0;
+            for (int i = 0; i < 400; i++) {
+                if (deduplicator.firstSeen("https://example.com/" + i)) {
+                    kept++;
+                }
+            }
+            assertTrue(kept > 390, "Kept: " + kept);
+            assertFalse(deduplicator.firstSeen("https://example.com/7"));
+        }
+
+        @Test
+        @DisplayName("Keeps each URL exactly once across concurrent sources")
+        void testConcurrentSources() throws Exception {
+            UrlDeduplicator deduplicator = new UrlDeduplicator(10_000, 0.01);
+            List<Future<Integer>> futures = new ArrayList<>();
+            try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+                for (int source = 0; source < 8; source++) {
+                    futures.add(executor.submit(() -> {
+                        int kept = 0;
+                        for (int i = 0; i < 5_000; i++) {
+                            if (deduplicator.firstSeen("https://example.com/story/" + i)) {
+                                kept++;
+                            }
+                        }
+                        return kept;
+                    }));
+                }
+            }
+            int kept = 0;
+            for (Future<Integer> future : futures) {
+                kept += future.get();
+            }
+            assertEquals(5_000, kept);
+            assertEquals(7 * 5_000, deduplicator.getDuplicateCount());
+        }
+    }
+
+    private static Article article(String url) {
+        return new Article("Title", "Description", "2024-01-01", url, null, null, null, null);
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import static org.junit.jupiter.api.Assertions.*;
@@ -37,6 +38,65 @@ class FileDataSourceTest {
         assertEquals(TEST_CONTENT, content, "File content should match test content");
     }
 
+    /**
+     * Tests streaming of file content.
+     * Verifies that the raw bytes are returned without decoding.
+     */
+    @Test
+    @DisplayName("Successfully streams file content")
+    void testOpenStream() throws IOException {
+        try (InputStream stream = dataSource.openStream()) {
+            assertArrayEquals(TEST_CONTENT.getBytes(), stream.readAllBytes(),
+                    "Streamed bytes should match test content");
+        }
+    }
+
+    /**
+     * Tests memory-mapped reading across several mapped chunks.
+     * Verifies that chunk boundaries are invisible to the reader.
+     */
+    @Test
+    @DisplayName("Successfully streams memory-mapped file content across chunks")
+    void testOpenStreamMapped() throws IOException {
+        FileDataSource mappedSource = new FileDataSource(tempFile.toString(), FileReadMode.MAPPED,
+                FileDataSource.DEFAULT_MAP_THRESHOLD, 5);
+        try (InputStream stream = mappedSource.openStream()) {
+            assertInstanceOf(MappedInputStream.class, stream, "MAPPED mode should map the file");
+            assertArrayEquals(TEST_CONTENT.getBytes(), stream.readAllBytes(),
+                    "Mapped bytes should match test content");
+        }
+        assertEquals(3, mappedSource.map().size(), "File should be split into three chunks");
+    }
+
+    /**
+     * Tests that AUTO mode maps files once they reach the threshold.
+     */
+    @Test
+    @DisplayName("AUTO mode maps files at or above the threshold")
+    void testAutoModeThreshold() throws IOException {
+        FileDataSource small = new FileDataSource(tempFile.toString(), FileReadMode.AUTO,
+                TEST_CONTENT.length() + 1, 1 << 20);
+        FileDataSource large = new FileDataSource(tempFile.toString(), FileReadMode.AUTO,
+                TEST_CONTENT.length(), 1 << 20);
+        try (InputStream smallStream = small.openStream(); InputStream largeStream = large.openStream()) {
+            assertAll(
+                    () -> assertFalse(smallStream instanceof MappedInputStream, "Small file should be streamed"),
+                    () -> assertInstanceOf(MappedInputStream.class, largeStream, "Large file should be mapped")
+            );
+        }
+    }
+
+    /**
+     * Tests error handling for non-existent files when streaming.
+     */
+    @Test
+    @DisplayName("Handles non-existent file appropriately when streaming")
+    void testOpenStreamNonExistentFile() {
+        FileDataSource invalidSource = new FileDataSource("nonexistent.json");
+        assertThrows(IOException.class, invalidSource::openStream,
+                "Should throw IOException for non-existent file");
+    }
+
     /**
      * Tests error handling for non-existent files.
      * Verifies appropriate exception throwing.
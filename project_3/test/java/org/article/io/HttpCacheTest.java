@@ -0,0 +1,198 @@
+package org.article.io;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for HttpCache.
+ * Verifies conditional revalidation against a local stub HTTP server and size-bounded eviction.
+ */
+@DisplayName("HttpCache Tests")
+class HttpCacheTest {
+    private static final String ETAG = "\"v1\"";
+    private static final byte[] BODY = "{\"status\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path tempDir;
+    private HttpServer server;
+    private final List<String> receivedEtags = new ArrayList<>();
+    private final AtomicInteger fullResponses = new AtomicInteger();
+    private String url;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/feed", exchange -> {
+            String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            receivedEtags.add(ifNoneMatch);
+            if (ETAG.equals(ifNoneMatch)) {
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                fullResponses.incrementAndGet();
+                exchange.getResponseHeaders().add("ETag", ETAG);
+                exchange.sendResponseHeaders(200, BODY.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(BODY);
+                }
+            }
+            exchange.close();
+        });
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort() + "/feed";
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    /**
+     * Tests that an unchanged resource is revalidated and served from the cache.
+     */
+    @Test
+    @DisplayName("Serves 304 responses from the cache")
+    void testRevalidation() throws IOException {
+        HttpCache cache = new HttpCache(tempDir);
+        URLDataSource source = new URLDataSource(url, HttpClient.newHttpClient(),
+                URLDataSource.DEFAULT_MAX_BODY_SIZE, cache);
+
+        byte[] first;
+        byte[] second;
+        try (InputStream stream = source.openStream()) {
+            first = stream.readAllBytes();
+        }
+        try (InputStream stream = source.openStream()) {
+            second = stream.readAllBytes();
+        }
+
+        assertAll(
+                () -> assertArrayEquals(BODY, first, "First response should be the full body"),
+                () -> assertArrayEquals(BODY, second, "Revalidated response should come from the cache"),
+                () -> assertNull(receivedEtags.get(0), "First request should be unconditional"),
+                () -> assertEquals(ETAG, receivedEtags.get(1), "Second request should send the ETag"),
+                () -> assertEquals(1, fullResponses.get(), "Body should only be transferred once")
+        );
+    }
+
+    /**
+     * Tests that stored entries keep their validators.
+     */
+    @Test
+    @DisplayName("Stores bodies together with their validators")
+    void testStoreAndLookup() throws IOException {
+        HttpCache cache = new HttpCache(tempDir);
+        cache.store("https://example.com/a", new ByteArrayInputStream(BODY), ETAG, "Wed, 21 Oct 2015 07:28:00 GMT");
+
+        HttpCache.Entry entry = cache.lookup("https://example.com/a");
+        assertNotNull(entry);
+        try (InputStream stream = entry.openStream()) {
+            assertArrayEquals(BODY, stream.readAllBytes());
+        }
+        assertAll(
+                () -> assertEquals(ETAG, entry.getEtag()),
+                () -> assertEquals("Wed, 21 Oct 2015 07:28:00 GMT", entry.getLastModified()),
+                () -> assertNull(cache.lookup("https://example.com/b"))
+        );
+    }
+
+    /**
+     * Tests that the least recently used entry is evicted once the bound is exceeded.
+     */
+    @Test
+    @DisplayName("Evicts least recently used entries beyond the size bound")
+    void testEviction() throws Exception {
+        HttpCache cache = new HttpCache(tempDir, BODY.length * 2L);
+        cache.store("https://example.com/a", new ByteArrayInputStream(BODY), ETAG, null);
+        Thread.sleep(20);
+        cache.store("https://example.com/b", new ByteArrayInputStream(BODY), ETAG, null);
+        Thread.sleep(20);
+        cache.touch(cache.lookup("https://example.com/a"));
+        Thread.sleep(20);
+        cache.store("https://example.com/c", new ByteArrayInputStream(BODY), ETAG, null);
+
+        assertAll(
+                () -> assertNotNull(cache.lookup("https://example.com/a"), "Recently used entry should remain"),
+                () -> assertNull(cache.lookup("https://example.com/b"), "Least recently used entry should be evicted"),
+                () -> assertNotNull(cache.lookup("https://example.com/c"), "Newest entry should remain")
+        );
+    }
+
+    /**
+     * Tests that a body evicted between lookup and a 304 response is fetched again.
+     */
+    @Test
+    @DisplayName("Refetches a body evicted after its lookup")
+    void testEvictedAfterLookup() throws IOException {
+        HttpCache cache = new HttpCache(tempDir) {
+            @Override
+            public synchronized Entry lookup(String url) throws IOException {
+                Entry entry = super.lookup(url);
+                try (Stream<Path> files = Files.list(tempDir)) {
+                    for (Path file : files.filter(path -> path.toString().endsWith(".body")).toList()) {
+                        Files.delete(file);
+                    }
+                }
+                return entry;
+            }
+        };
+        URLDataSource source = new URLDataSource(url, HttpClient.newHttpClient(),
+                URLDataSource.DEFAULT_MAX_BODY_SIZE, cache);
+
+        try (InputStream stream = source.openStream()) {
+            stream.readAllBytes();
+        }
+        byte[] second;
+        try (InputStream stream = source.openStream()) {
+            second = stream.readAllBytes();
+        }
+
+        assertAll(
+                () -> assertArrayEquals(BODY, second),
+                () -> assertEquals(List.of("", ETAG, ""), receivedEtags.stream()
+                        .map(etag -> etag == null ? "" : etag).toList()),
+                () -> assertEquals(2, fullResponses.get())
+        );
+    }
+
+    /**
+     * Tests that a body larger than the whole bound is served but not cached.
+     */
+    @Test
+    @DisplayName("Does not cache bodies larger than the size bound")
+    void testOversizedBody() throws IOException {
+        HttpCache cache = new HttpCache(tempDir, BODY.length - 1L);
+        cache.store("https://example.com/a", new ByteArrayInputStream(new byte[1]), ETAG, null);
+
+        HttpCache.Entry entry = cache.store("https://example.com/a", new ByteArrayInputStream(BODY), ETAG, null);
+        try (InputStream stream = entry.openStream()) {
+            assertArrayEquals(BODY, stream.readAllBytes());
+        }
+
+        assertAll(
+                () -> assertNull(cache.lookup("https://example.com/a"), "Previous entry should be removed"),
+                () -> {
+                    try (Stream<Path> files = Files.list(tempDir)) {
+                        assertEquals(0, files.count(), "Temporary body should be deleted once read");
+                    }
+                }
+        );
+    }
+}
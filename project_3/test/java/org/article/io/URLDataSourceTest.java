@@ -5,12 +5,21 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -22,7 +31,6 @@ import static org.mockito.Mockito.*;
 @DisplayName("URLDataSource Tests")
 class URLDataSourceTest {
     @Mock private HttpClient mockHttpClient;
-    @Mock private HttpResponse<String> mockResponse;
 
     private URLDataSource urlDataSource;
     private static final String TEST_URL = "https://api.example.com/data";
@@ -40,19 +48,116 @@ class URLDataSourceTest {
     @DisplayName("Successfully retrieves data from URL")
     void testSuccessfulDataRetrieval() throws Exception {
         String expectedData = "{\"key\":\"value\"}";
-
-        when(mockResponse.body()).thenReturn(expectedData);
-        when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
-                .thenReturn(mockResponse);
+        stubStreamResponse(expectedData.getBytes(StandardCharsets.UTF_8), Map.of());
 
         String result = urlDataSource.getData();
         assertAll(
                 () -> assertEquals(expectedData, result, "Retrieved data should match expected"),
-                () -> verify(mockHttpClient).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)),
-                () -> verify(mockResponse).body()
+                () -> verify(mockHttpClient).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class))
         );
     }
 
+    /**
+     * Tests that the string path negotiates compression and enforces the size limit like streaming.
+     */
+    @Test
+    @DisplayName("Decompresses and bounds bodies read as a string")
+    void testGetDataUsesStreamPath() throws Exception {
+        byte[] expectedData = "{\"key\":\"value\"}".getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(expectedData);
+        }
+        stubStreamResponse(compressed.toByteArray(), Map.of("Content-Encoding", List.of("gzip")));
+
+        assertEquals(new String(expectedData, StandardCharsets.UTF_8), urlDataSource.getData());
+        ArgumentCaptor<HttpRequest> request = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(mockHttpClient).send(request.capture(), any(HttpResponse.BodyHandler.class));
+        assertTrue(request.getValue().headers().firstValue("Accept-Encoding").orElse("").contains("gzip"),
+                "Request should advertise gzip support");
+
+        URLDataSource bounded = new URLDataSource(TEST_URL, mockHttpClient, 4);
+        stubStreamResponse(new byte[16], Map.of());
+        IOException exception = assertThrows(IOException.class, bounded::getData);
+        assertTrue(exception.getMessage().contains("exceeds maximum size"),
+                "Exception should indicate the size limit");
+    }
+
+    /**
+     * Tests streaming of the response body.
+     */
+    @Test
+    @DisplayName("Successfully streams data from URL")
+    void testSuccessfulStreamRetrieval() throws Exception {
+        byte[] expectedData = "{\"key\":\"value\"}".getBytes(StandardCharsets.UTF_8);
+        stubStreamResponse(expectedData, Map.of());
+
+        try (InputStream result = urlDataSource.openStream()) {
+            assertArrayEquals(expectedData, result.readAllBytes(), "Streamed data should match expected");
+        }
+    }
+
+    /**
+     * Tests negotiation and on-the-fly decompression of gzip bodies.
+     */
+    @Test
+    @DisplayName("Requests compression and decompresses gzip bodies")
+    void testGzipStreamRetrieval() throws Exception {
+        byte[] expectedData = "{\"key\":\"value\"}".getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(expectedData);
+        }
+        stubStreamResponse(compressed.toByteArray(), Map.of("Content-Encoding", List.of("gzip")));
+
+        try (InputStream result = urlDataSource.openStream()) {
+            assertArrayEquals(expectedData, result.readAllBytes(), "Decompressed data should match expected");
+        }
+        ArgumentCaptor<HttpRequest> request = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(mockHttpClient).send(request.capture(), any(HttpResponse.BodyHandler.class));
+        assertTrue(request.getValue().headers().firstValue("Accept-Encoding").orElse("").contains("gzip"),
+                "Request should advertise gzip support");
+    }
+
+    /**
+     * Tests that a declared oversized body is rejected before it is read.
+     */
+    @Test
+    @DisplayName("Rejects bodies whose Content-Length exceeds the limit")
+    void testOversizedContentLength() throws Exception {
+        urlDataSource = new URLDataSource(TEST_URL, mockHttpClient, 4);
+        stubStreamResponse(new byte[16], Map.of("Content-Length", List.of("16")));
+
+        IOException exception = assertThrows(IOException.class, () -> urlDataSource.openStream());
+        assertTrue(exception.getCause().getMessage().contains("exceeds maximum size"),
+                "Exception should indicate the size limit");
+    }
+
+    /**
+     * Tests that an undeclared oversized body fails while it is being read.
+     */
+    @Test
+    @DisplayName("Aborts bodies that grow beyond the limit while streaming")
+    void testOversizedStreamedBody() throws Exception {
+        urlDataSource = new URLDataSource(TEST_URL, mockHttpClient, 4);
+        stubStreamResponse(new byte[16], Map.of());
+
+        try (InputStream result = urlDataSource.openStream()) {
+            IOException exception = assertThrows(IOException.class, result::readAllBytes);
+            assertTrue(exception.getMessage().contains("exceeds maximum size"),
+                    "Exception should indicate the size limit");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubStreamResponse(byte[] body, Map<String, List<String>> headers) throws Exception {
+        HttpResponse<InputStream> mockStreamResponse = mock(HttpResponse.class);
+        when(mockStreamResponse.body()).thenReturn(new ByteArrayInputStream(body));
+        when(mockStreamResponse.headers()).thenReturn(HttpHeaders.of(headers, (name, value) -> true));
+        when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(mockStreamResponse);
+    }
+
     /**
      * Tests handling of invalid URL formats.
      */
@@ -81,8 +186,11 @@ class URLDataSourceTest {
      */
     @Test
     @DisplayName("Handles null response body")
+    @SuppressWarnings("unchecked")
     void testNullResponseBody() throws Exception {
+        HttpResponse<InputStream> mockResponse = mock(HttpResponse.class);
         when(mockResponse.body()).thenReturn(null);
+        when(mockResponse.headers()).thenReturn(HttpHeaders.of(Map.of(), (name, value) -> true));
         when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
                 .thenReturn(mockResponse);
 
@@ -0,0 +1,75 @@
+package org.article.output;
+
+import org.article.core.Article;
+import org.article.core.ArticleField;
+import org.article.core.Source;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ArticleTemplate.
+ * Verifies template compilation, rendering of fields and defaults, and rejection of invalid patterns.
+ */
+@DisplayName("ArticleTemplate Tests")
+class ArticleTemplateTest {
+    private final Article article = new Article(
+            "Test Title",
+            "Test Description",
+            "2024-01-01",
+            "https://test.com",
+            null,
+            null,
+            new Source("test-id", "Test Source"),
+            "Jane Doe"
+    );
+
+    /**
+     * Tests that the basic template renders exactly what the previous String.format did.
+     */
+    @Test
+    @DisplayName("Basic template matches the String.format output")
+    void testBasicTemplate() {
+        Article nullArticle = new Article(null, null, null, null, null, null, null, null);
+
+        assertAll(
+                () -> assertEquals(String.format("title: %s%nat: %s%nurl: %s%n%s%n",
+                        "Test Title", "2024-01-01", "https://test.com", "Test Description"),
+                        ArticleTemplate.BASIC.render(article)),
+                () -> assertEquals(String.format("title: %s%nat: %s%nurl: %s%n%s%n", "N/A", "N/A", "N/A", "N/A"),
+                        ArticleTemplate.BASIC.render(nullArticle))
+        );
+    }
+
+    /**
+     * Tests that a custom template shows only the selected fields, including source fields.
+     */
+    @Test
+    @DisplayName("Renders custom templates with selected fields")
+    void testCustomTemplate() {
+        ArticleTemplate template = ArticleTemplate.compile("{title} ({source.name}, {author}) {{{urlToImage}}}");
+
+        assertAll(
+                () -> assertEquals("Test Title (Test Source, Jane Doe) {N/A}", template.render(article)),
+                () -> assertEquals(List.of(ArticleField.TITLE, ArticleField.SOURCE_NAME, ArticleField.AUTHOR,
+                                ArticleField.URL_TO_IMAGE),
+                        List.copyOf(template.getFields())),
+                () -> assertEquals("N/A", ArticleTemplate.compile("{source.id}")
+                        .render(new Article(null, null, null, null, null, null, null, null)))
+        );
+    }
+
+    /**
+     * Tests that invalid patterns are rejected when compiled.
+     */
+    @Test
+    @DisplayName("Rejects unknown fields and unbalanced braces")
+    void testInvalidTemplates() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> ArticleTemplate.compile("{nope}")),
+                () -> assertThrows(IllegalArgumentException.class, () -> ArticleTemplate.compile("{title")),
+                () -> assertThrows(IllegalArgumentException.class, () -> ArticleTemplate.compile("title}"))
+        );
+    }
+}
@@ -0,0 +1,121 @@
+package org.article.output;
+
+import org.article.core.Article;
+import org.article.core.ArticleBatch;
+import org.article.core.Source;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for BufferedArticlePrinter.
+ * Verifies that buffered output matches BasicArticlePrinter and is only written on flush.
+ */
+@DisplayName("BufferedArticlePrinter Tests")
+class BufferedArticlePrinterTest {
+    private ByteArrayOutputStream outputStream;
+    private PrintStream originalOut;
+    private final Article article = new Article(
+            "Test Title – ünïcode",
+            "Test Description 📰",
+            "2024-01-01",
+            "https://test.com",
+            null,
+            null,
+            new Source("test-id", "Test Source"),
+            null
+    );
+
+    @BeforeEach
+    void setUp() {
+        outputStream = new ByteArrayOutputStream();
+        originalOut = System.out;
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    /**
+     * Tests that the output is byte for byte the same as BasicArticlePrinter's.
+     */
+    @Test
+    @DisplayName("Matches BasicArticlePrinter output")
+    void testMatchesBasicPrinter() {
+        ByteArrayOutputStream basicOutput = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(basicOutput, true, StandardCharsets.UTF_8));
+        Article nullArticle = new Article(null, null, null, null, null, null, null, null);
+        BasicArticlePrinter basicPrinter = new BasicArticlePrinter();
+        basicPrinter.print(article);
+        basicPrinter.print(nullArticle);
+
+        try (BufferedArticlePrinter printer = new BufferedArticlePrinter(outputStream)) {
+            printer.print(article);
+            printer.print(nullArticle);
+        }
+
+        assertArrayEquals(basicOutput.toByteArray(), outputStream.toByteArray(),
+                "Buffered output should match basic output");
+    }
+
+    /**
+     * Tests that output is held back until flushed.
+     */
+    @Test
+    @DisplayName("Writes output only when flushed")
+    void testFlush() {
+        BufferedArticlePrinter printer = new BufferedArticlePrinter(outputStream);
+        printer.print(article);
+        assertEquals(0, outputStream.size(), "Output should be buffered");
+
+        printer.flush();
+        assertTrue(outputStream.toString(StandardCharsets.UTF_8).startsWith("title: Test Title"),
+                "Flushed output should contain the article");
+    }
+
+    /**
+     * Tests that articles larger than the buffer are written across several chunks.
+     */
+    @Test
+    @DisplayName("Handles articles larger than the buffer")
+    void testSmallBuffer() {
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        try (BufferedArticlePrinter printer = new BufferedArticlePrinter(expected)) {
+            printer.print(article);
+        }
+        try (BufferedArticlePrinter printer = new BufferedArticlePrinter(outputStream, 5)) {
+            printer.print(article);
+        }
+        assertArrayEquals(expected.toByteArray(), outputStream.toByteArray(),
+                "Small buffer output should match default buffer output");
+    }
+
+    /**
+     * Tests that printing a batch row copies the same bytes as printing the article object.
+     */
+    @Test
+    @DisplayName("Prints batch rows like the original articles")
+    void testPrintBatch() {
+        Article nullArticle = new Article(null, null, null, null, null, null, null, null);
+        ArticleBatch batch = new ArticleBatch(16);
+        batch.add(article);
+        batch.add(nullArticle);
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        try (BufferedArticlePrinter printer = new BufferedArticlePrinter(expected)) {
+            printer.print(article);
+            printer.print(nullArticle);
+        }
+        try (BufferedArticlePrinter printer = new BufferedArticlePrinter(outputStream, 5)) {
+            printer.printAll(batch);
+        }
+        assertArrayEquals(expected.toByteArray(), outputStream.toByteArray(),
+                "Batch output should match object output");
+    }
+}
@@ -0,0 +1,53 @@
+package org.article.parser;
+
+import org.article.core.Source;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ArticleDictionary.
+ * Verifies that equal sources and authors are shared and that the dictionary stays bounded while it keeps sharing.
+ */
+@DisplayName("ArticleDictionary Tests")
+class ArticleDictionaryTest {
+    /**
+     * Tests that equal sources and authors are returned as one shared instance.
+     */
+    @Test
+    @DisplayName("Shares equal sources and authors")
+    void testSharing() {
+        ArticleDictionary dictionary = new ArticleDictionary();
+        Source first = dictionary.source("cnn", new String("CNN"));
+        Source second = dictionary.source("cnn", new String("CNN"));
+        Source other = dictionary.source("reuters", "Reuters");
+        String author = dictionary.string(new String("Jane Doe"));
+
+        assertAll(
+                () -> assertSame(first, second),
+                () -> assertNotSame(first, other),
+                () -> assertEquals("CNN", second.getName()),
+                () -> assertSame(author, dictionary.string(new String("Jane Doe"))),
+                () -> assertEquals(2, dictionary.sourceCount()),
+                () -> assertNull(dictionary.string(null))
+        );
+    }
+
+    /**
+     * Tests that a full dictionary starts over and keeps sharing the values seen next.
+     */
+    @Test
+    @DisplayName("Starts over once full")
+    void testBounded() {
+        ArticleDictionary dictionary = new ArticleDictionary(1);
+        Source first = dictionary.source("a", "A");
+        Source next = dictionary.source("b", "B");
+
+        assertAll(
+                () -> assertSame(next, dictionary.source("b", "B")),
+                () -> assertEquals("A", first.getName()),
+                () -> assertNotSame(first, dictionary.source("a", "A")),
+                () -> assertEquals(1, dictionary.sourceCount())
+        );
+    }
+}
@@ -0,0 +1,173 @@
+package org.article.parser;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import org.article.core.Article;
+import org.article.core.ArticleField;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import java.util.EnumSet;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ArticleModule.
+ * Verifies that the streaming deserializers bind the same values as Jackson's reflective binding.
+ */
+@DisplayName("ArticleModule Tests")
+class ArticleModuleTest {
+    private static final String ARTICLE = "{\"source\": {\"id\": \"bbc\", \"name\": \"BBC News\"}, "
+            + "\"author\": \"Jane Doe\", \"title\": \"Title\", \"description\": \"Description\", "
+            + "\"url\": \"https://test.com\", \"urlToImage\": \"https://test.com/image.jpg\", "
+            + "\"publishedAt\": \"2024-01-01T10:00:00Z\", \"content\": \"Content \\\"quoted\\\"\"}";
+    private static final List<String> ARTICLES = List.of(
+            ARTICLE,
+            "{}",
+            "{\"url\": \"https://test.com\", \"title\": null, \"source\": null}",
+            "{\"content\": \"c\", \"publishedAt\": \"p\", \"urlToImage\": \"i\", \"title\": \"t\"}",
+            "{\"title\": 5, \"description\": true, \"publishedAt\": 1.5}",
+            "{\"source\": {\"name\": \"Reuters\"}, \"title\": \"t\"}"
+    );
+
+    private final ObjectMapper reflective = new ObjectMapper();
+    private final ObjectMapper streaming = new ObjectMapper().registerModule(new ArticleModule());
+
+    private static String describe(Article article) {
+        if (article == null) {
+            return "null";
+        }
+        String source = article.getSource() == null ? "no source"
+                : article.getSource().getId() + "/" + article.getSource().getName();
+        return String.join("|", article.getTitle(), article.getDescription(), article.getPublishedAt(),
+                article.getUrl(), article.getUrlToImage(), article.getContent(), source, article.getAuthor());
+    }
+
+    private static String describe(SimpleArticle article) {
+        return String.join("|", article.getTitle(), article.getDescription(), article.getDate(), article.getUrl());
+    }
+
+    @Nested
+    @DisplayName("Article Tests")
+    class ArticleTests {
+        /**
+         * Tests that articles in any field order, with nulls and coerced scalars, bind identically.
+         */
+        @Test
+        @DisplayName("Binds the same articles as the reflective binding")
+        void testMatchesReflective() throws Exception {
+            for (String json : ARTICLES) {
+                assertEquals(describe(reflective.readValue(json, Article.class)),
+                        describe(streaming.readValue(json, Article.class)), json);
+            }
+        }
+
+        /**
+         * Tests that unknown fields follow the mapper's FAIL_ON_UNKNOWN_PROPERTIES setting.
+         */
+        @Test
+        @DisplayName("Reports or skips unknown fields as configured")
+        void testUnknownFields() throws Exception {
+            String json = "{\"title\": \"t\", \"extra\": {\"a\": [1, 2]}, \"url\": \"u\"}";
+            ObjectMapper lenient = new ObjectMapper().registerModule(new ArticleModule())
+                    .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+            assertThrows(UnrecognizedPropertyException.class, () -> streaming.readValue(json, Article.class));
+            assertEquals("u", lenient.readValue(json, Article.class).getUrl());
+        }
+
+        /**
+         * Tests that a value that is not an object is rejected.
+         */
+        @Test
+        @DisplayName("Rejects non-object values")
+        void testNonObject() {
+            assertAll(
+                    () -> assertThrows(MismatchedInputException.class,
+                            () -> streaming.readValue("[1]", Article.class)),
+                    () -> assertThrows(MismatchedInputException.class,
+                            () -> streaming.readValue("{\"source\": \"bbc\"}", Article.class)),
+                    () -> assertThrows(MismatchedInputException.class,
+                            () -> streaming.readValue("{\"title\": {\"a\": 1}}", Article.class))
+            );
+        }
+    }
+
+    /**
+     * Tests that fields outside the projection are left null and the rest bind as before.
+     */
+    @Test
+    @DisplayName("Skips the fields outside the projection")
+    void testProjection() throws Exception {
+        ObjectMapper projecting = new ObjectMapper().registerModule(new ArticleModule(EnumSet.of(
+                ArticleField.TITLE, ArticleField.URL, ArticleField.SOURCE_NAME)));
+        String json = "{\"content\": {\"nested\": [\"skipped\", {}]}, " + ARTICLE.substring(1);
+
+        Article article = projecting.readValue(json, Article.class);
+
+        assertAll(
+                () -> assertEquals("Title", article.getTitle()),
+                () -> assertEquals("https://test.com", article.getUrl()),
+                () -> assertEquals("BBC News", article.getSource().getName()),
+                () -> assertNull(article.getDescription()),
+                () -> assertNull(article.getContent()),
+                () -> assertNull(article.getAuthor()),
+                () -> assertNull(article.getUrlToImage()),
+                () -> assertNull(article.getPublishedAt())
+        );
+    }
+
+    /**
+     * Tests that articles bound with one module share equal sources and authors.
+     */
+    @Test
+    @DisplayName("Shares sources and authors between articles")
+    void testSharedValues() throws Exception {
+        Article first = streaming.readValue(ARTICLE, Article.class);
+        Article second = streaming.readValue(ARTICLE, Article.class);
+        Article other = new ObjectMapper().registerModule(new ArticleModule()).readValue(ARTICLE, Article.class);
+
+        assertAll(
+                () -> assertSame(first.getSource(), second.getSource()),
+                () -> assertSame(first.getAuthor(), second.getAuthor()),
+                () -> assertNotSame(first.getSource(), other.getSource()),
+                () -> assertEquals("BBC News", second.getSource().getName())
+        );
+    }
+
+    /**
+     * Tests that simple articles bind identically and skip unknown fields.
+     */
+    @Test
+    @DisplayName("Binds the same simple articles as the reflective binding")
+    void testSimpleArticle() throws Exception {
+        for (String json : ARTICLES) {
+            assertEquals(describe(reflective.readValue(json, SimpleArticle.class)),
+                    describe(streaming.readValue(json, SimpleArticle.class)), json);
+        }
+    }
+
+    /**
+     * Tests that responses bind identically, keeping null articles and skipping unknown fields.
+     */
+    @Test
+    @DisplayName("Binds the same responses as the reflective binding")
+    void testResponse() throws Exception {
+        for (String json : List.of(
+                "{\"status\": \"ok\", \"totalResults\": 3, \"articles\": [" + ARTICLE + ", null, {}]}",
+                "{\"totalResults\": \"7\", \"extra\": [1, {}], \"status\": null}",
+                "{\"articles\": null}")) {
+            NewsApiResponse expected = reflective.readValue(json, NewsApiResponse.class);
+            NewsApiResponse actual = streaming.readValue(json, NewsApiResponse.class);
+
+            assertEquals(expected.getStatus(), actual.getStatus(), json);
+            assertEquals(expected.getTotalResults(), actual.getTotalResults(), json);
+            assertEquals(expected.getArticles() == null ? null
+                            : expected.getArticles().stream().map(ArticleModuleTest::describe).toList(),
+                    actual.getArticles() == null ? null
+                            : actual.getArticles().stream().map(ArticleModuleTest::describe).toList(), json);
+        }
+    }
+}
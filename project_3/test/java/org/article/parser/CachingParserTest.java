@@ -0,0 +1,221 @@
+package org.article.parser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.article.core.Article;
+import org.article.core.DataSource;
+import org.article.core.Parser;
+import org.article.core.Source;
+import org.article.io.FileDataSource;
+import org.article.io.URLDataSource;
+import org.article.util.ArticleLogger;
+import org.article.util.RequiredFieldsValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for parse result caching.
+ * Verifies cache keys for files and URL responses, LRU eviction by count and weight, and statistics.
+ */
+@DisplayName("CachingParser Tests")
+class CachingParserTest {
+    private static final String JSON = """
+            {"status": "ok", "articles": [{
+                "title": "%s",
+                "description": "Test Description",
+                "publishedAt": "2024-01-01",
+                "url": "https://test.com",
+                "source": {"id": "test-source", "name": "Test Source"}
+            }]}
+            """;
+
+    @TempDir
+    Path tempDir;
+    private ParseCache cache;
+    private Parser delegate;
+    private CachingParser parser;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ParseCache();
+        delegate = spy(new NewsApiParser(new ObjectMapper(), new RequiredFieldsValidator(), mock(ArticleLogger.class)) {
+            @Override
+            public DataSource getDataSource() {
+                return null;
+            }
+        });
+        parser = new CachingParser(delegate, cache, "newsapi");
+    }
+
+    /**
+     * Tests for cache keys.
+     */
+    @Nested
+    @DisplayName("Key Tests")
+    class KeyTests {
+        @Test
+        @DisplayName("Reuses the result of an unchanged file and reparses a modified one")
+        void testFileKey() throws Exception {
+            Path file = tempDir.resolve("news.json");
+            Files.writeString(file, JSON.formatted("First"));
+            FileDataSource source = new FileDataSource(file.toString());
+
+            List<Article> first = parser.parse(source);
+            List<Article> second = parser.parse(source);
+            Files.writeString(file, JSON.formatted("Second title"));
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 5_000));
+            List<Article> third = parser.parse(source);
+
+            assertAll(
+                    () -> assertSame(first, second),
+                    () -> assertEquals("Second title", third.getFirst().getTitle()),
+                    () -> assertEquals(1, cache.getHitCount()),
+                    () -> assertEquals(2, cache.getMissCount()),
+                    () -> verify(delegate, times(2)).parse(any())
+            );
+        }
+
+        @Test
+        @DisplayName("Keys URL responses on their validator and closes the body of a hit unread")
+        @SuppressWarnings("unchecked")
+        void testUrlKey() throws Exception {
+            HttpClient httpClient = mock(HttpClient.class);
+            List<InputStream> bodies = new ArrayList<>();
+            List<String> etags = List.of("\"v1\"", "\"v1\"", "\"v2\"");
+            when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class))).thenAnswer(call -> {
+                String etag = etags.get(bodies.size());
+                InputStream body = spy(new ByteArrayInputStream(JSON.formatted(etag.replace("\"", ""))
+                        .getBytes(StandardCharsets.UTF_8)));
+                bodies.add(body);
+                HttpResponse<InputStream> response = mock(HttpResponse.class);
+                when(response.statusCode()).thenReturn(200);
+                when(response.body()).thenReturn(body);
+                when(response.headers()).thenReturn(HttpHeaders.of(Map.of("ETag", List.of(etag)), (k, v) -> true));
+                return response;
+            });
+            URLDataSource source = new URLDataSource("https://test.com/news", httpClient);
+
+            List<Article> first = parser.parse(source);
+            List<Article> second = parser.parse(source);
+            List<Article> third = parser.parse(source);
+
+            assertAll(
+                    () -> assertSame(first, second),
+                    () -> assertEquals("v2", third.getFirst().getTitle()),
+                    () -> verify(bodies.get(1)).close(),
+                    () -> assertEquals(1, cache.getHitCount()),
+                    () -> verify(delegate, times(2)).parse(any())
+            );
+        }
+
+        @Test
+        @DisplayName("Parses other sources every time without caching them")
+        void testUncachedSource() throws Exception {
+            DataSource source = () -> JSON.formatted("Fetched");
+
+            assertEquals("Fetched", parser.parse(source).getFirst().getTitle());
+            parser.parse(source);
+
+            assertAll(
+                    () -> assertEquals(0, cache.size()),
+                    () -> verify(delegate, times(2)).parse(source)
+            );
+        }
+
+        @Test
+        @DisplayName("Keeps separate entries per format")
+        void testFormatKey() throws Exception {
+            Path file = tempDir.resolve("shared.json");
+            Files.writeString(file, JSON.formatted("Shared"));
+            FileDataSource source = new FileDataSource(file.toString());
+            parser.parse(source);
+            new CachingParser(delegate, cache, "simple").parse(source);
+
+            assertEquals(2, cache.size());
+        }
+    }
+
+    /**
+     * Tests for the bounds and statistics of the cache.
+     */
+    @Nested
+    @DisplayName("Eviction Tests")
+    class EvictionTests {
+        @Test
+        @DisplayName("Evicts the least recently used entry beyond the entry bound")
+        void testEntryBound() {
+            ParseCache small = new ParseCache(2, ParseCache.DEFAULT_MAX_WEIGHT);
+            small.put("a", List.of(article("A")));
+            small.put("b", List.of(article("B")));
+            small.get("a");
+            small.put("c", List.of(article("C")));
+
+            assertAll(
+                    () -> assertNotNull(small.get("a")),
+                    () -> assertNull(small.get("b")),
+                    () -> assertNotNull(small.get("c")),
+                    () -> assertEquals(1, small.getEvictionCount()),
+                    () -> assertEquals(2, small.size())
+            );
+        }
+
+        @Test
+        @DisplayName("Evicts by weight and skips results heavier than the cache")
+        void testWeightBound() {
+            long oneArticle = ParseCache.weigh(List.of(article("A")));
+            ParseCache small = new ParseCache(100, oneArticle * 2);
+            small.put("a", List.of(article("A")));
+            small.put("b", List.of(article("B")));
+            small.put("c", List.of(article("C")));
+            small.put("huge", List.of(article("D"), article("E"), article("F"), article("G"), article("H")));
+
+            assertAll(
+                    () -> assertNull(small.get("a")),
+                    () -> assertNull(small.get("huge")),
+                    () -> assertEquals(2, small.size()),
+                    () -> assertEquals(oneArticle * 2, small.getWeight()),
+                    () -> assertTrue(small.toString().contains("evictions=1"), small.toString())
+            );
+        }
+
+        @Test
+        @DisplayName("Weighs shared values once")
+        void testSharedWeight() {
+            Source source = new Source("bbc", "BBC News");
+            String author = new String("Jane Doe");
+            Article first = new Article("A", "Description", "2024-01-01", "https://a.com", null, null, source, author);
+            Article second = new Article("B", "Description", "2024-01-01", "https://b.com", null, null, source, author);
+            Article copy = new Article("B", "Description", "2024-01-01", "https://b.com", null, null,
+                    new Source("bbc", "BBC News"), new String("Jane Doe"));
+
+            long shared = ParseCache.weigh(List.of(first, second));
+            long copied = ParseCache.weigh(List.of(first, copy));
+
+            assertAll(
+                    () -> assertTrue(shared < copied),
+                    () -> assertEquals(0, shared % 8)
+            );
+        }
+    }
+
+    private static Article article(String title) {
+        return new Article(title, "Description", "2024-01-01", "https://test.com", null, null, null, null);
+    }
+}
@@ -0,0 +1,115 @@
+package org.article.parser;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for FormatDetector.
+ * Verifies format detection from the first tokens and that the input is left unconsumed.
+ */
+@DisplayName("FormatDetector Tests")
+class FormatDetectorTest {
+    @TempDir
+    Path tempDir;
+
+    static Stream<Arguments> inputs() {
+        return Stream.of(
+                Arguments.of("{\"title\": \"t\", \"url\": \"u\"}", InputFormat.SINGLE_OBJECT),
+                Arguments.of("  [{\"title\": \"t\"}, {\"title\": \"u\"}]", InputFormat.ARRAY),
+                Arguments.of("{\"status\": \"ok\", \"totalResults\": 2, \"articles\": []}",
+                        InputFormat.NEWSAPI_ENVELOPE),
+                Arguments.of("{\"title\": \"t\"}\n{\"title\": \"u\"}\n", InputFormat.LINE_DELIMITED),
+                Arguments.of("{\"title\": \"t\", \"meta\": {\"articles\": 1}}", InputFormat.SINGLE_OBJECT),
+                Arguments.of("", InputFormat.UNKNOWN),
+                Arguments.of("42", InputFormat.UNKNOWN)
+        );
+    }
+
+    /**
+     * Tests detection of each supported layout.
+     */
+    @ParameterizedTest
+    @MethodSource("inputs")
+    @DisplayName("Detects the input format")
+    void testDetect(String json, InputFormat expected) throws IOException {
+        assertEquals(expected, FormatDetector.detect(stream(json)));
+    }
+
+    /**
+     * Tests that detection resets the stream to its start.
+     */
+    @Test
+    @DisplayName("Leaves the stream at its original position")
+    void testStreamIsReset() throws IOException {
+        String json = "{\"status\": \"ok\", \"totalResults\": 2, \"articles\": []}";
+        InputStream in = stream(json);
+        FormatDetector.detect(in);
+        assertEquals(json, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Tests that detection stops at the peek limit for large single objects.
+     */
+    @Test
+    @DisplayName("Stops at the peek limit")
+    void testPeekLimit() throws IOException {
+        String json = "{\"description\": \"" + "x".repeat(1000) + "\", \"articles\": []}";
+        assertEquals(InputFormat.SINGLE_OBJECT, FormatDetector.detect(stream(json), 100));
+    }
+
+    /**
+     * Tests that streams without mark support are rejected.
+     */
+    @Test
+    @DisplayName("Requires mark/reset support")
+    void testRequiresMarkSupport() {
+        InputStream in = new InputStream() {
+            @Override
+            public int read() {
+                return -1;
+            }
+        };
+        assertThrows(IllegalArgumentException.class, () -> FormatDetector.detect(in));
+    }
+
+    /**
+     * Tests that files are mapped to the parser format that reads them.
+     */
+    @Test
+    @DisplayName("Names the parser format of a file")
+    void testDetectParserFormat() throws IOException {
+        Path envelope = Files.writeString(tempDir.resolve("envelope.json"), "{\"articles\": []}");
+        Path simple = Files.writeString(tempDir.resolve("simple.json"), "{\"title\": \"t\"}");
+        Path ndjson = Files.writeString(tempDir.resolve("articles.jsonl"),
+                "{\"title\": \"t\", \"source\": {\"name\": \"s\"}}\n{\"title\": \"u\"}\n");
+        Path simpleLines = Files.writeString(tempDir.resolve("simple.jsonl"),
+                "{\"title\": \"t\", \"publishedAt\": \"p\"}\n{\"title\": \"u\"}\n");
+        Path unknown = Files.writeString(tempDir.resolve("unknown.json"), "42");
+
+        assertAll(
+                () -> assertEquals("newsapi", FormatDetector.detectParserFormat(envelope)),
+                () -> assertEquals("simple", FormatDetector.detectParserFormat(simple)),
+                () -> assertEquals("ndjson", FormatDetector.detectParserFormat(ndjson)),
+                () -> assertEquals("simple", FormatDetector.detectParserFormat(simpleLines)),
+                () -> assertNull(FormatDetector.detectParserFormat(unknown)),
+                () -> assertNull(FormatDetector.detectParserFormat(tempDir.resolve("missing.json")))
+        );
+    }
+
+    private static InputStream stream(String json) {
+        return new BufferedInputStream(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
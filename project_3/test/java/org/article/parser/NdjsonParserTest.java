@@ -0,0 +1,210 @@
+package org.article.parser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.article.core.Article;
+import org.article.core.DataSource;
+import org.article.io.FileDataSource;
+import org.article.util.ArticleLogger;
+import org.article.util.RequiredFieldsValidator;
+import org.article.util.ValidationDiagnostics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for NdjsonParser.
+ * Verifies that chunked parallel parsing of a file matches sequential parsing.
+ */
+@DisplayName("NdjsonParser Tests")
+class NdjsonParserTest {
+    private static final String LINE = "{\"title\": \"Title %d\", \"description\": \"Description\", "
+            + "\"publishedAt\": \"2024-01-01\", \"url\": \"https://test.com/%d\", "
+            + "\"source\": {\"id\": null, \"name\": \"Test Source\"}}";
+
+    @TempDir
+    Path tempDir;
+    @Mock private ArticleLogger mockLogger;
+    private NdjsonParser parser;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        parser = newParser(64);
+    }
+
+    private NdjsonParser newParser(int chunkSize) {
+        return new NdjsonParser(new ObjectMapper(), new RequiredFieldsValidator(), mockLogger,
+                ValidationDiagnostics.DEFAULT_SAMPLE_INTERVAL, new ForkJoinPool(4), chunkSize) {
+            @Override
+            public DataSource getDataSource() {
+                return null;
+            }
+        };
+    }
+
+    private static String lines(int count) {
+        StringBuilder data = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            data.append(LINE.formatted(i, i)).append('\n');
+            if (i % 10 == 3) {
+                data.append("{\"title\": \"Missing fields\"}\n\n");
+            }
+        }
+        return data.toString();
+    }
+
+    /**
+     * Tests that a file split into many chunks yields every valid article in file order.
+     */
+    @Test
+    @DisplayName("Parses a file in chunks and keeps file order")
+    void testChunkedFile() throws Exception {
+        Path file = tempDir.resolve("articles.jsonl");
+        Files.writeString(file, lines(500));
+
+        List<Article> articles = parser.parse(new FileDataSource(file.toString()));
+
+        assertEquals(500, articles.size());
+        for (int i = 0; i < articles.size(); i++) {
+            assertEquals("Title " + i, articles.get(i).getTitle());
+        }
+        verify(mockLogger).warning(contains("skipped 50 of 550"));
+    }
+
+    /**
+     * Tests that the result does not depend on the chunk size or on the source type.
+     */
+    @Test
+    @DisplayName("Matches sequential parsing and streaming")
+    void testMatchesSequential() throws Exception {
+        String data = lines(200).stripTrailing();
+        Path file = tempDir.resolve("articles.jsonl");
+        Files.writeString(file, data);
+        DataSource source = () -> data;
+
+        List<Article> chunked = parser.parse(new FileDataSource(file.toString()));
+        List<Article> whole = newParser(NdjsonParser.DEFAULT_CHUNK_SIZE).parse(new FileDataSource(file.toString()));
+        List<Article> sequential = parser.parse(source);
+        List<Article> streamed;
+        try (Stream<Article> articles = parser.stream(source)) {
+            streamed = articles.toList();
+        }
+        List<Article> fileStreamed;
+        try (Stream<Article> articles = parser.stream(new FileDataSource(file.toString()))) {
+            fileStreamed = articles.toList();
+        }
+
+        assertAll(
+                () -> assertEquals(200, chunked.size()),
+                () -> assertEquals(chunked.stream().map(Article::getUrl).toList(),
+                        whole.stream().map(Article::getUrl).toList()),
+                () -> assertEquals(chunked.stream().map(Article::getUrl).toList(),
+                        sequential.stream().map(Article::getUrl).toList()),
+                () -> assertEquals(chunked.stream().map(Article::getUrl).toList(),
+                        streamed.stream().map(Article::getUrl).toList()),
+                () -> assertEquals(chunked.stream().map(Article::getUrl).toList(),
+                        fileStreamed.stream().map(Article::getUrl).toList())
+        );
+    }
+
+    /**
+     * Tests that an empty file yields no articles.
+     */
+    @Test
+    @DisplayName("Parses an empty file")
+    void testEmptyFile() throws Exception {
+        Path file = Files.createFile(tempDir.resolve("empty.jsonl"));
+
+        assertTrue(parser.parse(new FileDataSource(file.toString())).isEmpty());
+    }
+
+    /**
+     * Tests that a malformed line fails the parse and reports its position in the file.
+     */
+    @Test
+    @DisplayName("Reports a malformed line with its file offset")
+    void testMalformedLine() throws Exception {
+        Path file = tempDir.resolve("broken.jsonl");
+        String valid = lines(20);
+        Files.writeString(file, valid + "{\"title\": \n" + LINE.formatted(99, 99) + "\n");
+
+        ParserException exception = assertThrows(ParserException.class,
+                () -> parser.parse(new FileDataSource(file.toString())));
+
+        assertTrue(exception.getCause().getMessage().contains("near byte"));
+        verify(mockLogger).error(anyString(), any(Exception.class));
+    }
+
+    /**
+     * Tests that files are streamed lazily like other sources instead of being parsed up front.
+     */
+    @Test
+    @DisplayName("Streams files one line at a time")
+    void testStreamFile() throws Exception {
+        String data = lines(20) + "{\"title\": \n";
+        Path file = tempDir.resolve("broken.jsonl");
+        Files.writeString(file, data);
+
+        try (Stream<Article> articles = parser.stream(new FileDataSource(file.toString()))) {
+            assertEquals("Title 0", articles.iterator().next().getTitle());
+        }
+        try (Stream<Article> articles = parser.stream(new FileDataSource(file.toString()))) {
+            assertThrows(UncheckedIOException.class, articles::toList);
+        }
+        try (Stream<Article> articles = parser.stream(() -> data)) {
+            assertThrows(UncheckedIOException.class, articles::toList);
+        }
+    }
+
+    /**
+     * Tests that null lines are counted as rejections and other non-object lines fail every path.
+     */
+    @Test
+    @DisplayName("Counts null lines and rejects other non-object lines")
+    void testNonObjectLines() throws Exception {
+        Path nulls = tempDir.resolve("nulls.jsonl");
+        Files.writeString(nulls, LINE.formatted(0, 0) + "\nnull\n" + LINE.formatted(1, 1) + "\n");
+        String broken = LINE.formatted(0, 0) + "\n42\n";
+        Path brokenFile = tempDir.resolve("numbers.jsonl");
+        Files.writeString(brokenFile, broken);
+
+        assertEquals(2, parser.parse(new FileDataSource(nulls.toString())).size());
+        try (Stream<Article> articles = parser.stream(new FileDataSource(nulls.toString()))) {
+            assertEquals(2, articles.count());
+        }
+        verify(mockLogger, times(2)).warning(contains("skipped 1 of 3"));
+        assertAll(
+                () -> assertThrows(ParserException.class,
+                        () -> parser.parse(new FileDataSource(brokenFile.toString()))),
+                () -> assertThrows(ParserException.class, () -> parser.parse(() -> broken)),
+                () -> {
+                    try (Stream<Article> articles = parser.stream(() -> broken)) {
+                        assertThrows(UncheckedIOException.class, articles::toList);
+                    }
+                }
+        );
+    }
+
+    /**
+     * Tests that the chunk size must be positive.
+     */
+    @Test
+    @DisplayName("Rejects a non-positive chunk size")
+    void testInvalidChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> newParser(0));
+    }
+}
@@ -0,0 +1,301 @@
+package org.article.parser;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.article.core.Article;
+import org.article.core.DataSource;
+import org.article.io.FileDataSource;
+import org.article.util.ArticleLogger;
+import org.article.util.RequiredFieldsValidator;
+import org.article.util.ValidationDiagnostics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for NewsApiParser.
+ * Verifies streaming parsing of the NewsAPI envelope.
+ */
+@DisplayName("NewsApiParser Tests")
+class NewsApiParserTest {
+    private static final String VALID_ARTICLE = """
+            {
+                "title": "Test Title",
+                "description": "Test Description",
+                "publishedAt": "2024-01-01",
+                "url": "https://test.com",
+                "source": { "id": "test-source", "name": "Test Source" }
+            }
+            """;
+    private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new ArticleModule());
+
+    @TempDir
+    Path tempDir;
+    @Mock private ArticleLogger mockLogger;
+    private NewsApiParser parser;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        parser = new NewsApiParser(MAPPER, new RequiredFieldsValidator(), mockLogger) {
+            @Override
+            public DataSource getDataSource() {
+                return null;
+            }
+        };
+    }
+
+    /**
+     * Tests that streaming yields the same articles as a full parse.
+     */
+    @Test
+    @DisplayName("Stream yields the same valid articles as parse")
+    void testStreamMatchesParse() throws Exception {
+        String json = "{\"status\": \"ok\", \"totalResults\": 3, \"articles\": ["
+                + VALID_ARTICLE + ", {\"title\": \"Missing fields\"}, null, " + VALID_ARTICLE + "]}";
+        DataSource source = () -> json;
+
+        List<Article> parsed = parser.parse(source);
+        List<Article> streamed;
+        try (Stream<Article> articles = parser.stream(source)) {
+            streamed = articles.toList();
+        }
+
+        assertAll(
+                () -> assertEquals(2, parsed.size()),
+                () -> assertEquals(parsed.size(), streamed.size()),
+                () -> assertEquals("Test Title", streamed.getFirst().getTitle()),
+                () -> assertEquals("Test Source", streamed.getFirst().getSource().getName())
+        );
+    }
+
+    /**
+     * Tests that null elements count as rejected articles when streaming, as they do in a full parse.
+     */
+    @Test
+    @DisplayName("Stream counts null articles like parse")
+    void testStreamCountsNulls() throws Exception {
+        String json = "{\"articles\": [" + VALID_ARTICLE + ", null, " + VALID_ARTICLE + "]}";
+
+        parser.parse(() -> json);
+        try (Stream<Article> articles = parser.stream(() -> json)) {
+            assertEquals(2, articles.count());
+        }
+
+        verify(mockLogger, times(2)).warning(
+                startsWith("NewsAPI: skipped 1 of 3 articles; by reason {null article=1}"));
+    }
+
+    /**
+     * Tests that a dirty feed produces one sampled entry and one summary instead of one warning per article.
+     */
+    @Test
+    @DisplayName("Logs one summary line per parse instead of one warning per article")
+    void testRejectionSummary() throws Exception {
+        String json = "{\"articles\": [" + VALID_ARTICLE + ", {\"title\": \"No description\"}".repeat(50) + "]}";
+
+        try (Stream<Article> articles = parser.stream(() -> json)) {
+            assertEquals(1, articles.count());
+        }
+
+        verify(mockLogger).warning(startsWith("Skipping article from source unknown: missing description"));
+        verify(mockLogger).warning(startsWith("NewsAPI: skipped 50 of 51 articles"));
+        verify(mockLogger, times(2)).warning(anyString());
+    }
+
+    /**
+     * Tests that articles from the same outlet share one Source instance.
+     */
+    @Test
+    @DisplayName("Shares Source instances between articles")
+    void testSharedSources() throws Exception {
+        String json = "{\"articles\": [" + VALID_ARTICLE + ", " + VALID_ARTICLE + "]}";
+
+        List<Article> parsed = parser.parse(() -> json);
+        List<Article> streamed;
+        try (Stream<Article> articles = parser.stream(() -> json)) {
+            streamed = articles.toList();
+        }
+
+        assertAll(
+                () -> assertSame(parsed.get(0).getSource(), parsed.get(1).getSource()),
+                () -> assertSame(parsed.get(0).getSource(), streamed.get(1).getSource())
+        );
+    }
+
+    /**
+     * Tests that fields after the articles array are never required.
+     */
+    @Test
+    @DisplayName("Stream finds articles regardless of envelope field order")
+    void testArticlesBeforeOtherFields() throws Exception {
+        String json = "{\"articles\": [" + VALID_ARTICLE + "], \"extra\": {\"nested\": [1, 2]}, \"status\": \"ok\"}";
+        try (Stream<Article> articles = parser.stream(() -> json)) {
+            assertEquals(1, articles.count());
+        }
+    }
+
+    /**
+     * Tests that a response without articles yields nothing.
+     */
+    @Test
+    @DisplayName("Stream is empty when articles are missing")
+    void testMissingArticles() throws Exception {
+        try (Stream<Article> articles = parser.stream(() -> "{\"status\": \"ok\", \"totalResults\": 0}")) {
+            assertEquals(0, articles.count());
+        }
+        verify(mockLogger).error(anyString(), any(Exception.class));
+    }
+
+    /**
+     * Tests error handling for input that is not a NewsAPI response.
+     */
+    @Test
+    @DisplayName("Stream rejects empty input")
+    void testEmptyInput() {
+        assertThrows(ParserException.class, () -> parser.stream(() -> ""));
+    }
+
+    /**
+     * Tests that malformed articles surface while the stream is consumed.
+     */
+    @Test
+    @DisplayName("Stream reports truncated input lazily")
+    void testTruncatedInput() throws Exception {
+        String json = "{\"articles\": [" + VALID_ARTICLE + ", {\"title\": ";
+        try (Stream<Article> articles = parser.stream(() -> json)) {
+            assertThrows(UncheckedIOException.class, articles::toList);
+        }
+    }
+
+    /**
+     * Tests that a non-object element fails every parse path alike instead of being skipped.
+     */
+    @Test
+    @DisplayName("Rejects non-object elements on every path")
+    void testNonObjectElement() throws Exception {
+        String json = "{\"articles\": [" + VALID_ARTICLE + ", 1, [" + VALID_ARTICLE + "]]}";
+        Path file = tempDir.resolve("non-object.json");
+        Files.writeString(file, json);
+
+        assertAll(
+                () -> assertThrows(ParserException.class,
+                        () -> newParser(Long.MAX_VALUE, 64).parse(new FileDataSource(file.toString()))),
+                () -> assertThrows(ParserException.class,
+                        () -> newParser(0, 64).parse(new FileDataSource(file.toString()))),
+                () -> {
+                    try (Stream<Article> articles = parser.stream(() -> json)) {
+                        assertThrows(UncheckedIOException.class, articles::toList);
+                    }
+                }
+        );
+    }
+
+    /**
+     * Tests that slicing a large file respects strings, escapes and nesting and keeps file order.
+     */
+    @Test
+    @DisplayName("Parses a file in parallel slices like a single pass")
+    void testParallelMatchesSequential() throws Exception {
+        String tricky = "{\"source\": {\"id\": null, \"name\": \"Src, [x]\"}, \"author\": \"A \\\"q\\\" \\\\\", "
+                + "\"title\": \"T%d ]},[{\", \"description\": \"d\\\\\", \"url\": \"https://test.com/%d\", "
+                + "\"publishedAt\": \"2024-01-01\"}";
+        StringBuilder json = new StringBuilder("{\"status\": \"ok\", \"meta\": {\"articles\": [1]}, \"articles\": [\n");
+        for (int i = 0; i < 100; i++) {
+            json.append(i > 0 ? ",\n" : "").append(tricky.formatted(i, i));
+            if (i % 10 == 2) {
+                json.append(", null, {\"title\": \"No description\"}");
+            }
+        }
+        Path file = tempDir.resolve("newsapi.json");
+        Files.writeString(file, json.append("\n], \"trailer\": \"]\"}").toString());
+
+        List<Article> parallel = newParser(0, 64).parse(new FileDataSource(file.toString()));
+        List<Article> sequential = newParser(Long.MAX_VALUE, 64).parse(new FileDataSource(file.toString()));
+
+        assertAll(
+                () -> assertEquals(100, parallel.size()),
+                () -> assertEquals(sequential.stream().map(Article::getTitle).toList(),
+                        parallel.stream().map(Article::getTitle).toList()),
+                () -> assertEquals("A \"q\" \\", parallel.get(7).getAuthor()),
+                () -> assertSame(parallel.get(0).getSource(), parallel.get(99).getSource())
+        );
+        verify(mockLogger, times(2)).warning(startsWith("NewsAPI: skipped 20 of 120 articles"));
+    }
+
+    /**
+     * Tests that streaming a large file reads it lazily instead of through the parallel slices.
+     */
+    @Test
+    @DisplayName("Streams a large file sequentially")
+    void testParallelThresholdStream() throws Exception {
+        Path file = tempDir.resolve("stream.json");
+        Files.writeString(file, "{\"articles\": [" + VALID_ARTICLE + ", null, " + VALID_ARTICLE + ", {\"title\": 1x}]}");
+        NewsApiParser parallel = newParser(0, 64);
+
+        try (Stream<Article> articles = parallel.stream(new FileDataSource(file.toString()))) {
+            Iterator<Article> iterator = articles.iterator();
+            assertNotNull(iterator.next());
+            assertNotNull(iterator.next());
+            assertThrows(UncheckedIOException.class, iterator::hasNext);
+        }
+        assertThrows(ParserException.class, () -> parallel.parse(new FileDataSource(file.toString())));
+    }
+
+    /**
+     * Tests that a malformed article in a slice is reported at its position in the file.
+     */
+    @Test
+    @DisplayName("Parallel parse reports the file offset of a malformed article")
+    void testParallelErrorOffset() throws Exception {
+        String json = "{\"articles\": [" + VALID_ARTICLE + ", {\"title\": 1x}]}";
+        Path file = tempDir.resolve("malformed.json");
+        Files.writeString(file, json);
+        JsonProcessingException sequential = assertThrows(JsonProcessingException.class,
+                () -> new ObjectMapper().readTree(json.getBytes(StandardCharsets.UTF_8)));
+
+        ParserException e = assertThrows(ParserException.class,
+                () -> newParser(0, 64).parse(new FileDataSource(file.toString())));
+
+        assertEquals("Malformed article near byte " + sequential.getLocation().getByteOffset(),
+                e.getCause().getMessage());
+    }
+
+    /**
+     * Tests that an unterminated articles array fails a parallel parse.
+     */
+    @Test
+    @DisplayName("Parallel parse rejects a truncated file")
+    void testParallelTruncatedFile() throws Exception {
+        Path file = tempDir.resolve("truncated.json");
+        Files.writeString(file, "{\"articles\": [" + VALID_ARTICLE + ", " + VALID_ARTICLE);
+
+        assertThrows(ParserException.class, () -> newParser(0, 64).parse(new FileDataSource(file.toString())));
+        verify(mockLogger).error(anyString(), any(Exception.class));
+    }
+
+    private NewsApiParser newParser(long parallelThreshold, int sliceSize) {
+        return new NewsApiParser(MAPPER, new RequiredFieldsValidator(), mockLogger,
+                ValidationDiagnostics.DEFAULT_SAMPLE_INTERVAL, new ForkJoinPool(4), parallelThreshold, sliceSize) {
+            @Override
+            public DataSource getDataSource() {
+                return null;
+            }
+        };
+    }
+}
@@ -0,0 +1,127 @@
+package org.article.parser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.article.core.Article;
+import org.article.core.DataSource;
+import org.article.util.ArticleLogger;
+import org.article.util.RequiredFieldsValidator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test suite for PaginatedNewsApiParser.
+ * Verifies page planning from totalResults, ordering and bounded concurrency.
+ */
+@DisplayName("PaginatedNewsApiParser Tests")
+class PaginatedNewsApiParserTest {
+    private static final String BASE_URL = "https://newsapi.org/v2/everything?q=test&pageSize=2";
+
+    private static String page(int totalResults, String... titles) {
+        String articles = List.of(titles).stream()
+                .map(title -> String.format("""
+                        {"title": "%s", "description": "d", "publishedAt": "2024-01-01",
+                         "url": "https://test.com", "source": {"id": null, "name": "Test"}}""", title))
+                .collect(Collectors.joining(","));
+        return String.format("{\"status\": \"ok\", \"totalResults\": %d, \"articles\": [%s]}",
+                totalResults, articles);
+    }
+
+    private static PaginatedNewsApiParser parser(Function<String, DataSource> sources, int maxInFlight) {
+        return new PaginatedNewsApiParser(new ObjectMapper(), new RequiredFieldsValidator(),
+                mock(ArticleLogger.class), BASE_URL, sources, maxInFlight) {
+            @Override
+            public DataSource getDataSource() {
+                return sources.apply(BASE_URL);
+            }
+        };
+    }
+
+    /**
+     * Tests that every page is fetched and articles come back in page order.
+     */
+    @Test
+    @DisplayName("Fetches all pages in order")
+    void testAllPagesInOrder() throws Exception {
+        Map<String, String> pages = Map.of(
+                BASE_URL, page(5, "a", "b"),
+                "https://newsapi.org/v2/everything?q=test&pageSize=2&page=2", page(5, "c", "d"),
+                "https://newsapi.org/v2/everything?q=test&pageSize=2&page=3", page(5, "e"));
+        PaginatedNewsApiParser parser = parser(url -> () -> pages.get(url), 2);
+
+        List<Article> articles = parser.parse(parser.getDataSource());
+
+        assertEquals(List.of("a", "b", "c", "d", "e"), articles.stream().map(Article::getTitle).toList());
+    }
+
+    /**
+     * Tests that no more than the configured number of pages is fetched at once.
+     */
+    @Test
+    @DisplayName("Bounds the number of pages in flight")
+    void testBoundedInFlight() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxObserved = new AtomicInteger();
+        Map<String, Integer> requests = new ConcurrentHashMap<>();
+        PaginatedNewsApiParser parser = parser(url -> () -> {
+            requests.merge(url, 1, Integer::sum);
+            int current = inFlight.incrementAndGet();
+            maxObserved.accumulateAndGet(current, Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+            return page(20, "x", "y");
+        }, 3);
+
+        List<Article> articles = parser.parse(parser.getDataSource());
+
+        assertAll(
+                () -> assertEquals(20, articles.size()),
+                () -> assertEquals(10, requests.size()),
+                () -> assertTrue(maxObserved.get() <= 3, "At most three pages should be fetched at once")
+        );
+    }
+
+    /**
+     * Tests that a failing page surfaces as a parser exception.
+     */
+    @Test
+    @DisplayName("Reports failing pages")
+    void testFailingPage() {
+        PaginatedNewsApiParser parser = parser(url -> () -> {
+            if (url.endsWith("page=2")) {
+                throw new IOException("boom");
+            }
+            return page(4, "a", "b");
+        }, 2);
+
+        assertThrows(ParserException.class, () -> parser.parse(parser.getDataSource()));
+    }
+
+    /**
+     * Tests the query parameter helpers.
+     */
+    @Test
+    @DisplayName("Reads and replaces query parameters")
+    void testQueryParams() {
+        assertAll(
+                () -> assertEquals(2, PaginatedNewsApiParser.queryParam(BASE_URL, "pageSize", 20)),
+                () -> assertEquals(1, PaginatedNewsApiParser.queryParam(BASE_URL, "page", 1)),
+                () -> assertEquals("https://x.org/a?q=1&page=3",
+                        PaginatedNewsApiParser.withQueryParam("https://x.org/a?page=2&q=1", "page", 3)),
+                () -> assertEquals("https://x.org/a?page=2",
+                        PaginatedNewsApiParser.withQueryParam("https://x.org/a", "page", 2))
+        );
+    }
+}
@@ -0,0 +1,101 @@
+package org.article.parser;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for StructuralScanner.
+ * Verifies the block-wise classification against a byte-at-a-time reference.
+ */
+@DisplayName("StructuralScanner Tests")
+class StructuralScannerTest {
+
+    private static List<Integer> positions(String json) {
+        byte[] data = json.getBytes(StandardCharsets.UTF_8);
+        long[] bitmap = StructuralScanner.index(data, 0, data.length);
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < data.length; i++) {
+            if ((bitmap[i / 64] & (1L << i)) != 0) {
+                positions.add(i);
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Reference classification: quotes that are not escaped, and operators outside strings.
+     */
+    private static List<Integer> referencePositions(byte[] data) {
+        List<Integer> positions = new ArrayList<>();
+        boolean inString = false;
+        boolean escaped = false;
+        for (int i = 0; i < data.length; i++) {
+            byte b = data[i];
+            boolean wasEscaped = escaped;
+            escaped = !wasEscaped && b == '\\';
+            if (b == '"' && !wasEscaped) {
+                inString = !inString;
+                positions.add(i);
+            } else if (!inString && "{}[]:,".indexOf(b) >= 0) {
+                positions.add(i);
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Tests that characters inside strings are ignored, including escaped quotes.
+     */
+    @Test
+    @DisplayName("Reports operators outside strings and unescaped quotes")
+    void testSmallDocument() {
+        String json = "{\"a\": [1, \"x,]\\\"}\"], \"b\\\\\": {}}";
+
+        assertEquals(referencePositions(json.getBytes(StandardCharsets.UTF_8)), positions(json));
+        assertEquals(List.of(0, 1, 3, 4, 6, 8, 10, 17, 18, 19, 21, 25, 26, 28, 29, 30), positions(json));
+    }
+
+    /**
+     * Tests that string and escape state carry over block boundaries.
+     */
+    @Test
+    @DisplayName("Carries strings and backslash runs across blocks")
+    void testBlockBoundaries() {
+        for (int run = 1; run <= 4; run++) {
+            String json = "[\"" + "x".repeat(60) + "\\".repeat(run) + "\", {\"k\": [\"" + "y".repeat(70) + "\"]}]";
+
+            assertEquals(referencePositions(json.getBytes(StandardCharsets.UTF_8)), positions(json),
+                    "backslash run of " + run);
+        }
+    }
+
+    /**
+     * Tests random input, including non-ASCII bytes, against the reference.
+     */
+    @Test
+    @DisplayName("Matches the reference on random input")
+    void testRandomInput() {
+        Random random = new Random(42);
+        byte[] alphabet = "{}[]:,\"\\\\ abé".getBytes(StandardCharsets.UTF_8);
+        for (int iteration = 0; iteration < 1000; iteration++) {
+            byte[] data = new byte[1 + random.nextInt(300)];
+            for (int i = 0; i < data.length; i++) {
+                data[i] = alphabet[random.nextInt(alphabet.length)];
+            }
+            long[] bitmap = StructuralScanner.index(data, 0, data.length);
+            List<Integer> positions = new ArrayList<>();
+            for (int i = 0; i < data.length; i++) {
+                if ((bitmap[i / 64] & (1L << i)) != 0) {
+                    positions.add(i);
+                }
+            }
+
+            assertEquals(referencePositions(data), positions);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package org.article.search;
+
+import org.article.core.Article;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the in-memory article index.
+ * Verifies tokenization, posting list encoding, query parsing and evaluation, ranking and concurrent use.
+ */
+@DisplayName("ArticleIndex Tests")
+class ArticleIndexTest {
+    private ArticleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ArticleIndex();
+        index.add(article("Stock market rallies", "Markets rose on Monday.", "The stock market closed higher as stock prices rose."));
+        index.add(article("Climate summit opens", "Leaders meet on climate policy.", null));
+        index.add(article("Market for stock photos", "Photo agencies merge.", "Stock images are cheap."));
+        index.add(article("Inflation cools", null, "Prices in the market stock rose less."));
+    }
+
+    /**
+     * Tests for the building blocks of the index.
+     */
+    @Nested
+    @DisplayName("Encoding Tests")
+    class EncodingTests {
+        @Test
+        @DisplayName("Tokenizes on non-alphanumeric characters and lower-cases terms")
+        void testTokenize() {
+            assertAll(
+                    () -> assertEquals(List.of("covid", "19", "cases", "rise", "in", "zürich"),
+                            Tokenizer.tokenize("COVID-19 cases rise in Zürich!")),
+                    () -> assertEquals(List.of(), Tokenizer.tokenize(" -- ")),
+                    () -> assertEquals(List.of(), Tokenizer.tokenize(null))
+            );
+        }
+
+        @Test
+        @DisplayName("Round-trips ids, frequencies and positions through the compressed posting list")
+        void testPostingList() {
+            PostingList list = new PostingList();
+            list.add(3, new int[]{0, 7}, 2);
+            list.add(200, new int[]{5}, 1);
+            list.add(100_000, new int[]{1, 2, 300}, 3);
+
+            PostingList.Cursor cursor = list.cursor();
+            assertTrue(cursor.next());
+            assertEquals(3, cursor.id());
+            assertEquals(2, cursor.frequency());
+            assertTrue(cursor.advance(100_000), "Skips the positions it did not decode");
+            assertArrayEquals(new int[]{1, 2, 300}, cursor.positions());
+            assertFalse(cursor.next());
+            assertEquals(3, list.documentCount());
+            assertTrue(list.sizeInBytes() < 20, "Size: " + list.sizeInBytes());
+        }
+    }
+
+    /**
+     * Tests for query evaluation and ranking.
+     */
+    @Nested
+    @DisplayName("Query Tests")
+    class QueryTests {
+        @Test
+        @DisplayName("Matches every term for AND and any term for OR")
+        void testBooleanQueries() {
+            assertAll(
+                    () -> assertEquals(List.of(0, 2, 3), sorted(index.search("stock market", 10))),
+                    () -> assertEquals(List.of(1, 3), sorted(index.search("climate OR inflation", 10))),
+                    () -> assertEquals(List.of(1), sorted(index.search(Query.and(Query.term("Climate"),
+                            Query.term("policy")), 10))),
+                    () -> assertEquals(0, index.search("bitcoin", 10).length)
+            );
+        }
+
+        @Test
+        @DisplayName("Matches phrases only at consecutive positions within one field")
+        void testPhraseQueries() {
+            index.add(article("Buy stock", "market news", null));
+
+            assertAll(
+                    () -> assertEquals(List.of(0), sorted(index.search("\"stock market\"", 10))),
+                    () -> assertEquals(List.of(2, 3), sorted(index.search("\"market stock\" OR \"for stock\"", 10))),
+                    () -> assertEquals(List.of(0), sorted(index.search(Query.term("stock-market"), 10)))
+            );
+        }
+
+        @Test
+        @DisplayName("Ranks articles with more occurrences first and honors the limit")
+        void testRanking() {
+            int[] ids = index.search("stock", 2);
+
+            assertArrayEquals(new int[]{0, 2}, ids);
+            assertEquals("Stock market rallies", index.get(ids[0]).getTitle());
+        }
+
+        @Test
+        @DisplayName("Rejects queries without terms and unterminated phrases")
+        void testInvalidQueries() {
+            assertAll(
+                    () -> assertThrows(IllegalArgumentException.class, () -> Query.parse("  OR  ")),
+                    () -> assertThrows(IllegalArgumentException.class, () -> Query.parse("\"stock market")),
+                    () -> assertEquals("(\"stock market\" OR climate)", Query.parse("\"Stock market\" OR climate").toString())
+            );
+        }
+    }
+
+    /**
+     * Tests that searches run safely while articles are added.
+     */
+    @Test
+    @DisplayName("Serves concurrent searches while indexing")
+    void testConcurrentReaders() throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            Future<?> writer = executor.submit(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    index.add(article("Story " + i, "breaking news", "More news about story " + i));
+                }
+            });
+            Future<?> reader = executor.submit(() -> {
+                int previous = 0;
+                while (!writer.isDone()) {
+                    int found = index.search("breaking news", Integer.MAX_VALUE).length;
+                    assertTrue(found >= previous, "Results never shrink");
+                    previous = found;
+                }
+            });
+            writer.get();
+            reader.get();
+        }
+        assertEquals(20_000, index.search("\"breaking news\"", Integer.MAX_VALUE).length);
+        assertArrayEquals(new int[]{12_349}, index.search("\"story 12345\"", 10));
+    }
+
+    private static List<Integer> sorted(int[] ids) {
+        return Arrays.stream(ids).sorted().boxed().toList();
+    }
+
+    private static Article article(String title, String description, String content) {
+        return new Article(title, description, "2024-01-01", "https://test.com", null, content, null, null);
+    }
+}
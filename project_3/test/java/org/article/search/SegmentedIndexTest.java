@@ -0,0 +1,166 @@
+package org.article.search;
+
+import org.article.core.Article;
+import org.article.core.Source;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the persistent, segmented article index.
+ * Verifies that segments survive a restart, rank like the in-memory index and merge without changing ids.
+ */
+@DisplayName("SegmentedIndex Tests")
+class SegmentedIndexTest {
+    private static final String[] QUERIES = {"stock", "stock market", "climate OR inflation", "\"market 7\"", "story"};
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that a reopened index returns the stored articles and the same ranking as an in-memory index.
+     */
+    @Test
+    @DisplayName("Restores articles and rankings after a restart")
+    void testRestart() throws IOException {
+        ArticleIndex expected = new ArticleIndex();
+        try (SegmentedIndex index = new SegmentedIndex(tempDir)) {
+            for (int i = 0; i < 300; i++) {
+                Article article = article(i);
+                assertEquals(expected.add(article), index.add(article));
+                if (i % 100 == 99) {
+                    index.flush();
+                }
+            }
+        }
+
+        try (SegmentedIndex index = new SegmentedIndex(tempDir)) {
+            Article stored = index.get(42);
+            assertAll(
+                    () -> assertEquals(300, index.size()),
+                    () -> assertEquals(3, index.segmentCount()),
+                    () -> assertEquals("Story 42 about the stock market", stored.getTitle()),
+                    () -> assertNull(stored.getDescription()),
+                    () -> assertEquals("Zürich Times", stored.getSource().getName()),
+                    () -> assertNull(index.get(43).getSource())
+            );
+            for (String query : QUERIES) {
+                assertArrayEquals(expected.search(query, 10), index.search(query, 10), query);
+            }
+        }
+    }
+
+    /**
+     * Tests that background merges keep ids and results while reducing the number of segments.
+     */
+    @Test
+    @DisplayName("Merges similar-sized segments without changing ids")
+    void testMerge() throws IOException {
+        ArticleIndex expected = new ArticleIndex();
+        try (SegmentedIndex index = new SegmentedIndex(tempDir, 2)) {
+            for (int i = 0; i < 400; i++) {
+                Article article = article(i);
+                expected.add(article);
+                index.add(article);
+                if (i % 50 == 49) {
+                    index.flush();
+                }
+            }
+        }
+
+        try (SegmentedIndex index = new SegmentedIndex(tempDir, 2);
+             Stream<Path> files = Files.list(tempDir)) {
+            assertTrue(index.segmentCount() < 8, "Segments: " + index.segmentCount());
+            assertEquals(index.segmentCount() + 1, files.count(), "Only live segments and the manifest remain");
+            assertEquals("Story 399 about the stock market", index.get(399).getTitle());
+            for (String query : QUERIES) {
+                assertArrayEquals(expected.search(query, 10), index.search(query, 10), query);
+            }
+        }
+    }
+
+    /**
+     * Tests that flushes of widely varying sizes still leave only logarithmically many segments.
+     */
+    @Test
+    @DisplayName("Bounds the segment count for varied flush sizes")
+    void testMergeVariedFlushes() throws IOException {
+        Random random = new Random(42);
+        int total = 0;
+        try (SegmentedIndex index = new SegmentedIndex(tempDir)) {
+            for (int flush = 0; flush < 400; flush++) {
+                int count = (int) Math.exp(random.nextDouble() * Math.log(1000)) + 1;
+                for (int i = 0; i < count; i++) {
+                    index.add(article(total++));
+                }
+                index.flush();
+            }
+        }
+
+        int articles = total;
+        int factor = SegmentedIndex.DEFAULT_MERGE_FACTOR;
+        int levels = (int) (Math.log(articles) / Math.log(factor))
+                - (int) (Math.log(SegmentedIndex.FLOOR_SEGMENT_SIZE) / Math.log(factor)) + 1;
+        try (SegmentedIndex index = new SegmentedIndex(tempDir)) {
+            assertAll(
+                    () -> assertTrue(index.segmentCount() <= (factor - 1) * levels,
+                            "Segments: " + index.segmentCount() + " for " + articles + " articles"),
+                    () -> assertEquals(articles, index.size()),
+                    () -> assertEquals("Story " + (articles - 1) + " about the stock market",
+                            index.get(articles - 1).getTitle())
+            );
+        }
+    }
+
+    /**
+     * Tests that unfinished segment files are not mistaken for segments.
+     */
+    @Test
+    @DisplayName("Deletes segment files missing from the manifest")
+    void testLeftoverFiles() throws IOException {
+        Files.writeString(tempDir.resolve("segment_7.seg"), "partial");
+        try (SegmentedIndex index = new SegmentedIndex(tempDir)) {
+            index.add(article(0));
+        }
+
+        assertFalse(Files.exists(tempDir.resolve("segment_7.seg")));
+        try (SegmentedIndex index = new SegmentedIndex(tempDir)) {
+            assertArrayEquals(new int[]{0}, index.search("stock", 10));
+        }
+    }
+
+    /**
+     * Tests that a read-only open neither creates nor cleans up the directory.
+     */
+    @Test
+    @DisplayName("Opens read-only without touching the directory")
+    void testReadOnly() throws IOException {
+        Path missing = tempDir.resolve("typo");
+        assertThrows(NoSuchFileException.class, () -> SegmentedIndex.openReadOnly(missing));
+        assertFalse(Files.exists(missing));
+
+        try (SegmentedIndex index = new SegmentedIndex(tempDir)) {
+            index.add(article(0));
+        }
+        Files.writeString(tempDir.resolve("segment_7.seg"), "partial");
+        try (SegmentedIndex index = SegmentedIndex.openReadOnly(tempDir)) {
+            assertArrayEquals(new int[]{0}, index.search("stock", 10));
+            assertThrows(IllegalStateException.class, () -> index.add(article(1)));
+        }
+        assertTrue(Files.exists(tempDir.resolve("segment_7.seg")));
+    }
+
+    private static Article article(int i) {
+        return new Article("Story " + i + " about the stock market",
+                i % 3 == 0 ? null : (i % 2 == 0 ? "Climate" : "Inflation") + " market " + (i % 10),
+                "2024-01-01", "https://test.com/" + i, null, "Content " + i,
+                i % 2 == 0 ? new Source("times", "Zürich Times") : null, null);
+    }
+}
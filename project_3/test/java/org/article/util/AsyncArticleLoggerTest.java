@@ -0,0 +1,164 @@
+package org.article.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for AsyncArticleLogger and its ring buffer.
+ * Verifies that records are drained on close, that overflow policies account
+ * for every message, and that the buffer rejects offers once full.
+ */
+@DisplayName("AsyncArticleLogger Tests")
+class AsyncArticleLoggerTest {
+    private static final int THREADS = 4;
+    private static final int MESSAGES_PER_THREAD = 2000;
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that warnings and errors are written in the FileArticleLogger layout once closed.
+     */
+    @Test
+    @DisplayName("Writes warnings and errors on close")
+    void testWritesOnClose() throws LoggingException, IOException {
+        Path logFile = tempDir.resolve("async.log");
+        try (AsyncArticleLogger logger = AsyncArticleLogger.open(logFile.toString())) {
+            logger.warning("Test warning message");
+            logger.error("Test error message", new RuntimeException("Test exception",
+                    new IllegalArgumentException("Root cause")));
+        }
+        List<String> logLines = Files.readAllLines(logFile);
+        assertAll(
+                () -> assertTrue(logLines.contains("WARNING: Test warning message")),
+                () -> assertTrue(logLines.contains("SEVERE: Test error message: Test exception")),
+                () -> assertTrue(logLines.contains("SEVERE: Caused by: Root cause"))
+        );
+    }
+
+    /**
+     * Tests that the blocking policy keeps every message from concurrent producers.
+     */
+    @Test
+    @DisplayName("Blocking policy loses no messages")
+    void testBlockingPolicy() throws Exception {
+        Path logFile = tempDir.resolve("block.log");
+        AsyncArticleLogger logger = AsyncArticleLogger.open(logFile.toString(), 8, OverflowPolicy.BLOCK);
+        logConcurrently(logger);
+        logger.close();
+
+        assertEquals(0, logger.getDroppedCount());
+        assertEquals(THREADS * MESSAGES_PER_THREAD, countMessages(logFile));
+    }
+
+    /**
+     * Tests that every message is either written or counted as dropped, and that drops are reported.
+     */
+    @Test
+    @DisplayName("Counting policy accounts for dropped messages")
+    void testCountDroppedPolicy() throws Exception {
+        Path logFile = tempDir.resolve("count.log");
+        AsyncArticleLogger logger = AsyncArticleLogger.open(logFile.toString(), 2, OverflowPolicy.COUNT_DROPPED);
+        logConcurrently(logger);
+        logger.close();
+
+        long dropped = logger.getDroppedCount();
+        assertEquals(THREADS * MESSAGES_PER_THREAD, countMessages(logFile) + dropped);
+        assertEquals(dropped > 0, Files.readAllLines(logFile).stream()
+                .anyMatch(line -> line.contains("messages dropped")));
+    }
+
+    /**
+     * Tests that messages logged after closing are ignored.
+     */
+    @Test
+    @DisplayName("Ignores messages after close")
+    void testLogAfterClose() throws LoggingException, IOException {
+        Path logFile = tempDir.resolve("closed.log");
+        AsyncArticleLogger logger = AsyncArticleLogger.open(logFile.toString());
+        logger.close();
+        assertDoesNotThrow(() -> logger.warning("late"));
+        logger.close();
+        assertEquals(0, Files.size(logFile));
+    }
+
+    /**
+     * Tests that blocked producers fall back to dropping once the writer thread has died.
+     */
+    @Test
+    @DisplayName("Drops messages instead of blocking after the writer fails")
+    void testWriterFailure() {
+        Writer failing = new Writer() {
+            @Override
+            public void write(char[] chars, int offset, int length) {
+                throw new IllegalStateException("disk gone");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        AsyncArticleLogger logger = AsyncArticleLogger.open(failing, 2, OverflowPolicy.BLOCK);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            for (int i = 0; i < 100; i++) {
+                logger.warning("message " + i);
+            }
+            logger.close();
+        });
+        assertTrue(logger.getDroppedCount() > 0);
+    }
+
+    /**
+     * Tests that the ring buffer is bounded and returns elements in order.
+     */
+    @Test
+    @DisplayName("Ring buffer rejects offers when full")
+    void testRingBuffer() {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(3);
+        assertEquals(4, buffer.capacity());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(2, buffer.drainTo(drained, 2));
+        assertTrue(buffer.offer(4));
+        assertEquals(3, buffer.drainTo(drained, 10));
+        assertEquals(List.of(0, 1, 2, 3, 4), drained);
+        assertThrows(IllegalArgumentException.class, () -> new LogRingBuffer<>(0));
+    }
+
+    private static void logConcurrently(ArticleLogger logger) throws InterruptedException {
+        List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int id = t;
+            producers.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < MESSAGES_PER_THREAD; i++) {
+                    logger.warning("message " + id + "-" + i);
+                }
+            }));
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+    }
+
+    private static long countMessages(Path logFile) throws IOException {
+        return Files.readAllLines(logFile).stream().filter(line -> line.startsWith("WARNING: message ")).count();
+    }
+}
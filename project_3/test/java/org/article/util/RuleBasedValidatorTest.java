@@ -0,0 +1,133 @@
+package org.article.util;
+
+import org.article.core.Article;
+import org.article.core.ArticleField;
+import org.article.core.Source;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.EnumSet;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for RuleBasedValidator.
+ * Verifies rule parsing, each rule kind, equivalence of the default rules with
+ * RequiredFieldsValidator, and selectivity-based reordering.
+ */
+@DisplayName("RuleBasedValidator Tests")
+class RuleBasedValidatorTest {
+    private final Source validSource = new Source("test-id", "Test Source");
+
+    /**
+     * Tests each rule kind against matching and failing articles.
+     */
+    @Test
+    @DisplayName("Applies required, length, url and date rules")
+    void testRuleKinds() {
+        RuleBasedValidator validator = RuleBasedValidator.parse(List.of(
+                "# rules",
+                "required title",
+                "length title 1 10",
+                "url url",
+                "date publishedAt",
+                "required source.name"));
+
+        assertAll(
+                () -> assertEquals(ValidationResult.VALID, validator.validate(
+                        article("Title", "2021-04-16 09:53:23.709229", "https://test.com/a", validSource))),
+                () -> assertEquals(ValidationResult.VALID, validator.validate(
+                        article("Title", "2021-03-24T22:32:00Z", "http://test.com", validSource))),
+                () -> assertEquals(ValidationResult.INVALID_URL, validator.validate(
+                        article("Title", "2021-03-24", "ftp://test.com", validSource))),
+                () -> assertEquals(ValidationResult.INVALID_DATE, validator.validate(
+                        article("Title", "24/03/2021", "https://test.com", validSource))),
+                () -> assertEquals(ValidationResult.FIELD_TOO_LONG, validator.validate(
+                        article("A much too long title", "2021-03-24", "https://test.com", validSource))),
+                () -> assertEquals(ValidationResult.MISSING_SOURCE, validator.validate(
+                        article("Title", "2021-03-24", "https://test.com", null))),
+                () -> assertEquals(ValidationResult.NULL_ARTICLE, validator.validate(null))
+        );
+    }
+
+    /**
+     * Tests that the default rules accept and reject exactly what RequiredFieldsValidator does.
+     */
+    @Test
+    @DisplayName("Default rules match RequiredFieldsValidator")
+    void testDefaultsMatchRequiredFields() {
+        RuleBasedValidator rules = RuleBasedValidator.defaults();
+        RequiredFieldsValidator required = new RequiredFieldsValidator();
+        String[] values = {null, "", " \t\n", "x", "  x  "};
+        for (String title : values) {
+            for (String url : values) {
+                for (String sourceName : values) {
+                    Source source = sourceName != null ? new Source(null, sourceName) : null;
+                    Article article = new Article(title, "desc", "2024-01-01", url, null, null, source, null);
+                    assertEquals(required.isValid(article), rules.isValid(article),
+                            () -> "Mismatch for title=" + title + ", url=" + url + ", source=" + sourceName);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that the checked fields are those named by the rules.
+     */
+    @Test
+    @DisplayName("Reports the fields its rules read")
+    void testCheckedFields() {
+        RuleBasedValidator validator = RuleBasedValidator.parse(List.of(
+                "required title", "length content 0 5000", "url url", "date publishedAt", "required title"));
+
+        assertEquals(EnumSet.of(ArticleField.TITLE, ArticleField.CONTENT, ArticleField.URL,
+                ArticleField.PUBLISHED_AT), validator.getCheckedFields());
+        assertEquals(new RequiredFieldsValidator().getCheckedFields(),
+                RuleBasedValidator.defaults().getCheckedFields());
+    }
+
+    /**
+     * Tests that the rule rejecting most often is moved to the front.
+     */
+    @Test
+    @DisplayName("Reorders rules by observed rejection rate")
+    void testReordering() {
+        RuleBasedValidator validator = RuleBasedValidator.parse(List.of(
+                "required title",
+                "required description",
+                "required source.name"));
+        Article missingSourceName = new Article("Title", "Desc", null, null, null, null, new Source(null, " "), null);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(ValidationResult.MISSING_SOURCE_NAME, validator.validate(missingSourceName));
+        }
+
+        validator.reorder();
+
+        assertEquals("required source.name", validator.getRuleOrder().getFirst());
+        assertEquals(3, validator.getRuleOrder().size());
+    }
+
+    /**
+     * Tests that malformed declarations are rejected with their line number.
+     */
+    @Test
+    @DisplayName("Rejects malformed rules")
+    void testMalformedRules() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> RuleBasedValidator.parse(List.of("required title", "length title 5 1")));
+        assertTrue(e.getMessage().contains("line 2"));
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> RuleBasedValidator.parse(List.of("unknown title"))),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> RuleBasedValidator.parse(List.of("required nope"))),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> RuleBasedValidator.parse(List.of("length title one 3"))),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> RuleBasedValidator.parse(List.of("url")))
+        );
+    }
+
+    private static Article article(String title, String publishedAt, String url, Source source) {
+        return new Article(title, "Description", publishedAt, url, null, null, source, null);
+    }
+}
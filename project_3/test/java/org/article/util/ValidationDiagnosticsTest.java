@@ -0,0 +1,95 @@
+package org.article.util;
+
+import org.article.core.Article;
+import org.article.core.Source;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for ValidationDiagnostics.
+ * Verifies reason codes, per-reason and per-source counts, sampling and the summary line.
+ */
+@DisplayName("ValidationDiagnostics Tests")
+class ValidationDiagnosticsTest {
+    @Mock private ArticleLogger mockLogger;
+    private final Source cnn = new Source("cnn", "CNN");
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    /**
+     * Tests that the validator names the first missing field.
+     */
+    @Test
+    @DisplayName("Validator returns the failing field")
+    void testReasonCodes() {
+        RequiredFieldsValidator validator = new RequiredFieldsValidator();
+        assertAll(
+                () -> assertEquals(ValidationResult.NULL_ARTICLE, validator.validate(null)),
+                () -> assertEquals(ValidationResult.MISSING_TITLE,
+                        validator.validate(new Article(" ", "d", "p", "u", null, null, cnn, null))),
+                () -> assertEquals(ValidationResult.MISSING_URL,
+                        validator.validate(new Article("t", "d", "p", null, null, null, cnn, null))),
+                () -> assertEquals(ValidationResult.MISSING_SOURCE_NAME,
+                        validator.validate(new Article("t", "d", "p", "u", null, null, new Source("x", ""), null))),
+                () -> assertEquals(ValidationResult.VALID,
+                        validator.validate(new Article("t", "d", "p", "u", null, null, cnn, null)))
+        );
+    }
+
+    /**
+     * Tests that rejections are counted per reason and source and only sampled entries are logged.
+     */
+    @Test
+    @DisplayName("Counts rejections and samples detailed entries")
+    void testCountsAndSampling() {
+        ValidationDiagnostics diagnostics = new ValidationDiagnostics(new RequiredFieldsValidator(), mockLogger, 3);
+        for (int i = 0; i < 7; i++) {
+            assertFalse(diagnostics.check(new Article("t", null, "p", "u", null, null, cnn, null)));
+        }
+        assertFalse(diagnostics.check(new Article("t", "d", "p", "u", null, null, null, null)));
+        assertTrue(diagnostics.check(new Article("t", "d", "p", "u", null, null, cnn, null)));
+
+        assertAll(
+                () -> assertEquals(9, diagnostics.getChecked()),
+                () -> assertEquals(8, diagnostics.getRejected()),
+                () -> assertEquals(Map.of(ValidationResult.MISSING_DESCRIPTION, 7L, ValidationResult.MISSING_SOURCE, 1L),
+                        diagnostics.getRejectedByReason()),
+                () -> assertEquals(Map.of("CNN", 7L, "unknown", 1L), diagnostics.getRejectedBySource())
+        );
+        verify(mockLogger, times(3)).warning(contains(": missing description ("));
+        verify(mockLogger, times(1)).warning(contains(": missing source ("));
+    }
+
+    /**
+     * Tests that the summary is logged once and only when something was rejected.
+     */
+    @Test
+    @DisplayName("Logs a single summary line")
+    void testSummary() {
+        ValidationDiagnostics clean = new ValidationDiagnostics(new RequiredFieldsValidator(), mockLogger, 0);
+        clean.check(new Article("t", "d", "p", "u", null, null, cnn, null));
+        clean.logSummary("Test");
+        verifyNoInteractions(mockLogger);
+
+        ValidationDiagnostics dirty = new ValidationDiagnostics(new RequiredFieldsValidator(), mockLogger, 0);
+        dirty.check(null);
+        dirty.logSummary("Test");
+        dirty.logSummary("Test");
+        verify(mockLogger).warning("Test: skipped 1 of 1 articles;"
+                + " by reason {null article=1}; by source {unknown=1}");
+        verify(mockLogger, times(1)).warning(anyString());
+        assertThrows(IllegalArgumentException.class,
+                () -> new ValidationDiagnostics(new RequiredFieldsValidator(), mockLogger, -1));
+    }
+}
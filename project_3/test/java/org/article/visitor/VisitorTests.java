@@ -7,12 +7,17 @@ import org.article.core.Parser;
 import org.article.core.Source;
 import org.article.io.FileDataSource;
 import org.article.io.URLDataSource;
+import org.article.parser.CachingParser;
+import org.article.parser.NdjsonParser;
 import org.article.parser.NewsApiParser;
 import org.article.parser.NewsApiResponse;
+import org.article.parser.PaginatedNewsApiParser;
+import org.article.parser.ParseCache;
 import org.article.parser.ParserException;
 import org.article.parser.SimpleParser;
 import org.article.util.ArticleLogger;
 import org.article.util.ArticleValidator;
+import org.article.util.ValidationResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -21,7 +26,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -162,6 +170,22 @@ class VisitorTests {
             );
         }
 
+        /**
+         * Tests creation of FileNdjsonParser.
+         */
+        @Test
+        @DisplayName("Creates FileNdjsonParser")
+        void testFileNdjsonParser() {
+            ParserConfiguration config = ParserConfigurationFactory.createConfiguration("file", "ndjson", "test.jsonl");
+            Parser parser = config.accept(visitor);
+
+            assertAll(
+                    () -> assertInstanceOf(FileNdjsonConfiguration.class, config),
+                    () -> assertInstanceOf(NdjsonParser.class, parser),
+                    () -> assertInstanceOf(FileDataSource.class, parser.getDataSource())
+            );
+        }
+
         /**
          * Tests creation of UrlNewsApiParser.
          */
@@ -176,6 +200,26 @@ class VisitorTests {
                     () -> assertInstanceOf(URLDataSource.class, parser.getDataSource())
             );
         }
+
+        /**
+         * Tests that a configured parse cache wraps file parsers but not paginated URL parsers.
+         */
+        @Test
+        @DisplayName("Wraps parsers in a cache when one is configured")
+        void testCachingParsers() {
+            ConcreteParserVisitor cachingVisitor = new ConcreteParserVisitor(mockMapper, mockValidator, mockLogger,
+                    null, 0, new ParseCache());
+            Parser fileParser = cachingVisitor.visitFileSimple(new FileSimpleConfiguration("test.json"));
+            Parser pagedParser = cachingVisitor.visitUrlNewsApi(
+                    new UrlNewsApiConfiguration("https://test.com/api", URLDataSource.DEFAULT_MAX_BODY_SIZE, 4));
+
+            assertAll(
+                    () -> assertInstanceOf(CachingParser.class, fileParser),
+                    () -> assertInstanceOf(SimpleParser.class, ((CachingParser) fileParser).getDelegate()),
+                    () -> assertInstanceOf(FileDataSource.class, fileParser.getDataSource()),
+                    () -> assertInstanceOf(PaginatedNewsApiParser.class, pagedParser)
+            );
+        }
     }
 
     /**
@@ -228,8 +272,9 @@ class VisitorTests {
                 }
             };
 
-            when(mockDataSource.getData()).thenReturn(jsonData);
-            when(mockValidator.isValid(any())).thenReturn(true);
+            when(mockDataSource.openStream())
+                    .thenReturn(new ByteArrayInputStream(jsonData.getBytes(StandardCharsets.UTF_8)));
+            when(mockValidator.validate(any())).thenReturn(ValidationResult.VALID);
             NewsApiResponse mockResponse = new NewsApiResponse();
             List<Article> mockArticles = List.of(new Article(
                     "Test Title",
@@ -242,7 +287,7 @@ class VisitorTests {
                     null
             ));
             setPrivateField(mockResponse, mockArticles);
-            when(mockMapper.readValue(anyString(), eq(NewsApiResponse.class)))
+            when(mockMapper.readValue(any(InputStream.class), eq(NewsApiResponse.class)))
                     .thenReturn(mockResponse);
             Parser parser = config.accept(visitor);
             List<Article> articles = parser.parse(mockDataSource);
@@ -275,7 +320,7 @@ class VisitorTests {
                 }
             };
 
-            when(mockDataSource.getData())
+            when(mockDataSource.openStream())
                     .thenThrow(new RuntimeException("Test error"));
             Parser parser = config.accept(visitor);
 